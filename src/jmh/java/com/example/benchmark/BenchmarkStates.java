@@ -0,0 +1,48 @@
+package com.example.benchmark;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+import com.example.util.FileHandler;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Shared fixtures for the benchmarks.
+ */
+final class BenchmarkStates {
+
+    private static final String[] SPECIES = {"Cat", "Bear", "Mole"};
+
+    private BenchmarkStates() {
+    }
+
+    /**
+     * Builds a game state resembling a save from a real session.
+     */
+    static GameState gameState(String name, int saveID) {
+        GameState state = new GameState();
+        state.setSavedAt(LocalDateTime.now());
+        Pet pet = new Pet(name, SPECIES[saveID % SPECIES.length], saveID);
+        pet.setScore(100 * saveID);
+        pet.addTimeSpent(3600);
+        pet.saveStartTime(LocalTime.of(8, 0));
+        pet.saveEndTime(LocalTime.of(20, 0));
+        state.setPet(pet);
+        return state;
+    }
+
+    /**
+     * Name of a benchmark slot, kept apart from the player's own {@code slotN} saves.
+     */
+    static String slotName(int index) {
+        return "bench_slot" + index;
+    }
+
+    static void deleteSlots(FileHandler fileHandler, int slotCount) throws IOException {
+        for (int i = 0; i < slotCount; i++) {
+            fileHandler.deleteSave(slotName(i));
+        }
+    }
+}
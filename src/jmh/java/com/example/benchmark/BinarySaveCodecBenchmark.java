@@ -0,0 +1,74 @@
+package com.example.benchmark;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+import com.example.util.BinarySaveCodec;
+import com.example.util.SerializationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding a typical save as JSON and in the {@link BinarySaveCodec} format.
+ * The encoded sizes are printed once per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinarySaveCodecBenchmark {
+
+    private GameState state;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws IOException {
+        state = new GameState();
+        state.setSavedAt(LocalDateTime.now());
+        Pet pet = new Pet("Biscuit", "Cat", 1);
+        pet.setScore(1234);
+        pet.addTimeSpent(3600);
+        pet.saveStartTime(LocalTime.of(8, 0));
+        pet.saveEndTime(LocalTime.of(20, 0));
+        state.setPet(pet);
+
+        json = SerializationContext.gameStateWriter().writeValueAsBytes(state);
+        binary = BinarySaveCodec.encode(state);
+        System.out.printf("%nSave size: JSON %d bytes, binary %d bytes%n", json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return SerializationContext.gameStateWriter().writeValueAsBytes(state);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() throws IOException {
+        return BinarySaveCodec.encode(state);
+    }
+
+    @Benchmark
+    public GameState decodeJson() throws IOException {
+        return SerializationContext.gameStateReader().readValue(json);
+    }
+
+    @Benchmark
+    public GameState decodeBinary() throws IOException {
+        return BinarySaveCodec.decode(binary);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.benchmark;
+
+import com.example.model.DecayKernel;
+import com.example.model.SimulationEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the bulk decay passes over a population of pets, scalar against vector {@link DecayKernel}:
+ * one stat column decayed and checked against its critical threshold, as in every tick of a household.
+ * The column is restored from a copy before each pass so every invocation decays living pets.
+ * The vector kernel is only built with {@code -P jmh,vector}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class DecayKernelBenchmark {
+
+    @Param({"1000", "100000"})
+    private int pets;
+
+    @Param({"SCALAR", "VECTOR"})
+    private String kernelType;
+
+    private DecayKernel kernel;
+    private byte[] initialValues;
+    private byte[] values;
+    private byte[] modifiers;
+    private byte[] species;
+    private byte[] flags;
+    private byte[] changed;
+
+    @Setup
+    public void setUp() {
+        kernel = kernelType.equals("VECTOR") ? DecayKernel.vector() : DecayKernel.scalar();
+        Random random = new Random(1);
+        initialValues = new byte[pets];
+        modifiers = new byte[pets];
+        species = new byte[pets];
+        flags = new byte[pets];
+        changed = new byte[pets];
+        for (int i = 0; i < pets; i++) {
+            initialValues[i] = (byte) (20 + random.nextInt(81));
+            modifiers[i] = (byte) random.nextInt(4);
+            species[i] = (byte) (random.nextInt(4) - 1);
+        }
+        values = initialValues.clone();
+    }
+
+    @Benchmark
+    public byte[] decayPass() {
+        System.arraycopy(initialValues, 0, values, 0, pets);
+        kernel.decay(values, modifiers, species, flags, changed, pets);
+        kernel.updateCriticalFlags(values, changed, flags, SimulationEngine.HUNGER, 20, pets);
+        return flags;
+    }
+}
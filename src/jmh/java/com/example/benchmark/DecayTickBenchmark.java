@@ -0,0 +1,82 @@
+package com.example.benchmark;
+
+import com.example.model.SimulationEngine;
+import com.example.model.VitalStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one stat decay tick: directly through the {@link VitalStats} property listeners,
+ * as one batched {@link VitalStats#update}, and through the {@link SimulationEngine}
+ * including the write-back the game scene does.
+ * Stats are reset whenever the pet would die, so every invocation does a full tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecayTickBenchmark {
+
+    private VitalStats stats;
+    private SimulationEngine engine;
+
+    @Setup
+    public void setUp() {
+        stats = new VitalStats();
+        engine = new SimulationEngine();
+        engine.setSpecies("Cat");
+    }
+
+    @Benchmark
+    public VitalStats vitalStatsTick() {
+        if (stats.getHealth() <= 5) {
+            stats.restoreAll();
+        }
+        stats.decreaseEnergy(1 + stats.getEnergyMod());
+        stats.decreaseHealth(1 + stats.getHealthMod());
+        stats.decreaseHunger(2 + stats.getHungerMod());
+        stats.decreaseHappiness(1 + stats.getHappinessMod());
+        return stats;
+    }
+
+    @Benchmark
+    public VitalStats vitalStatsBatchedTick() {
+        if (stats.getHealth() <= 5) {
+            stats.restoreAll();
+        }
+        int energyMod = stats.getEnergyMod();
+        int healthMod = stats.getHealthMod();
+        int hungerMod = stats.getHungerMod();
+        int happinessMod = stats.getHappinessMod();
+        stats.update(s -> {
+            s.decreaseEnergy(1 + energyMod);
+            s.decreaseHealth(1 + healthMod);
+            s.decreaseHunger(2 + hungerMod);
+            s.decreaseHappiness(1 + happinessMod);
+        });
+        return stats;
+    }
+
+    @Benchmark
+    public VitalStats simulationEngineTick() {
+        if (stats.getHealth() <= 5) {
+            stats.restoreAll();
+        }
+        engine.load(stats);
+        engine.tick(1);
+        engine.store(stats);
+        return stats;
+    }
+}
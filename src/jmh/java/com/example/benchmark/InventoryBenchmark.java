@@ -0,0 +1,50 @@
+package com.example.benchmark;
+
+import com.example.model.Inventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link Inventory} mutations performed when items are used and restocked.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark {
+
+    private Inventory inventory;
+
+    @Setup
+    public void setUp() {
+        inventory = new Inventory();
+    }
+
+    @Benchmark
+    public Inventory useAndRestockItem() {
+        inventory.decreaseItem1();
+        inventory.addItem1();
+        return inventory;
+    }
+
+    @Benchmark
+    public Inventory setAllItems() {
+        inventory.setItem1(50);
+        inventory.setItem2(40);
+        inventory.setItem3(30);
+        inventory.setItem4(20);
+        return inventory;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.benchmark;
+
+import com.example.model.GameState;
+import com.example.util.JsonSaveCodec;
+import com.example.util.SerializationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective databind writer and reader with the streaming {@link JsonSaveCodec}:
+ * encoding one save, and decoding every save as a full slot scan does. The saves are kept in memory
+ * so only the JSON work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSaveCodecBenchmark {
+
+    @Param({"10", "50"})
+    public int slotCount;
+
+    private GameState state;
+    private byte[][] saves;
+
+    @Setup
+    public void setUp() throws IOException {
+        state = BenchmarkStates.gameState("Biscuit", 1);
+        saves = new byte[slotCount][];
+        for (int i = 0; i < slotCount; i++) {
+            saves[i] = JsonSaveCodec.encode(BenchmarkStates.gameState("Pet" + i, i));
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeDatabind() throws IOException {
+        return SerializationContext.gameStateWriter().writeValueAsBytes(state);
+    }
+
+    @Benchmark
+    public byte[] encodeStreaming() throws IOException {
+        return JsonSaveCodec.encode(state);
+    }
+
+    @Benchmark
+    public void scanDatabind(Blackhole blackhole) throws IOException {
+        for (byte[] save : saves) {
+            GameState loaded = SerializationContext.gameStateReader().readValue(save);
+            blackhole.consume(loaded.getPet().getName());
+        }
+    }
+
+    @Benchmark
+    public void scanStreaming(Blackhole blackhole) throws IOException {
+        for (byte[] save : saves) {
+            blackhole.consume(JsonSaveCodec.decode(save).getPet().getName());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.benchmark;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+import com.example.util.FileHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link FileHandler#saveGame} and {@link FileHandler#loadGame} with a given number
+ * of other slots in the saves directory. Every save also rewrites the slot index, so its cost grows
+ * with the slot count. Benchmark slots are named {@code bench_slotN} and removed afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveLoadBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int slotCount;
+
+    @Param({"BINARY", "JSON"})
+    public FileHandler.SaveFormat format;
+
+    private FileHandler fileHandler;
+    private GameState state;
+
+    @Setup
+    public void setUp() throws IOException {
+        fileHandler = new FileHandler();
+        fileHandler.setSaveFormat(format);
+        state = BenchmarkStates.gameState("Biscuit", 0);
+        for (int i = 0; i < slotCount; i++) {
+            fileHandler.saveGame(BenchmarkStates.slotName(i), BenchmarkStates.gameState("Pet" + i, i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkStates.deleteSlots(fileHandler, slotCount);
+    }
+
+    @Benchmark
+    public GameState saveGame() throws IOException {
+        Pet pet = state.getPet();
+        pet.setScore(pet.getScore() + 1);
+        fileHandler.saveGame(BenchmarkStates.slotName(0), state);
+        return state;
+    }
+
+    @Benchmark
+    public GameState loadGame() throws IOException {
+        return fileHandler.loadGame(BenchmarkStates.slotName(0));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.benchmark;
+
+import com.example.model.GameState;
+import com.example.model.SlotSummary;
+import com.example.util.FileHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of listing the save slots when a menu opens: through the in-memory slot catalog, and by
+ * loading every save file as the menus did before the slot index existed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlotScanBenchmark {
+
+    @Param({"3", "10", "50"})
+    public int slotCount;
+
+    private FileHandler fileHandler;
+
+    @Setup
+    public void setUp() throws IOException {
+        fileHandler = new FileHandler();
+        for (int i = 0; i < slotCount; i++) {
+            fileHandler.saveGame(BenchmarkStates.slotName(i), BenchmarkStates.gameState("Pet" + i, i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkStates.deleteSlots(fileHandler, slotCount);
+    }
+
+    @Benchmark
+    public Map<String, SlotSummary> indexedScan() {
+        return fileHandler.getSlotIndex();
+    }
+
+    @Benchmark
+    public void fullScan(Blackhole blackhole) throws IOException {
+        File[] saveFiles = fileHandler.getSaveFiles();
+        for (File file : saveFiles) {
+            String saveName = file.getName().replace(".json", "");
+            if (saveName.equals("preferences")) {
+                continue;
+            }
+            GameState state = fileHandler.loadGame(saveName);
+            blackhole.consume(state.getPet() != null ? state.getPet().getName() : null);
+        }
+    }
+}
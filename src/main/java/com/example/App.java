@@ -1,92 +1,156 @@
 package com.example;
 
-import com.example.util.SoundPlayer;
+import com.example.controller.GameController;
+import com.example.controller.SceneController;
+import com.example.util.MusicPlayer;
+import com.example.util.SoundEffects;
+import com.example.util.SpriteCache;
+import com.example.util.StartupPipeline;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import com.example.util.FileHandler;
+import com.example.util.Log;
+import com.example.util.ActionJournal;
+import com.example.util.AutosaveService;
+import com.example.util.SaveService;
+import com.example.util.SerializationContext;
+import com.example.model.SlotSummary;
 import com.example.model.UserPreferences;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Main application class that initializes and launches the JavaFX application.
  */
 public class App extends Application {
 
-    private static SoundPlayer music;  // Background music player
-    private static SoundPlayer buttonSound;  // Button click sound player
+    private static final Log LOG = Log.getLog(App.class);
+
+    // Threads running the startup phases
+    private static final int STARTUP_THREADS = 3;
+
+    // Set by a startup thread once the music is playing; null until then
+    private static volatile MusicPlayer music;  // Background music player
+
+    // Guards the handoff of the volume between the settings screen and the startup thread opening the music
+    private static final Object VOLUME_LOCK = new Object();
+
+    // Volume chosen before the music player was opened, applied when it opens; null if none
+    private static Float requestedVolume;
 
     /**
      * Provides access to the global instance of the music sound player.
      *
-     * @return the global music sound player instance.
+     * @return the global music sound player instance, or {@code null} while startup is still opening it.
      */
-    public static SoundPlayer getSoundPlayer() {
+    public static MusicPlayer getSoundPlayer() {
         return music;
     }
 
     /**
-     * Provides access to the global instance of the button sound player.
+     * Sets the volume of the music and the sound effects.
+     * If startup has not opened the music player yet, the volume is kept and applied when it does,
+     * in place of the saved volume.
      *
-     * @return the global button sound player instance.
+     * @param volume The volume, from 0.0 to 1.0.
      */
-    public static SoundPlayer getButtonSound() {
-        return buttonSound;
+    public static void setVolume(float volume) {
+        SoundEffects.getInstance().setVolume(volume);
+        synchronized (VOLUME_LOCK) {
+            if (music != null) {
+                music.setVolume(volume);
+            } else {
+                requestedVolume = volume;
+            }
+        }
     }
 
     /**
-     * Initializes the sound system, loading preferences and configuring
-     * sound players for background music and button sounds.
+     * Creates the streaming background music player.
+     * Runs on a startup thread, so the JavaFX application thread never waits for the audio device.
+     *
+     * @return The music player.
      */
-    private void initializeSound() {
-        try {
-            // Load preferences
-            FileHandler fileHandler = new FileHandler();
-            UserPreferences prefs = fileHandler.loadPreferences();
-
-            // Initialize music sound player
-            music = new SoundPlayer();
-            music.setFile(0);
-
-            // Apply saved volume before playing
-            float savedVolume = (float) prefs.getVolume() / 100f;
-            music.setVolume(savedVolume);
-
-            // Play and loop background music
-            music.play();
-            music.loop();
+    private static MusicPlayer openMusic() {
+        return new MusicPlayer(App.class.getResource("/sounds/overture.wav"));
+    }
 
-            // Initialize button sound
-            buttonSound = new SoundPlayer();
-            buttonSound.setFile(1);  // Index 1 is water.wav
+    /**
+     * Decodes the sound effects and opens their output line. Runs on a startup thread.
+     *
+     * @return {@code null}.
+     * @throws IOException if an effect cannot be decoded.
+     */
+    private static Void loadSoundEffects() throws IOException {
+        SoundEffects.getInstance().load(SoundEffects.BUTTON, App.class.getResource("/sounds/water.wav"));
+        return null;
+    }
 
-        } catch (IOException e) {
-            // Handle case where preferences cannot be loaded
-            System.err.println("Failed to load preferences: " + e.getMessage());
-
-            // Initialize sound players with default settings
-            music = new SoundPlayer();
-            music.setFile(0);
-            music.setVolume(0.5f);  // Default 50% volume
-            music.play();
-            music.loop();
-
-            buttonSound = new SoundPlayer();
-            buttonSound.setFile(1);
+    /**
+     * Applies the saved volume to the music and the effects, unless one was set since startup began,
+     * starts the looping background music and publishes the music player.
+     *
+     * @param musicPlayer The opened music player.
+     * @param prefs       The saved preferences, or {@code null} if they could not be loaded.
+     */
+    private static void startMusic(MusicPlayer musicPlayer, UserPreferences prefs) {
+        // Apply saved volume before playing, default 50% volume
+        float savedVolume = prefs != null ? (float) prefs.getVolume() / 100f : 0.5f;
+        synchronized (VOLUME_LOCK) {
+            if (requestedVolume != null) {
+                musicPlayer.setVolume(requestedVolume);
+            } else {
+                SoundEffects.getInstance().setVolume(savedVolume);
+                musicPlayer.setVolume(savedVolume);
+            }
+
+            // Stream and loop background music
+            musicPlayer.loop();
+
+            music = musicPlayer;
         }
     }
 
     /**
      * The entry point for the JavaFX application.
-     * This method initializes the main menu scene and sets up the primary stage.
+     * Preferences, audio, the save slot index and the serializers are loaded concurrently on
+     * background threads while the main menu is built and shown; the timings of every phase,
+     * the first frame and the point where all phases are done are logged.
      *
      * @param stage the primary stage for this application.
      */
     @Override
     public void start(Stage stage) {
+        StartupPipeline startup = new StartupPipeline(STARTUP_THREADS);
+        FileHandler fileHandler = new FileHandler();
+
+        CompletableFuture<UserPreferences> preferences = startup.phase("preferences", fileHandler::loadPreferences);
+        CompletableFuture<MusicPlayer> musicPlayer = startup.phase("music", App::openMusic);
+        startup.phase("sound-effects", App::loadSoundEffects);
+        CompletableFuture<Map<String, SlotSummary>> slots = startup.phase("save-slots", fileHandler::getSlotIndex);
+        // Build the JSON serializers before the first save or load needs them
+        startup.phase("serialization", SerializationContext::warmUp);
+        // Load the classes behind the game screen before the first game is opened
+        startup.phase("game-classes", () -> Class.forName(GameController.class.getName()));
+
+        // Start the music as soon as it is decoded, with the saved volume if it could be read
+        musicPlayer.thenAcceptBoth(preferences.exceptionally(e -> null), App::startMusic)
+                .exceptionally(e -> {
+                    LOG.error("Failed to start music", e);
+                    return null;
+                });
+        // Decode the sprites of the saved pets while the player is still in the menus
+        slots.thenAccept(index -> index.values().stream()
+                .map(SlotSummary::getSpecies)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(SpriteCache.getInstance()::preload));
+
         try {
             // Load the main menu FXML file
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/main_menu.fxml"));
@@ -94,25 +158,45 @@ public class App extends Application {
             // Create the main scene with initial dimensions
             Scene scene = new Scene(loader.load(), 1600, 900);
 
-            // Load and apply the CSS stylesheet for menu styling
-            scene.getStylesheets().add(
-                    Objects.requireNonNull(
-                            getClass().getResource("/styles/menu.css")
-                    ).toExternalForm()
-            );
+            // Apply the stylesheets every scene uses, so later scene switches keep them as they are
+            scene.getStylesheets().setAll(SceneController.getInstance().getStylesheets());
+
+            // Record the first frame once the scene has been laid out for the first pulse
+            scene.addPostLayoutPulseListener(new Runnable() {
+                @Override
+                public void run() {
+                    startup.mark("first-frame");
+                    scene.removePostLayoutPulseListener(this);
+                }
+            });
 
             // Configure the primary stage/window
             stage.setTitle("PET HAVEN");  // Set window title
             stage.setScene(scene);          // Set the main scene
             stage.show();                   // Display the window
 
-            initializeSound();
+            startup.mark("stage-shown");
+            SceneController.getInstance().prewarm("settings.fxml");
 
         } catch (IOException e) {
             // Handle errors during startup
-            e.printStackTrace();
+            LOG.error("Failed to start the application: " + e.getMessage(), e);
             // TODO: Add proper error handling/user notification
         }
+        startup.finish();
+    }
+
+    /**
+     * Called when the application exits.
+     * Autosaves the game being played, then waits for saves and journal records still queued
+     * so no progress is lost on close.
+     */
+    @Override
+    public void stop() {
+        AutosaveService.getInstance().stop();
+        SaveService.getInstance().flush(5000);
+        ActionJournal.getInstance().flush(5000);
+        Log.flush();
     }
 
     /**
@@ -126,15 +210,10 @@ public class App extends Application {
 
     /**
      * Plays the button click sound.
-     * This method resets the button sound to the beginning and plays it at the current music volume.
+     * Only queues the effect for the sound effect thread, so overlapping presses mix instead of
+     * cutting each other off and the caller never waits on the audio device.
      */
     public static void PlayButtonSound() {
-        buttonSound.flush();
-        buttonSound.setZeroPosition();
-
-        // Get the current volume from the music player and apply it to button sound
-        float currentVolume = music.getVolume();
-        buttonSound.setVolume(currentVolume);
-        buttonSound.play();
+        SoundEffects.getInstance().play(SoundEffects.BUTTON);
     }
 }
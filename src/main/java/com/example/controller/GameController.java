@@ -3,9 +3,16 @@ package com.example.controller;
 import com.example.App;
 import com.example.components.CustomButton;
 import com.example.model.GameState;
+import com.example.model.Household;
 import com.example.model.Pet;
+import com.example.model.SimulationEngine;
 import com.example.model.VitalStats;
-import com.example.util.FileHandler;
+import com.example.util.ActionJournal;
+import com.example.util.AutosaveService;
+import com.example.util.GameClock;
+import com.example.util.Log;
+import com.example.util.SaveService;
+import com.example.util.SpriteCache;
 import com.example.components.StatBar;
 import javafx.animation.RotateTransition;
 import javafx.application.Platform;
@@ -16,14 +23,10 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
-import javafx.animation.Timeline;
-import javafx.animation.KeyFrame;
 import javafx.scene.layout.StackPane;
 import javafx.scene.transform.Rotate;
 import javafx.util.Duration;
-import javafx.scene.image.Image;
 
-import java.io.IOException;
 import java.time.LocalTime;
 import java.util.Random;
 import com.example.model.ScoreKeeper;
@@ -36,7 +39,14 @@ import static com.example.App.PlayButtonSound;
  * to other scenes within the application.
  */
 public class GameController {
-    private Timeline imageFlipTimeline;
+    private static final Log LOG = Log.getLog(GameController.class);
+
+
+    // Central clock driving every periodic subsystem of the game scene
+    private final GameClock clock = GameClock.getInstance();
+    // Decoded pet sprites shared across game scenes
+    private final SpriteCache sprites = SpriteCache.getInstance();
+    private GameClock.Registration imageFlip;
 
     /**
      * Label to display the playtime of the current game session.
@@ -65,10 +75,11 @@ public class GameController {
     StatBar happinessBar;
     @FXML
     private ImageView moleSprite;
-    private Timeline timeTracker; // Timeline to track playtime and active timeframe
-
-    private Timeline animation;
-    private Timeline statsDecayTimeline;
+    private GameClock.Registration timeTracker; // Tracks playtime
+    private GameClock.Registration activeTimeTracker; // Checks the allowed active timeframe
+    private GameClock.Registration statsDecay;
+    private GameClock.Registration scoreTicker;
+    private GameClock.Registration sleepTicker;
     private Random random = new Random();
     @FXML
     private Button feedButton, playButton, giftButton, exerciseButton, vetButton, inventoryButton;
@@ -90,7 +101,7 @@ public class GameController {
      * Initializes the controller when the game scene is created.
      */
     public GameController() {
-        System.out.println("GameController initialized");
+        LOG.debug(() -> "GameController initialized");
 
     }
 
@@ -106,6 +117,8 @@ public class GameController {
         GameState gameState = GameState.getCurrentState();
         Pet pet = gameState.getPet(); // Retrieve the Pet object
         String species = pet.getSpecies();
+        // Drop subsystems left behind by a previous game scene
+        clock.reset();
         if (pet != null) {
             VitalStats stats = pet.getStats();
             startActiveTimeTracker(pet); // Start the active time tracker
@@ -118,25 +131,25 @@ public class GameController {
             happinessBar.progressProperty().bind(Bindings.divide(stats.happinessProperty(), 100.0));
 
 
-            System.out.println("Loaded Pet: " + pet.getName() + ", Type: " + pet.getSpecies());
+            LOG.debug(() -> "Loaded Pet: " + pet.getName() + ", Type: " + pet.getSpecies());
             // Update UI or initialize game logic with the Pet's data
             //setupPetData(pet);
         } else {
-            System.out.println("No pet found. Please create or load a save.");
+            LOG.debug(() -> "No pet found. Please create or load a save.");
         }
         try {
 
-            // Load image from resourcesSS
-            Image petImage = new Image(getClass().getResourceAsStream("/images/" + species.toLowerCase() + ".png"));
-            if (petImage.isError()) {
-                System.err.println("Error loading mole image: " + petImage.getException());
+            // Show the default sprite, then decode the state sprites in the background
+            SpriteCache.Sprite petSprite = sprites.get(species, null);
+            sprites.preload(species);
+            if (petSprite == null) {
+                LOG.warn("Error loading mole image for " + species);
             } else {
-                moleSprite.setImage(petImage);
+                petSprite.applyTo(moleSprite);
             }
 
         } catch (Exception e) {
-            System.err.println("Error in initialize: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error in initialize: " + e.getMessage(), e);
         }
 
         // Initialize hotkeys
@@ -152,16 +165,21 @@ public class GameController {
 
         // Start the scorekeeper
         scoreKeeper.start();
+        // Keep the pet's score current, so journal records and autosaves see it
+        scoreTicker = clock.register("score", 1, false, () -> {
+            scoreKeeper.tick();
+            pet.setScore(scoreKeeper.getScore());
+        });
         // Start tracking playtime
         startTimeTracker();
+        AutosaveService.getInstance().start("slot" + pet.getSaveID(), gameState);
+        clock.start();
     }
     /**
      * Starts the image flipping animation. The image flips around every 15 seconds.
      */
     private void startImageFlip() {
-        imageFlipTimeline = new Timeline(new KeyFrame(Duration.seconds(15), event -> flipImage()));
-        imageFlipTimeline.setCycleCount(Timeline.INDEFINITE); // Repeat indefinitely
-        imageFlipTimeline.play();
+        imageFlip = clock.register("image-flip", 15, true, this::flipImage);
     }
 
     /**
@@ -180,32 +198,32 @@ public class GameController {
      * Stops the image flipping animation.
      */
     private void stopImageFlip() {
-        if (imageFlipTimeline != null) {
-            imageFlipTimeline.stop();
+        if (imageFlip != null) {
+            imageFlip.cancel();
         }
     }
     public void restartTimeTracker() {
-        System.out.println("Restarting time tracker.");
+        LOG.debug(() -> "Restarting time tracker.");
         stopTimeTracker(); // Ensure the old tracker is stopped
         startTimeTracker(); // Start a new tracker
     }
 
     /**
-     * Starts the timeline to track the playtime of the game session.
+     * Registers the playtime tracker of the game session on the game clock.
      * Updates the playtime label and handles logic for time spent and time limits.
      * If the time limit is reached, the game is saved and the user is sent back to the main menu.
      */
     void startTimeTracker() {
-        System.out.println("startTimeTracker called.");
+        LOG.debug(() -> "startTimeTracker called.");
 
         // Stop and nullify any existing time tracker
         if (timeTracker != null) {
-            System.out.println("Stopping existing timeTracker.");
+            LOG.debug(() -> "Stopping existing timeTracker.");
             stopTimeTracker();
         }
 
         // Initialize a new time tracker
-        timeTracker = new Timeline(new KeyFrame(Duration.seconds(1), event -> {
+        timeTracker = clock.register("play-time", 1, false, () -> {
             GameState gameState = GameState.getCurrentState();
             Pet pet = gameState.getPet();
 
@@ -219,16 +237,12 @@ public class GameController {
                     playTimeLabel.setText("Play Time: " + formatPlayTime(sessionPlaytime));
                 });
 
-                // Print seconds elapsed in the terminal
-                System.out.println("Seconds elapsed: " + sessionPlaytime);
+                LOG.trace(() -> "Seconds elapsed: " + sessionPlaytime);
             } else {
-                System.out.println("No pet found for time tracking.");
+                LOG.warn("No pet found for time tracking.");
             }
-        }));
-
-        timeTracker.setCycleCount(Timeline.INDEFINITE);
-        timeTracker.play();
-        System.out.println("Time tracker started.");
+        });
+        LOG.debug(() -> "Time tracker started.");
     }
 
 
@@ -246,74 +260,60 @@ public class GameController {
         return String.format("%02d:%02d:%02d", hours, minutes, secs);
     }
     /**
-     * Starts the timeline for the constant decay of stats.
+     * Registers the constant decay of stats on the game clock.
+     * Each tick advances every pet of the {@link Household} by one second and only
+     * reflects the resulting critical states of the pet on screen in the UI.
+     * Decay is not journaled: the {@link AutosaveService} snapshots bound what a crash loses.
      */
     private void startStatsDecay() {
-        statsDecayTimeline = new Timeline(new KeyFrame(Duration.seconds(1), event -> {
-            GameState gameState = GameState.getCurrentState();
-            Pet pet = gameState.getPet();
-
-            if (pet != null) {
-                VitalStats stats = pet.getStats();
-                Platform.runLater(() -> {
-                    // Initialize species-specific modifiers
-                    int speciesHungerMod = 0;
-                    int speciesHappinessMod = 0;
-                    int speciesEnergyMod = 0;
-                    int speciesHealthMod = 0;
-
-                    // Apply species-specific modifiers based on pet type
-                    switch (pet.getSpecies()) {
-                        case "cat":
-                            speciesHungerMod = 1;
-                            speciesHappinessMod = 0;
-                            speciesEnergyMod = -1;
-                            speciesHealthMod = 0;
-                            break;
-                        case "Bear":
-                            speciesHungerMod = 2;
-                            speciesHappinessMod = 2;
-                            speciesEnergyMod = 2;
-                            speciesHealthMod = -1;
-                            break;
-                        case "mole":
-                            // Default values (all 0)
-                            break;
-                    }
+        stopStatsDecay();
+        statsDecay = clock.register("stats-decay", 1, false, () -> {
+            Household household = GameState.getCurrentState().getHousehold();
+            household.tick();
+            if (household.getActiveIndex() >= 0) {
+                renderSimulationState(household, household.getActiveIndex());
+            }
+        });
+    }
 
-                    // Decay each stat by 1 (plus any modifiers)
-                    stats.decreaseEnergy(1 + speciesEnergyMod + pet.getStats().getEnergyMod());
-                    stats.decreaseHealth(1 + speciesHealthMod + pet.getStats().getHealthMod());
-                    stats.decreaseHunger(1 + speciesHungerMod + pet.getStats().getHungerMod());
-                    stats.decreaseHappiness(1 + speciesHappinessMod + pet.getStats().getHappinessMod());
+    /**
+     * Appends the current state of the pet on screen to the journal of its slot,
+     * so the action survives a crash before the next save.
+     */
+    private void journal(ActionJournal.Action action) {
+        Pet pet = GameState.getCurrentState().getPet();
+        if (pet == null) {
+            return;
+        }
+        ActionJournal.getInstance().append("slot" + pet.getSaveID(), action, pet);
+    }
 
-                    // Check critical states
-                    int[] petState = stats.getState();
-                    if (petState[3] == 1) {
-                        handleCriticalState(3);
-                    } else {
-                        for (int i = 0; i < petState.length-1; i++) {
-                            if (petState[i] == 1) {
-                                handleCriticalState(i);
-                            } else {
-                                maintainState(i);
-                            }
-                        }
-                    }
-                });
+    /**
+     * Updates the sprite and buttons to match the critical states of the pet on screen after the last tick.
+     */
+    private void renderSimulationState(Household household, int active) {
+        if (household.isGameOver(active)) {
+            handleGameOver();
+            return;
+        }
+        if (household.isCritical(active, SimulationEngine.HEALTH)) {
+            return;
+        }
+        for (int i = SimulationEngine.HUNGER; i < SimulationEngine.HEALTH; i++) {
+            if (household.isCritical(active, i)) {
+                handleCriticalState(i);
+            } else {
+                maintainState(i);
             }
-        }));
-
-        statsDecayTimeline.setCycleCount(Timeline.INDEFINITE);
-        statsDecayTimeline.play();
+        }
     }
 
     /**
-     * Stops the timeline for stats decay.
+     * Stops the stats decay.
      */
     private void stopStatsDecay() {
-        if (statsDecayTimeline != null) {
-            statsDecayTimeline.stop();
+        if (statsDecay != null) {
+            statsDecay.cancel();
         }
     }
     /**
@@ -321,11 +321,11 @@ public class GameController {
      */
     private void stopTimeTracker() {
         if (timeTracker != null) {
-            timeTracker.stop();
+            timeTracker.cancel();
             timeTracker = null;
-            System.out.println("Time tracker stopped.");
+            LOG.debug(() -> "Time tracker stopped.");
         } else {
-            System.out.println("stopTimeTracker called, but timeTracker was already null.");
+            LOG.debug(() -> "stopTimeTracker called, but timeTracker was already null.");
         }
     }
 
@@ -349,14 +349,11 @@ public class GameController {
         stopTimeTracker();
         pet.setCurrentPlayTime(0);
 
-        if (animation != null) {
-            animation.stop();
-        }
         if (scoreKeeper != null) {
             scoreKeeper.stop();
         }
 
-        System.out.println("Game paused. Returning to main menu.");
+        LOG.debug(() -> "Game paused. Returning to main menu.");
     }
 
     // Helper method to disable background interactions
@@ -413,20 +410,25 @@ public class GameController {
         if (pet != null) {
             if (pet.getDefaultItem12()==1) {
                 VitalStats stats = pet.getStats();
-                stats.increaseHunger(20); // Increase hunger by 20
-                stats.increaseHappiness(10); // Increase happiness by 10
+                stats.update(s -> {
+                    s.increaseHunger(20); // Increase hunger by 20
+                    s.increaseHappiness(10); // Increase happiness by 10
+                });
                 pet.getInventory().decreaseItem1();
-                System.out.println(pet.getName() + " has been fed Item 1! Hunger and happiness increased.");
+                LOG.debug(() -> pet.getName() + " has been fed Item 1! Hunger and happiness increased.");
             }
             if (pet.getDefaultItem12()==2) {
                 VitalStats stats = pet.getStats();
-                stats.increaseHunger(30); // Increase hunger by 30
-                stats.increaseHappiness(5); // Increase happiness by 5
+                stats.update(s -> {
+                    s.increaseHunger(30); // Increase hunger by 30
+                    s.increaseHappiness(5); // Increase happiness by 5
+                });
                 pet.getInventory().decreaseItem2();
-                System.out.println(pet.getName() + " has been fed Item 2! Hunger and happiness increased.");
+                LOG.debug(() -> pet.getName() + " has been fed Item 2! Hunger and happiness increased.");
             }
+            journal(ActionJournal.Action.FEED);
         } else {
-            System.out.println("No pet to feed!");
+            LOG.debug(() -> "No pet to feed!");
         }
 
     }
@@ -445,12 +447,15 @@ public class GameController {
 
         if (pet != null) {
             VitalStats stats = pet.getStats();
-            stats.decreaseEnergy(15); // Decrease energy by 15
-            stats.increaseHappiness(20); // Increase happiness by 20
-            stats.decreaseHunger(10); // Decrease hunger by 10
-            System.out.println(pet.getName() + " is playing! Energy and hunger decreased, happiness increased.");
+            stats.update(s -> {
+                s.decreaseEnergy(15); // Decrease energy by 15
+                s.increaseHappiness(20); // Increase happiness by 20
+                s.decreaseHunger(10); // Decrease hunger by 10
+            });
+            LOG.debug(() -> pet.getName() + " is playing! Energy and hunger decreased, happiness increased.");
+            journal(ActionJournal.Action.PLAY);
         } else {
-            System.out.println("No pet to play with!");
+            LOG.debug(() -> "No pet to play with!");
         }
     }
 
@@ -469,19 +474,24 @@ public class GameController {
 
         if (pet.getDefaultItem34()==3) {
             VitalStats stats = pet.getStats();
-            stats.increaseEnergy(20); // Increase Energy by 20
-            stats.increaseHappiness(10); // Increase happiness by 10
-            stats.decreaseHealth(40);
+            stats.update(s -> {
+                s.increaseEnergy(20); // Increase Energy by 20
+                s.increaseHappiness(10); // Increase happiness by 10
+                s.decreaseHealth(40);
+            });
             pet.getInventory().decreaseItem3();
-            System.out.println(pet.getName() + " has been fed Item 3! Hunger and happiness increased.");
+            LOG.debug(() -> pet.getName() + " has been fed Item 3! Hunger and happiness increased.");
         }
         if (pet.getDefaultItem34()==4) {
             VitalStats stats = pet.getStats();
-            stats.increaseEnergy(60); // Increase hunger by 60
-            stats.increaseHealth(15); // Increase happiness by 15
+            stats.update(s -> {
+                s.increaseEnergy(60); // Increase hunger by 60
+                s.increaseHealth(15); // Increase happiness by 15
+            });
             pet.getInventory().decreaseItem4();
-            System.out.println(pet.getName() + " has been fed Item 4! Hunger and happiness increased.");
+            LOG.debug(() -> pet.getName() + " has been fed Item 4! Hunger and happiness increased.");
         }
+        journal(ActionJournal.Action.GIFT);
     }
 
     /**
@@ -495,13 +505,16 @@ public class GameController {
 
         if (pet != null) {
             VitalStats stats = pet.getStats();
-            stats.decreaseHunger(20); // Decrease hunger
-            stats.decreaseHappiness(5); // Decrease happiness slightly
-            stats.increaseEnergy(10); // Increase energy
-            System.out.println(pet.getName() + " has exercised! Energy increased, hunger decreased.");
+            stats.update(s -> {
+                s.decreaseHunger(20); // Decrease hunger
+                s.decreaseHappiness(5); // Decrease happiness slightly
+                s.increaseEnergy(10); // Increase energy
+            });
+            LOG.debug(() -> pet.getName() + " has exercised! Energy increased, hunger decreased.");
+            journal(ActionJournal.Action.EXERCISE);
 
         } else {
-            System.out.println("No pet to exercise!");
+            LOG.debug(() -> "No pet to exercise!");
         }
     }
 
@@ -519,12 +532,15 @@ public class GameController {
 
         if (pet != null) {
             VitalStats stats = pet.getStats();
-            stats.increaseHealth(50); // Increase health
-            stats.increaseEnergy(30); // Increase energy
-            stats.decreaseHappiness(10); // Decrease happiness
-            System.out.println(pet.getName() + " went to the vet! Health and hygiene increased, but happiness decreased.");
+            stats.update(s -> {
+                s.increaseHealth(50); // Increase health
+                s.increaseEnergy(30); // Increase energy
+                s.decreaseHappiness(10); // Decrease happiness
+            });
+            LOG.debug(() -> pet.getName() + " went to the vet! Health and hygiene increased, but happiness decreased.");
+            journal(ActionJournal.Action.VET);
         } else {
-            System.out.println("No pet to take to the vet!");
+            LOG.debug(() -> "No pet to take to the vet!");
         }
     }
 
@@ -536,17 +552,15 @@ public class GameController {
         PlayButtonSound();
         stopStatsDecay();
         stopTimeTracker(); // Stop tracking playtime
-        if (animation != null) {
-            animation.stop();
-        }
+        clock.reset();
         // Save the current score to the Pet instance
         GameState gameState = GameState.getCurrentState();
         Pet pet = gameState.getPet();
         if (pet != null) {
             pet.setScore(scoreKeeper.getScore()); // Save the score
             pet.addTimeSpent(pet.getCurrentPlayTime() / 1000); // Save the playtime in seconds
-            System.out.println("Paused and Saved Score: " + pet.getScore());
-            System.out.println("Paused and Saved Time: " + pet.getCurrentPlayTime() / 1000 + " seconds");
+            LOG.debug(() -> "Paused and Saved Score: " + pet.getScore());
+            LOG.debug(() -> "Paused and Saved Time: " + pet.getCurrentPlayTime() / 1000 + " seconds");
         }
         SceneController.getInstance().switchToInventory();
     }
@@ -560,21 +574,24 @@ public class GameController {
         GameState gameState = GameState.getCurrentState();
         Pet pet = gameState.getPet();
         pet.setScore(scoreKeeper.getScore());
-        try {
-            FileHandler fileHandler = new FileHandler();
-            fileHandler.saveGame("slot" + pet.getSaveID(), gameState); // Save with a filename
-            System.out.println("Game saved successfully!");
-        } catch (IOException e) {
-            System.err.println("Failed to save game: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // Written on the save thread; the state is snapshotted before this returns
+        SaveService.getInstance().save("slot" + pet.getSaveID(), gameState)
+                .whenComplete((ignored, error) -> {
+                    if (error == null) {
+                        LOG.info("Game saved successfully!");
+                    } else {
+                        LOG.error("Failed to save game: " + error.getMessage(), error);
+                    }
+                });
+        AutosaveService.getInstance().markSaved();
     }
 
 
 
     /**
-     * Handles critical state logic for a specific stat index.
-     * Updates modifiers and displays warnings based on the pet's current stat state.
+     * Handles critical state feedback for a specific stat index.
+     * Updates the pet sprite and the available actions; the matching modifiers
+     * are applied by the {@link SimulationEngine}.
      *
      * @param index The index of the stat to handle (0 = Hunger, 1 = Happiness, 2 = Energy, 3 = Health).
      */
@@ -583,101 +600,57 @@ public class GameController {
         Pet pet = gameState.getPet();
 
         if (pet == null) {
-            System.err.println("No pet found in handleCriticalState.");
+            LOG.warn("No pet found in handleCriticalState.");
             return;
         }
 
         VitalStats stats = pet.getStats();
 
-        if (index == 3) { // Health is critically low
-            if (stats.getHealth() <= 0) {
-                handleGameOver();
-                return;
-            }
-            // When health is critical, it affects energy and happiness
-            stats.setEnergyMod(2);     // Tired more quickly when unhealthy
-            stats.setHappinessMod(1);   // Slightly unhappy when sick
-        } else {
-            switch (index) {
-                case 0: // Hunger critical
-                    System.out.println("Hunger is critically low!");
-                    stats.setHealthMod(1);     // Being hungry affects health
-                    stats.setEnergyMod(1);     // Being hungry makes you tired
-                    stats.setHappinessMod(1);  // Being hungry makes you unhappy
-                    setPetStateImage("hungry");
-                    break;
-
-                case 1: // Happiness critical
-                    System.out.println("Happiness is critically low!");
-                    stats.setHealthMod(1);     // Being unhappy affects health
-                    stats.setEnergyMod(1);     // Being unhappy makes you tired
-                    setPetStateImage("angry");
-                    Platform.runLater(() -> {
-                        exerciseButton.setDisable(true);
-                        vetButton.setDisable(true);
-                    });
-                    break;
-
-                case 2: // Energy critical
-                    System.out.println("Energy is critically low!");
-                    stats.setHealthMod(1);      // Being exhausted affects health
-                    stats.setHungerMod(1);      // Being tired makes you hungry
-                    stats.setHappinessMod(1);   // Being tired makes you unhappy
-                    stats.setEnergyMod(-7);
-                    setPetStateImage("sleepy");
-
-                    // Disable all buttons except for the sleep action
-                    disableAllButtons();
-
-
-                    // Prevent exiting critical state until energy is restored to 100
-                    if (stats.getEnergy() < 100) {
-
-                        System.out.println("Pet remains in critical state until energy is restored to 100.");
-                    } else {
-                        System.out.println("Energy restored. Exiting critical state.");
-                        maintainState(2); // Restore normal state
-                    }
-                    break;
-            }
+        switch (index) {
+            case 0: // Hunger critical
+                LOG.trace(() -> "Hunger is critically low!");
+                setPetStateImage("hungry");
+                break;
+
+            case 1: // Happiness critical
+                LOG.trace(() -> "Happiness is critically low!");
+                setPetStateImage("angry");
+                exerciseButton.setDisable(true);
+                vetButton.setDisable(true);
+                break;
+
+            case 2: // Energy critical
+                LOG.trace(() -> "Energy is critically low!");
+                setPetStateImage("sleepy");
+
+                // Disable all buttons except for the sleep action
+                disableAllButtons();
+
+                // Prevent exiting critical state until energy is restored to 100
+                if (stats.getEnergy() < 100) {
+                    LOG.trace(() -> "Pet remains in critical state until energy is restored to 100.");
+                } else {
+                    LOG.trace(() -> "Energy restored. Exiting critical state.");
+                    maintainState(2); // Restore normal state
+                }
+                break;
+
+            case 3: // Health critical
+                if (stats.getHealth() <= 0) {
+                    handleGameOver();
+                }
+                break;
         }
     }
 
     /**
-     * Restores a stat's normal state, resetting modifiers and enabling interactions.
+     * Restores the interactions for a stat that is back in its normal state.
      *
      * @param index The index of the stat to maintain (0 = Hunger, 1 = Happiness, 2 = Energy, 3 = Health).
      */
     private void maintainState(int index) {
-        GameState gameState = GameState.getCurrentState();
-        Pet pet = gameState.getPet();
-        if (pet == null) return;
-        
-        VitalStats stats = pet.getStats();
-        switch (index) {
-            case 0: // Hunger normal
-                stats.setHealthMod(0);
-                stats.setEnergyMod(0);
-                stats.setHappinessMod(0);
-                break;
-                
-            case 1: // Happiness normal
-                stats.setHealthMod(0);
-                stats.setEnergyMod(0);
-                enableAllButtons();
-                break;
-                
-            case 2: // Energy normal
-                stats.setHealthMod(0);
-                stats.setHungerMod(0);
-                stats.setHappinessMod(0);
-                enableAllButtons();
-                break;
-                
-            case 3: // Health normal
-                stats.setEnergyMod(0);
-                stats.setHappinessMod(0);
-                break;
+        if (index == 1 || index == 2) {
+            enableAllButtons();
         }
     }
 
@@ -709,7 +682,7 @@ public class GameController {
      * Handles the game over state, stopping the game and displaying the game over message.
      */
     void handleGameOver() {
-        System.out.println("Health has reached 0. Game over.");
+        LOG.info("Health has reached 0. Game over.");
         stopStatsDecay();
         disableAllButtons();
         setPetStateImage("dead");
@@ -769,7 +742,7 @@ public class GameController {
                         togglePlayPause();
                         break;
                     default:
-                        System.out.println("Unhandled key: " + event.getCode());
+                        LOG.debug(() -> "Unhandled key: " + event.getCode());
                 }
             }
         });
@@ -784,11 +757,10 @@ public class GameController {
         String species = pet.getSpecies();
 
         if (pet == null) {
-            System.err.println("No pet found in setPetImage.");
+            LOG.warn("No pet found in setPetImage.");
         }
         else {
-            Image petImage = new Image(getClass().getResourceAsStream("/images/" + species.toLowerCase() + ".png"));
-            moleSprite.setImage(petImage);
+            showSprite(sprites.get(species, null));
         }
     }
 
@@ -803,15 +775,23 @@ public class GameController {
         String species = pet.getSpecies();
 
         if (pet == null) {
-            System.err.println("No pet found in setPetImage.");
-        }
-        else if ((pet != null && petState == null) || (pet != null && (petState.toLowerCase().equals("happy") || petState.toLowerCase().equals("normal")))) {
-            Image petImage = new Image(getClass().getResourceAsStream("/images/" + species.toLowerCase() + ".png"));
-            moleSprite.setImage(petImage);
+            LOG.warn("No pet found in setPetImage.");
         }
         else {
-            Image petImage = new Image(getClass().getResourceAsStream("/images/" + species.toLowerCase() + "_" + petState.toLowerCase() + ".png"));
-            moleSprite.setImage(petImage);
+            // Cached sprites make this a viewport move within the species atlas;
+            // "happy", "normal" and null map to the default sprite
+            showSprite(sprites.get(species, petState));
+        }
+    }
+
+    /**
+     * Shows a sprite unless it is missing.
+     *
+     * @param petSprite The sprite to show.
+     */
+    private void showSprite(SpriteCache.Sprite petSprite) {
+        if (petSprite != null) {
+            petSprite.applyTo(moleSprite);
         }
     }
 
@@ -823,13 +803,8 @@ public class GameController {
         isPaused = !isPaused;
 
         if (isPaused) {
-            // pause all timelines
-            if (statsDecayTimeline != null) {
-                statsDecayTimeline.pause();
-            }
-            if (timeTracker != null) {
-                timeTracker.pause();
-            }
+            // pause the decay, playtime and score subsystems
+            clock.pause();
             if (scoreKeeper != null) {
                 scoreKeeper.stop();
             }
@@ -844,13 +819,8 @@ public class GameController {
             inventoryButton.setDisable(true);
 
         } else {
-            // resume all timelines
-            if (statsDecayTimeline != null) {
-                statsDecayTimeline.play();
-            }
-            if (timeTracker != null) {
-                timeTracker.play();
-            }
+            // resume the paused subsystems
+            clock.resume();
             if (scoreKeeper != null) {
                 scoreKeeper.start();
             }
@@ -892,12 +862,11 @@ public class GameController {
             pet.setCurrentPlayTime(0);
         }
         
-        if (animation != null) {
-            animation.stop();
-        }
         if (scoreKeeper != null) {
             scoreKeeper.stop();
         }
+        clock.reset();
+        AutosaveService.getInstance().stop();
         
         SceneController.getInstance().switchToMainMenu();
     }
@@ -918,30 +887,33 @@ public class GameController {
             disableAllButtons();
             sleepButton.setDisable(false);
 
-            // Restore energy incrementally
-            Timeline sleepTimeline = new Timeline(new KeyFrame(Duration.seconds(1), event -> {
+            // Restore energy incrementally, once per game clock tick
+            if (sleepTicker != null) {
+                sleepTicker.cancel();
+            }
+            sleepTicker = clock.register("sleep", 1, true, () -> {
                 if (stats.getEnergy() < 100) {
                     stats.increaseEnergy(10); // Increment energy by 10 every second
-                    System.out.println(pet.getName() + " is sleeping. Energy increased, hunger decreased.");
+                    LOG.trace(() -> pet.getName() + " is sleeping. Energy increased, hunger decreased.");
                 } else {
-                    System.out.println("Energy fully restored. Exiting sleep.");
+                    LOG.trace(() -> "Energy fully restored. Exiting sleep.");
 
-                    // Stop the sleep timeline
-                    ((Timeline) event.getSource()).stop();
+                    // Stop sleeping
+                    sleepTicker.cancel();
 
                     // Restore normal state for energy
+                    stats.setHealthMod(0);
+                    stats.setHungerMod(0);
+                    stats.setHappinessMod(0);
                     maintainState(2);
 
                     // Re-enable all buttons
                     enableAllButtons();
+                    journal(ActionJournal.Action.SLEEP);
                 }
-            }));
-
-            // Set the timeline to run indefinitely until energy reaches 100
-            sleepTimeline.setCycleCount(Timeline.INDEFINITE);
-            sleepTimeline.play();
+            });
         } else {
-            System.out.println("No pet available to sleep!");
+            LOG.debug(() -> "No pet available to sleep!");
         }
     }
     /**
@@ -949,21 +921,18 @@ public class GameController {
      * If not, pauses the game or exits to the main menu.
      */
     private void startActiveTimeTracker(Pet pet) {
-        timeTracker = new Timeline(new KeyFrame(Duration.seconds(1), event -> {
+        activeTimeTracker = clock.register("active-time", 1, true, () -> {
             LocalTime currentTime = LocalTime.now();
             LocalTime startTime = pet.getStartTime();
             LocalTime endTime = pet.getEndTime();
 
             if (startTime != null && endTime != null) {
                 if (!isWithinTimeframe(currentTime, startTime, endTime)) {
-                    System.out.println("Current time " + currentTime + " is outside the allowed timeframe.");
+                    LOG.trace(() -> "Current time " + currentTime + " is outside the allowed timeframe.");
                     handleOutsideActiveTime();
                 }
             }
-        }));
-
-        timeTracker.setCycleCount(Timeline.INDEFINITE);
-        timeTracker.play();
+        });
     }
 
     /**
@@ -1008,8 +977,8 @@ public class GameController {
      * Stops the active time tracker.
      */
     private void stopActiveTimeTracker() {
-        if (timeTracker != null) {
-            timeTracker.stop();
+        if (activeTimeTracker != null) {
+            activeTimeTracker.cancel();
         }
     }
 }
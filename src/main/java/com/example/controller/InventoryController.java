@@ -2,6 +2,8 @@ package com.example.controller;
 
 import com.example.model.GameState;
 import com.example.model.Pet;
+import com.example.util.ActionJournal;
+import com.example.util.Log;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -14,8 +16,11 @@ import static com.example.App.PlayButtonSound;
  * Controller class for managing the inventory screen.
  * Handles displaying item quantities, points, and selected items,
  * as well as purchasing items and setting default items.
+ * The screen is cached by {@link SceneController} and refreshed from the game state each time it is shown.
  */
-public class InventoryController {
+public class InventoryController implements SceneLifecycle {
+    private static final Log LOG = Log.getLog(InventoryController.class);
+
     /**
      * Label to display the current points available to the player.
      * Updates dynamically as points are spent or earned during the game.
@@ -137,45 +142,46 @@ public class InventoryController {
                     if (pet.getInventory().getItem1() < 99) {
                         pet.setScore(pet.getScore() - cost);
                         pet.getInventory().addItem1();
-                        System.out.println("Added Item 1");
+                        LOG.info("Added Item 1");
                     } else {
-                        System.out.println("You already have the maximum quantity of Item 1.");
+                        LOG.info("You already have the maximum quantity of Item 1.");
                     }
                     break;
                 case 2:
                     if (pet.getInventory().getItem2() < 99) {
                         pet.setScore(pet.getScore() - cost);
                         pet.getInventory().addItem2();
-                        System.out.println("Added Item 2");
+                        LOG.info("Added Item 2");
                     } else {
-                        System.out.println("You already have the maximum quantity of Item 2.");
+                        LOG.info("You already have the maximum quantity of Item 2.");
                     }
                     break;
                 case 3:
                     if (pet.getInventory().getItem3() < 99) {
                         pet.setScore(pet.getScore() - cost);
                         pet.getInventory().addItem3();
-                        System.out.println("Added Item 3");
+                        LOG.info("Added Item 3");
                     } else {
-                        System.out.println("You already have the maximum quantity of Item 3.");
+                        LOG.info("You already have the maximum quantity of Item 3.");
                     }
                     break;
                 case 4:
                     if (pet.getInventory().getItem4() < 99) {
                         pet.setScore(pet.getScore() - cost);
                         pet.getInventory().addItem4();
-                        System.out.println("Added Item 4");
+                        LOG.info("Added Item 4");
                     } else {
-                        System.out.println("You already have the maximum quantity of Item 4.");
+                        LOG.info("You already have the maximum quantity of Item 4.");
                     }
                     break;
                 default:
-                    System.out.println("Invalid item number.");
+                    LOG.warn("Invalid item number.");
             }
             updateItemQuantities();
             updatePointsDisplay();
+            ActionJournal.getInstance().append("slot" + pet.getSaveID(), ActionJournal.Action.BUY, pet);
         } else {
-            System.out.println("Not enough points to buy this item!");
+            LOG.info("Not enough points to buy this item!");
         }
     }
 
@@ -218,18 +224,30 @@ public class InventoryController {
     }
 
     /**
-     * Initializes the inventory screen with item data and default selections.
+     * Initializes the inventory screen with the item images, and with item data and default
+     * selections if a game is loaded.
+     * May run on a background thread when the screen is prewarmed.
      */
     @FXML
     public void initialize() {
-        GameState gameState = GameState.getCurrentState();
-        Pet pet = gameState.getPet();
-
         item1Image.setImage(new Image("/images/item1.png"));
         item2Image.setImage(new Image("/images/item2.png"));
         item3Image.setImage(new Image("/images/item3.png"));
         item4Image.setImage(new Image("/images/item4.png"));
 
+        if (GameState.getCurrentState().getPet() != null) {
+            onShow();
+        }
+    }
+
+    /**
+     * Refreshes the points, item quantities and default selections from the current pet.
+     */
+    @Override
+    public void onShow() {
+        GameState gameState = GameState.getCurrentState();
+        Pet pet = gameState.getPet();
+
         pointsLabel.setText("Points: " + pet.getScore());
         updateItemQuantities();
 
@@ -10,6 +10,7 @@ import javafx.util.Duration;
 import javafx.animation.Interpolator;
 import java.io.IOException;
 import com.example.util.FileHandler;
+import com.example.util.Log;
 import com.example.model.UserPreferences;
 import com.example.components.CustomButton;
 import javafx.scene.text.Text;
@@ -31,6 +32,8 @@ import static com.example.App.PlayButtonSound;
  * Supports both login (authentication) and PIN creation modes.
  */
 public class LoginController {
+    private static final Log LOG = Log.getLog(LoginController.class);
+
 
     @FXML
     PasswordField pinField;
@@ -75,7 +78,7 @@ public class LoginController {
             isCreationMode = userPrefs.getParentPassword().isEmpty();
             updateUIForMode();
         } catch (IOException e) {
-            System.err.println("Failed to load preferences: " + e.getMessage());
+            LOG.warn("Failed to load preferences: " + e.getMessage());
             userPrefs = new UserPreferences();
         }
 
@@ -154,7 +157,7 @@ public class LoginController {
             fileHandler.savePreferences(userPrefs);
             SceneController.getInstance().switchToParentMenu();
         } catch (IOException e) {
-            System.err.println("Failed to save preferences: " + e.getMessage());
+            LOG.error("Failed to save preferences: " + e.getMessage(), e);
         }
     }
 
@@ -10,6 +10,7 @@ import javafx.stage.StageStyle;
 import javafx.scene.Scene;
 import javafx.geometry.Pos;
 import com.example.components.CustomButton;
+import com.example.util.SoundEffects;
 import javafx.application.Platform;
 import javafx.scene.layout.StackPane;
 
@@ -18,8 +19,9 @@ import static com.example.App.PlayButtonSound;
 /**
  * Controller class for the main menu interface.
  * Manages scene transitions and user interactions on the main menu screen.
+ * The screen is cached by {@link SceneController}.
  */
-public class MainMenuController {
+public class MainMenuController implements SceneLifecycle {
 
     @FXML
     private CustomButton loadGameButton;
@@ -33,6 +35,16 @@ public class MainMenuController {
     @FXML
     StackPane exitDialog;
 
+    /**
+     * Closes the exit confirmation dialog left open when the menu was last shown.
+     */
+    @Override
+    public void onShow() {
+        if (exitDialog != null) {
+            exitDialog.setVisible(false);
+        }
+    }
+
     /**
      * Handles the "Load Game" button action.
      * Plays a button sound and switches to the save menu scene.
@@ -81,11 +93,12 @@ public class MainMenuController {
     void confirmExit() {
         PlayButtonSound();
 
-        // Stop and close audio resources
-        App.getButtonSound().stop();
-        App.getSoundPlayer().stop();
-        App.getButtonSound().close();
-        App.getSoundPlayer().close();
+        // Stop and close audio resources, if startup has opened them
+        SoundEffects.getInstance().close();
+        if (App.getSoundPlayer() != null) {
+            App.getSoundPlayer().stop();
+            App.getSoundPlayer().close();
+        }
 
         // Exit the application
         Platform.exit();
@@ -2,7 +2,10 @@ package com.example.controller;
 
 import com.example.model.GameState;
 import com.example.model.Pet;
+import com.example.model.SlotSummary;
 import com.example.util.FileHandler;
+import com.example.util.Log;
+import com.example.util.SaveService;
 import com.example.components.CustomToggle;
 import com.example.components.CustomButton;
 import com.example.model.UserPreferences;
@@ -15,11 +18,11 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import javafx.geometry.Pos;
 
-import java.io.File;
 import java.io.IOException;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static com.example.App.PlayButtonSound;
 
@@ -28,6 +31,8 @@ import static com.example.App.PlayButtonSound;
  * Manages parental controls, save game options, and pet revival functionality.
  */
 public class ParentMenuController {
+    private static final Log LOG = Log.getLog(ParentMenuController.class);
+
 
     public Label petScoreLabel;
     public TextField endTimeField;
@@ -60,6 +65,7 @@ public class ParentMenuController {
     private Label saveScoreLabel;
     FileHandler fileHandler;
     GameState currentGameState;
+    Map<String, SlotSummary> slotIndex = new TreeMap<>();
     private boolean isParentModeEnabled = false;
     UserPreferences userPrefs;
 
@@ -98,28 +104,17 @@ public class ParentMenuController {
             selectSaveDropdown.setVisible(isParentModeEnabled);
             selectSaveDropdown.setManaged(isParentModeEnabled);
         } catch (IOException e) {
-            System.err.println("Failed to load preferences: " + e.getMessage());
+            LOG.warn("Failed to load preferences: " + e.getMessage());
             userPrefs = new UserPreferences();
         }
 
-        // populate the dropdown with save files
-        File[] saveFiles = fileHandler.getSaveFiles();
-        if (saveFiles != null) {
-            selectSaveDropdown.getItems().add("Select a save file...");
-            for (File file : saveFiles) {
-                String fileName = file.getName();
-                if (fileName.matches("slot\\d+\\.json")) {
-                    try {
-                        int slotIndex = Integer.parseInt(fileName.replaceAll("[^0-9]", ""));
-                        GameState state = fileHandler.loadGame("slot" + slotIndex);
-                        if (state != null && state.getPet() != null) {
-                            String petName = state.getPet().getName() + " " + state.getPet().getSpecies();
-                            selectSaveDropdown.getItems().add(petName);
-                        }
-                    } catch (IOException e) {
-                        System.err.println("Failed to load save file: " + e.getMessage());
-                    }
-                }
+        // populate the dropdown from the slot catalog, a live view kept current by the file handler
+        slotIndex = fileHandler.getSlotIndex();
+        selectSaveDropdown.getItems().add("Select a save file...");
+        for (Map.Entry<String, SlotSummary> entry : slotIndex.entrySet()) {
+            if (entry.getKey().matches("slot\\d+")) {
+                SlotSummary summary = entry.getValue();
+                selectSaveDropdown.getItems().add(summary.getName() + " " + summary.getSpecies());
             }
         }
         selectSaveDropdown.setValue("Select a save file...");
@@ -183,40 +178,37 @@ public class ParentMenuController {
         String selectedPetName = selectSaveDropdown.getValue();
         if (selectedPetName != null && !selectedPetName.equals("Select a save file...")) {
             try {
-                // Find the corresponding save file by iterating through saves
-                File[] saveFiles = fileHandler.getSaveFiles();
-                for (File file : saveFiles) {
-                    String fileName = file.getName();
-                    if (fileName.endsWith(".json")) {
-                        GameState state = fileHandler.loadGame(fileName.replace(".json", ""));
+                // Find the corresponding save in the slot catalog and load only that file
+                for (Map.Entry<String, SlotSummary> entry : slotIndex.entrySet()) {
+                    SlotSummary summary = entry.getValue();
+                    String petFullName = summary.getName() + " " + summary.getSpecies();
+                    if (entry.getKey().matches("slot\\d+") && petFullName.equals(selectedPetName)) {
+                        GameState state = fileHandler.loadGame(entry.getKey());
                         if (state != null && state.getPet() != null) {
-                            String petFullName = state.getPet().getName() + " " + state.getPet().getSpecies();
-                            if (petFullName.equals(selectedPetName)) {
-                                currentGameState = state;
-                                Pet pet = currentGameState.getPet();
-
-                                // Update UI components with the pet's current state
-                                petScoreLabel.setText("Score: " + pet.getScore());
-                                petScoreLabel.setVisible(true);
-                                item1Spinner.getValueFactory().setValue(pet.getInventory().getItem1());
-                                item2Spinner.getValueFactory().setValue(pet.getInventory().getItem2());
-                                item3Spinner.getValueFactory().setValue(pet.getInventory().getItem3());
-                                item4Spinner.getValueFactory().setValue(pet.getInventory().getItem4());
-                                secondDivider.setVisible(true);
-                                secondDivider.setManaged(true);
-                                inventoryDivider.setVisible(true);
-                                inventoryDivider.setManaged(true);
-                                boolean isAlive = pet.getStats().isAlive();
-                                petStatusLabel.setText("Status: " + (isAlive ? "Alive" : "Dead"));
-                                petStatusLabel.setVisible(true);
-                                revivePetButton.setDisable(isAlive);
-                                break;
-                            }
+                            currentGameState = state;
+                            Pet pet = currentGameState.getPet();
+
+                            // Update UI components with the pet's current state
+                            petScoreLabel.setText("Score: " + pet.getScore());
+                            petScoreLabel.setVisible(true);
+                            item1Spinner.getValueFactory().setValue(pet.getInventory().getItem1());
+                            item2Spinner.getValueFactory().setValue(pet.getInventory().getItem2());
+                            item3Spinner.getValueFactory().setValue(pet.getInventory().getItem3());
+                            item4Spinner.getValueFactory().setValue(pet.getInventory().getItem4());
+                            secondDivider.setVisible(true);
+                            secondDivider.setManaged(true);
+                            inventoryDivider.setVisible(true);
+                            inventoryDivider.setManaged(true);
+                            boolean isAlive = pet.getStats().isAlive();
+                            petStatusLabel.setText("Status: " + (isAlive ? "Alive" : "Dead"));
+                            petStatusLabel.setVisible(true);
+                            revivePetButton.setDisable(isAlive);
                         }
+                        break;
                     }
                 }
             } catch (IOException e) {
-                System.err.println("Failed to load save file: " + e.getMessage());
+                LOG.warn("Failed to load save file: " + e.getMessage());
             }
         }
     }
@@ -239,7 +231,7 @@ public class ParentMenuController {
         try {
             fileHandler.savePreferences(userPrefs);
         } catch (IOException e) {
-            System.err.println("failed to save preferences: " + e.getMessage());
+            LOG.error("Failed to save preferences: " + e.getMessage(), e);
         }
         
         // update UI visibility
@@ -301,14 +293,16 @@ public class ParentMenuController {
         if (currentGameState != null) {
             int timeLimit = timeLimitSpinner.getValue();
             currentGameState.getPet().setTimeLimit(timeLimit);
-            try {
-                // get the slot number from the current game state
-                String slotNumber = "slot" + currentGameState.getPet().getSaveID();
-                fileHandler.saveGame(slotNumber, currentGameState);
-                System.out.println("Time limit updated to " + timeLimit + " minutes.");
-            } catch (IOException e) {
-                System.err.println("Failed to save time limit: " + e.getMessage());
-            }
+            // get the slot number from the current game state
+            String slotNumber = "slot" + currentGameState.getPet().getSaveID();
+            SaveService.getInstance().save(slotNumber, currentGameState)
+                    .whenComplete((ignored, error) -> {
+                        if (error == null) {
+                            LOG.info("Time limit updated to " + timeLimit + " minutes.");
+                        } else {
+                            LOG.error("Failed to save time limit: " + error.getMessage(), error);
+                        }
+                    });
         }
     }
 
@@ -389,15 +383,18 @@ public class ParentMenuController {
      * Saves the current game state to the corresponding save file.
      */
     private void saveCurrentGameState() {
-        try {
-            if (currentGameState != null) {
-                // get the slot number from the current game state
-                String slotNumber = "slot" + currentGameState.getPet().getSaveID();
-                fileHandler.saveGame(slotNumber, currentGameState);
-                System.out.println("Save file " + slotNumber + " updated.");
-            }
-        } catch (IOException e) {
-            System.out.println("Failed to save game state: " + e.getMessage());
+        if (currentGameState != null) {
+            // get the slot number from the current game state
+            String slotNumber = "slot" + currentGameState.getPet().getSaveID();
+            // Spinner changes arrive in bursts; queued saves to the same slot are collapsed
+            SaveService.getInstance().save(slotNumber, currentGameState)
+                    .whenComplete((ignored, error) -> {
+                        if (error == null) {
+                            LOG.info("Save file " + slotNumber + " updated.");
+                        } else {
+                            LOG.error("Failed to save game state: " + error.getMessage(), error);
+                        }
+                    });
         }
     }
     /**
@@ -454,7 +451,7 @@ public class ParentMenuController {
                 // go back to settings
                 SceneController.getInstance().switchToSettings();
             } catch (IOException ex) {
-                System.err.println("failed to save preferences: " + ex.getMessage());
+                LOG.error("Failed to save preferences: " + ex.getMessage(), ex);
             }
         });
         
@@ -488,10 +485,10 @@ public class ParentMenuController {
                 saveCurrentGameState();
 
                 // Update UI or log success
-                System.out.println("Allowed playtime updated: " + startTime + " to " + endTime);
+                LOG.info("Allowed playtime updated: " + startTime + " to " + endTime);
             } catch (IllegalArgumentException | DateTimeParseException e) {
                 // Handle invalid time input or timeframe
-                System.err.println("Invalid time or timeframe: " + e.getMessage());
+                LOG.warn("Invalid time or timeframe: " + e.getMessage());
 
                 // Show an alert to the user
                 Alert alert = new Alert(Alert.AlertType.ERROR);
@@ -501,7 +498,7 @@ public class ParentMenuController {
                 alert.showAndWait();
             }
         } else {
-            System.err.println("No game state found to update allowed times.");
+            LOG.warn("No game state found to update allowed times.");
         }
     }
 
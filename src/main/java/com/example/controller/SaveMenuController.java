@@ -9,13 +9,16 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.application.Platform;
 import java.io.IOException;
-import java.io.File;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Arrays;
+import java.util.Map;
 
 import com.example.model.GameState;
 import com.example.model.Pet;
+import com.example.model.SlotSummary;
 import com.example.util.FileHandler;
+import com.example.util.Log;
+import com.example.util.SaveService;
 import com.example.components.CustomButton;
 import javafx.scene.layout.StackPane;
 import javafx.animation.FadeTransition;
@@ -29,6 +32,9 @@ import static com.example.App.PlayButtonSound;
  * Also handles UI updates and interactions with the save menu.
  */
 public class SaveMenuController {
+
+    private static final Log LOG = Log.getLog(SaveMenuController.class);
+
     @FXML
     ListView<String> saveSlotList;
 
@@ -60,24 +66,16 @@ public class SaveMenuController {
                 "CLICK TO CREATE NEW SAVE"
         );
 
-        // Load existing save files and update slots with saved pet names
-        File[] saveFiles = fileHandler.getSaveFiles();
-        System.out.println(Arrays.toString(saveFiles));
-        if (saveFiles != null) {
-            for (File file : saveFiles) {
-                String fileName = file.getName();
-                if (fileName.matches("slot\\d+\\.json")) {
-                    int slotIndex = Integer.parseInt(fileName.replaceAll("[^0-9]", ""));
-                    try {
-                        GameState state = fileHandler.loadGame("slot" + slotIndex);
-                        if (state != null && state.getPet() != null) {
-                            Pet pet = state.getPet();
-                            // Update slot with both pet name and species
-                            slots.set(slotIndex, pet.getName() + " " + pet.getSpecies());
-                        }
-                    } catch (IOException ignored) {
-                        // Ignore corrupted files and leave default text
-                    }
+        // Update slots with saved pet names from the save slot index
+        Map<String, SlotSummary> savedSlots = fileHandler.getSlotIndex();
+        for (Map.Entry<String, SlotSummary> entry : savedSlots.entrySet()) {
+            String saveName = entry.getKey();
+            if (saveName.matches("slot\\d+")) {
+                int slotIndex = Integer.parseInt(saveName.replaceAll("[^0-9]", ""));
+                if (slotIndex < slots.size()) {
+                    SlotSummary summary = entry.getValue();
+                    // Update slot with both pet name and species
+                    slots.set(slotIndex, summary.getName() + " " + summary.getSpecies());
                 }
             }
         }
@@ -220,19 +218,19 @@ public class SaveMenuController {
         String petName = petNameField.getText().trim();
         String petType = petTypeComboBox.getSelectionModel().getSelectedItem();
         if (!petName.isEmpty() && petType != null) {
-            try {
-                Pet pet = new Pet(petName, petType, selectedSlotIndex);
-                GameState gameState = GameState.getCurrentState();
-                gameState.setPet(pet);
-
-                FileHandler fileHandler = new FileHandler();
-                fileHandler.saveGame("slot" + selectedSlotIndex, gameState);
-
-                saveSlotList.getItems().set(selectedSlotIndex, petName + " " + petType);
-                hideNewSaveDialogue();
-            } catch (IOException e) {
-                handleSaveError("save game", e);
-            }
+            // A new game of its own, so nothing of the game last played carries over
+            GameState gameState = new GameState();
+            gameState.setPet(new Pet(petName, petType, selectedSlotIndex));
+
+            SaveService.getInstance().save("slot" + selectedSlotIndex, gameState)
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            Platform.runLater(() -> handleSaveError("save game", (Exception) error));
+                        }
+                    });
+
+            saveSlotList.getItems().set(selectedSlotIndex, petName + " " + petType);
+            hideNewSaveDialogue();
         }
     }
 
@@ -274,7 +272,7 @@ public class SaveMenuController {
     private void handlePlay(String saveName) {
         int index = saveSlotList.getItems().indexOf(saveName);
         try {
-            System.out.println("Playing: " + saveName);
+            LOG.info("Playing: " + saveName);
             FileHandler fileHandler = new FileHandler();
             GameState loadedState = fileHandler.loadGame("slot" + index);
             Pet pet = loadedState.getPet();
@@ -285,6 +283,9 @@ public class SaveMenuController {
 
             // Validate the current time
             if (isAllowedToPlay(startTime, endTime)) {
+                // Apply the decay the pet went through while the game was closed
+                long offlineSeconds = loadedState.catchUp(LocalDateTime.now());
+                LOG.debug(() -> "Caught up " + offlineSeconds + " seconds since last save.");
                 GameState.loadState(loadedState); // Set the loaded state as the current state
                 SceneController.getInstance().switchToGame();
             } else {
@@ -294,7 +295,7 @@ public class SaveMenuController {
                                 " and " + (endTime != null ? endTime.toString() : "any time") + ".");
             }
         } catch (IOException e) {
-            e.printStackTrace();
+            LOG.error("Failed to load " + saveName, e);
             handleSaveError("load game", e);
         }
     }
@@ -357,15 +358,11 @@ public class SaveMenuController {
      */
     private void handleEdit(String saveName) {
         int index = saveSlotList.getItems().indexOf(saveName);
-        try {
-            FileHandler fileHandler = new FileHandler();
-            GameState thisSave = fileHandler.loadGame("slot" + index);
-            Pet thisPet = thisSave.getPet();
-            String petName = thisPet.getName();
-            selectedSlotIndex = saveSlotList.getItems().indexOf(saveName);
-            showNewSaveDialogue(petName);
-        } catch (IOException e) {
-            e.printStackTrace();
+        FileHandler fileHandler = new FileHandler();
+        SlotSummary summary = fileHandler.getSlotIndex().get("slot" + index);
+        if (summary != null) {
+            selectedSlotIndex = index;
+            showNewSaveDialogue(summary.getName());
         }
     }
 
@@ -385,7 +382,7 @@ public class SaveMenuController {
                 saveSlotList.getSelectionModel().clearSelection();
             });
         } catch (IOException e) {
-            e.printStackTrace();
+            LOG.error("Failed to delete slot" + index, e);
             // TODO: Show error dialog to user
         }
     }
@@ -1,25 +1,84 @@
 package com.example.controller;
 
+import com.example.util.AutosaveService;
+import com.example.util.Log;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import javafx.stage.Window;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Singleton controller class responsible for managing scene transitions in the application.
  * Provides methods to navigate between different scenes and ensures a single shared instance
  * to manage scene switching throughout the application.
+ * <p>
+ * Screens whose controller implements {@link SceneLifecycle} are loaded once and their scene graph
+ * and controller are reused on later visits. The FXML documents and stylesheets of the screens likely
+ * to be opened next are read ahead of time on a background thread; their views are then built on the
+ * JavaFX application thread, so controllers always initialize where they may touch the model and the UI.
  */
 public class SceneController {
+    private static final Log LOG = Log.getLog(SceneController.class);
+
+    // Screens likely to be opened next from a screen, prewarmed when it is shown
+    private static final Map<String, List<String>> NEXT_SCREENS = Map.of(
+            "main_menu.fxml", List.of("settings.fxml"),
+            "settings.fxml", List.of("main_menu.fxml"),
+            "game.fxml", List.of("inventory_menu.fxml")
+    );
+
     // Single instance of the controller (Singleton pattern)
     private static SceneController instance;
 
     // Reference to the current active scene
     Scene currentScene;
 
+    /**
+     * A loaded scene graph and its controller.
+     */
+    static final class View {
+        final Parent root;
+        final Object controller;
+
+        View(Parent root, Object controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+    }
+
+    // Views of reusable screens, keyed by FXML file; only accessed on the JavaFX application thread
+    private final Map<String, View> cache = new HashMap<>();
+
+    // The view currently shown, if it was loaded by this controller
+    private View currentView;
+
+    // Screens being loaded in the background
+    private final Set<String> prewarming = ConcurrentHashMap.newKeySet();
+
+    // Background thread reading the likely next screens
+    private final ExecutorService prewarmer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scene-prewarmer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Stylesheets of every scene, resolved once
+    private List<String> stylesheets;
+
     /**
      * Private constructor to prevent direct instantiation.
      * Implements the Singleton pattern to ensure only one instance of SceneController exists.
@@ -138,30 +197,136 @@ public class SceneController {
 
     /**
      * Loads a new scene from the specified FXML file and switches to it.
-     * Updates the current scene's root and applies new stylesheets.
+     * Reusable screens are taken from the cache; others are loaded from the FXML file.
+     * Updates the current scene's root, applies the stylesheets if they changed,
+     * and runs the {@link SceneLifecycle} hooks of the hidden and shown controllers.
+     * Changes to the game being played are autosaved first.
      *
      * @param fxml The name of the FXML file to load (relative to the "fxml/" directory).
      */
     void loadFXML(String fxml) {
         try {
-            // Load the FXML file from the "fxml/" directory
-            Parent root = FXMLLoader.load(getClass().getClassLoader().getResource("fxml/" + fxml));
+            long start = System.nanoTime();
+            // Leaving a scene: write the played game if it changed, without waiting for the write
+            AutosaveService.getInstance().flush();
+            View view = cache.get(fxml);
+            boolean cached = view != null;
+            if (view == null) {
+                view = load(fxml);
+                if (view.controller instanceof SceneLifecycle) {
+                    cache.put(fxml, view);
+                }
+            }
 
             // Retrieve the current scene and update its root and styles
             Scene scene = getCurrentScene();
             if (scene != null) {
-                scene.setRoot(root);
-                scene.getStylesheets().clear();
-                scene.getStylesheets().addAll(
-                        getClass().getClassLoader().getResource("styles/main.css").toExternalForm(),
-                        getClass().getClassLoader().getResource("styles/menu.css").toExternalForm()
-                );
+                if (currentView != null && currentView != view
+                        && currentView.controller instanceof SceneLifecycle hidden) {
+                    hidden.onHide();
+                }
+                scene.setRoot(view.root);
+                if (!scene.getStylesheets().equals(getStylesheets())) {
+                    scene.getStylesheets().setAll(getStylesheets());
+                }
                 currentScene = scene;
+                currentView = view;
+                if (view.controller instanceof SceneLifecycle shown) {
+                    shown.onShow();
+                }
+            }
+            LOG.debug(() -> String.format("Switched to %s (%s) in %.1f ms",
+                    fxml, cached ? "cached" : "loaded", (System.nanoTime() - start) / 1_000_000.0));
+
+            for (String next : NEXT_SCREENS.getOrDefault(fxml, List.of())) {
+                prewarm(next);
             }
         } catch (IOException e) {
             // Handle errors in loading the FXML file
-            System.err.println("Failed to load FXML: " + fxml);
-            e.printStackTrace();
+            LOG.error("Failed to load FXML: " + fxml, e);
+        }
+    }
+
+    /**
+     * Prepares a reusable screen so a later switch to it only swaps the scene root. Its FXML document and
+     * the stylesheets are read on a background thread; the view is built from them on the JavaFX application
+     * thread, since building it runs the controller's {@code initialize}.
+     * Screens that are already cached or being prepared, and screens whose controller does not implement
+     * {@link SceneLifecycle}, are not kept.
+     *
+     * @param fxml The name of the FXML file to load (relative to the "fxml/" directory).
+     */
+    public void prewarm(String fxml) {
+        if (!prewarming.add(fxml)) {
+            return;
+        }
+        prewarmer.execute(() -> {
+            try {
+                URL location = getClass().getClassLoader().getResource("fxml/" + fxml);
+                byte[] document;
+                try (InputStream in = location.openStream()) {
+                    document = in.readAllBytes();
+                }
+                List<String> resolved = resolveStylesheets();
+                Platform.runLater(() -> {
+                    prewarming.remove(fxml);
+                    if (stylesheets == null) {
+                        stylesheets = resolved;
+                    }
+                    if (cache.containsKey(fxml)) {
+                        return;
+                    }
+                    try {
+                        View view = load(location, document);
+                        if (view.controller instanceof SceneLifecycle) {
+                            cache.put(fxml, view);
+                        }
+                    } catch (IOException e) {
+                        LOG.warn("Failed to prewarm " + fxml + ": " + e.getMessage());
+                    }
+                });
+            } catch (Exception e) {
+                prewarming.remove(fxml);
+                LOG.warn("Failed to prewarm " + fxml + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Loads a scene graph and its controller from the "fxml/" directory.
+     */
+    private View load(String fxml) throws IOException {
+        FXMLLoader loader = new FXMLLoader(getClass().getClassLoader().getResource("fxml/" + fxml));
+        Parent root = loader.load();
+        return new View(root, loader.getController());
+    }
+
+    /**
+     * Builds a scene graph and its controller from an FXML document read ahead of time.
+     * Must run on the JavaFX application thread.
+     */
+    private View load(URL location, byte[] document) throws IOException {
+        FXMLLoader loader = new FXMLLoader(location);
+        Parent root = loader.load(new ByteArrayInputStream(document));
+        return new View(root, loader.getController());
+    }
+
+    /**
+     * Gets the stylesheets applied to every scene.
+     *
+     * @return The external forms of the stylesheet URLs, in the order they are applied.
+     */
+    public List<String> getStylesheets() {
+        if (stylesheets == null) {
+            stylesheets = resolveStylesheets();
         }
+        return stylesheets;
+    }
+
+    private List<String> resolveStylesheets() {
+        return List.of(
+                getClass().getClassLoader().getResource("styles/main.css").toExternalForm(),
+                getClass().getClassLoader().getResource("styles/menu.css").toExternalForm()
+        );
     }
 }
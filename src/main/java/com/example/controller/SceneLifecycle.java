@@ -0,0 +1,22 @@
+package com.example.controller;
+
+/**
+ * Lifecycle hooks for controllers whose scene is cached by {@link SceneController}.
+ * A controller implementing this interface is created once and reused: {@code initialize()} only
+ * builds what never changes, and anything read from the game state or preferences is refreshed in
+ * {@link #onShow()}. Controllers that do not implement it are reloaded on every navigation.
+ */
+public interface SceneLifecycle {
+
+    /**
+     * Called on the JavaFX application thread each time the scene becomes the active scene.
+     */
+    default void onShow() {
+    }
+
+    /**
+     * Called on the JavaFX application thread each time another scene replaces this one.
+     */
+    default void onHide() {
+    }
+}
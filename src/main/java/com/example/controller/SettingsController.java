@@ -12,6 +12,7 @@ import com.example.components.CustomButton;
 import com.example.components.CustomSlider;
 import com.example.model.UserPreferences;
 import com.example.util.FileHandler;
+import com.example.util.Log;
 
 import java.io.IOException;
 
@@ -20,8 +21,12 @@ import static com.example.App.PlayButtonSound;
 /**
  * Controller class for managing game settings and preferences.
  * Handles parental controls, volume adjustments, and user interactions with the settings menu.
+ * The screen is cached by {@link SceneController}; the preferences are reloaded each time it is shown,
+ * since the parent menu can change them.
  */
-public class SettingsController {
+public class SettingsController implements SceneLifecycle {
+    private static final Log LOG = Log.getLog(SettingsController.class);
+
 
     @FXML
     private ToggleButton parentalControlsToggle;
@@ -45,6 +50,9 @@ public class SettingsController {
     private UserPreferences userPrefs;
     private FileHandler fileHandler;
 
+    // Set while the controls are updated from the preferences, so the listeners do not save them back
+    private boolean refreshing = false;
+
     /**
      * Initializes the settings menu.
      * - Sets up listeners for parental controls and volume adjustments.
@@ -58,26 +66,18 @@ public class SettingsController {
         try {
             userPrefs = fileHandler.loadPreferences();
         } catch (IOException e) {
-            System.err.println("Failed to load preferences: " + e.getMessage());
+            LOG.warn("Failed to load preferences: " + e.getMessage());
             userPrefs = new UserPreferences();
         }
 
         Platform.runLater(() -> {
-            updateParentalControlsUI(userPrefs.isParentControlsEnabled());
-            handleVolumeChange((int) userPrefs.getVolume());
-
-            if (volumeSlider != null && volumeLabel != null) {
-                volumeSlider.setValue(userPrefs.getVolume());
-                volumeLabel.setText((int) userPrefs.getVolume() + "%");
-            }
-
-            if (parentalControlsToggle != null && parentalStatusLabel != null) {
-                parentalControlsToggle.setSelected(userPrefs.isParentControlsEnabled());
-                parentalStatusLabel.setText(userPrefs.isParentControlsEnabled() ? "Enabled" : "Disabled");
-            }
+            applyPreferences();
 
             if (parentalControlsToggle != null) {
                 parentalControlsToggle.selectedProperty().addListener((obs, oldVal, newVal) -> {
+                    if (refreshing) {
+                        return;
+                    }
                     handleParentalControlsToggle(newVal);
                     parentalStatusLabel.setText(newVal ? "Enabled" : "Disabled");
                     userPrefs.setParentControlsEnabled(newVal);
@@ -87,6 +87,9 @@ public class SettingsController {
 
             if (volumeSlider != null) {
                 volumeSlider.valueProperty().addListener((obs, oldVal, newVal) -> {
+                    if (refreshing) {
+                        return;
+                    }
                     handleVolumeChange(newVal.intValue());
                     volumeLabel.setText(newVal.intValue() + "%");
                     userPrefs.setVolume(newVal.doubleValue());
@@ -98,6 +101,43 @@ public class SettingsController {
         });
     }
 
+    /**
+     * Reloads the preferences, which may have changed since the screen was last shown.
+     */
+    @Override
+    public void onShow() {
+        try {
+            userPrefs = fileHandler.loadPreferences();
+        } catch (IOException e) {
+            LOG.warn("Failed to load preferences: " + e.getMessage());
+            return;
+        }
+        applyPreferences();
+    }
+
+    /**
+     * Updates the controls from the loaded preferences without saving them back.
+     */
+    private void applyPreferences() {
+        refreshing = true;
+        try {
+            updateParentalControlsUI(userPrefs.isParentControlsEnabled());
+            handleVolumeChange((int) userPrefs.getVolume());
+
+            if (volumeSlider != null && volumeLabel != null) {
+                volumeSlider.setValue(userPrefs.getVolume());
+                volumeLabel.setText((int) userPrefs.getVolume() + "%");
+            }
+
+            if (parentalControlsToggle != null && parentalStatusLabel != null) {
+                parentalControlsToggle.setSelected(userPrefs.isParentControlsEnabled());
+                parentalStatusLabel.setText(userPrefs.isParentControlsEnabled() ? "Enabled" : "Disabled");
+            }
+        } finally {
+            refreshing = false;
+        }
+    }
+
     /**
      * Configures a custom colored track on the volume slider.
      * The track visually represents the current volume level and updates dynamically.
@@ -145,7 +185,7 @@ public class SettingsController {
         userPrefs.setParentControlsEnabled(enabled);
         updateParentalControlsUI(enabled);
         savePreferences();
-        System.out.println("Parental controls " + (enabled ? "enabled" : "disabled"));
+        LOG.info("Parental controls " + (enabled ? "enabled" : "disabled"));
     }
 
     /**
@@ -154,9 +194,9 @@ public class SettingsController {
      * @param volume The new volume level as an integer between the slider's minimum and maximum.
      */
     private void handleVolumeChange(int volume) {
-        float value = (float) volume / 100f;
-        App.getSoundPlayer().setVolume(value);
-        System.out.println("Volume changed to: " + volume);
+        // Kept until startup opens the music player, if it has not yet
+        App.setVolume((float) volume / 100f);
+        LOG.debug(() -> "Volume changed to: " + volume);
     }
 
     /**
@@ -166,7 +206,7 @@ public class SettingsController {
         try {
             fileHandler.savePreferences(userPrefs);
         } catch (IOException e) {
-            System.err.println("Failed to save preferences: " + e.getMessage());
+            LOG.error("Failed to save preferences: " + e.getMessage(), e);
         }
     }
 
@@ -0,0 +1,110 @@
+package com.example.model;
+
+import com.example.util.Log;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Bulk arithmetic of a {@link StatsTable} tick over one stat column: the decay of every row and the
+ * critical-threshold detection of the rows whose value changed.
+ * <p>
+ * Two implementations give identical results: a scalar one, and one built on the incubating
+ * {@code jdk.incubator.vector} API that processes a full SIMD register of rows per step. The vector
+ * kernel is built by the {@code vector} profile ({@code mvn -P vector}) and only used when the module is
+ * available at run time ({@code --add-modules jdk.incubator.vector}) and the CPU offers wide enough vectors;
+ * otherwise {@link #best()} falls back to the scalar kernel.
+ */
+public interface DecayKernel {
+
+    /**
+     * Decays one stat of every living row by one plus its species and stat modifiers, clamped to 0-100.
+     * Rows whose game over flag is set keep their value.
+     *
+     * @param value    The stat column, updated in place.
+     * @param modifier The stat modifier column.
+     * @param species  The species modifier column of the stat.
+     * @param flags    The flags column.
+     * @param changed  Receives 1 for every row whose value must be re-evaluated, 0 for the others.
+     * @param count    The number of rows.
+     */
+    void decay(byte[] value, byte[] modifier, byte[] species, byte[] flags, byte[] changed, int count);
+
+    /**
+     * Updates the critical bit of one stat for every row marked in {@code changed}.
+     * Energy enters its critical state at 0 and leaves it at 100; the other stats are critical
+     * at or below {@code threshold}.
+     *
+     * @param value     The stat column.
+     * @param changed   The rows to re-evaluate, as filled by {@link #decay}.
+     * @param flags     The flags column, updated in place.
+     * @param stat      The stat index (0 = Hunger, 1 = Happiness, 2 = Energy, 3 = Health).
+     * @param threshold The critical threshold of the stat.
+     * @param count     The number of rows.
+     */
+    void updateCriticalFlags(byte[] value, byte[] changed, byte[] flags, int stat, int threshold, int count);
+
+    /**
+     * Gets the scalar kernel, available everywhere.
+     *
+     * @return The scalar kernel.
+     */
+    static DecayKernel scalar() {
+        return ScalarDecayKernel.INSTANCE;
+    }
+
+    /**
+     * Creates the vector kernel, loading it by name so this interface does not link against the vector API.
+     *
+     * @return The vector kernel.
+     * @throws UnsupportedOperationException if the kernel was not built, the vector API is not available
+     *                                       or the CPU vectors are too narrow.
+     */
+    static DecayKernel vector() {
+        try {
+            return Class.forName("com.example.model.VectorDecayKernel")
+                    .asSubclass(DecayKernel.class)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException("The vector kernel was not built (mvn -P vector)", e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof UnsupportedOperationException unsupported) {
+                throw unsupported;
+            }
+            throw new UnsupportedOperationException("jdk.incubator.vector is not available", e.getCause());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new UnsupportedOperationException("jdk.incubator.vector is not available", e);
+        }
+    }
+
+    /**
+     * Gets the fastest kernel available, chosen once.
+     *
+     * @return The vector kernel if available, the scalar kernel otherwise.
+     */
+    static DecayKernel best() {
+        return Best.KERNEL;
+    }
+
+    /**
+     * Holder of the kernel chosen by {@link #best()}, initialized on first use.
+     */
+    final class Best {
+        private static final DecayKernel KERNEL = choose();
+
+        private Best() {
+        }
+
+        private static DecayKernel choose() {
+            Log log = Log.getLog(DecayKernel.class);
+            try {
+                DecayKernel kernel = vector();
+                log.info("Using the vector stat decay kernel");
+                return kernel;
+            } catch (UnsupportedOperationException e) {
+                log.info("Using the scalar stat decay kernel: " + e.getMessage());
+                return scalar();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import java.time.Duration;
@@ -22,6 +23,9 @@ public class GameState {
     // The player's pet instance
     private Pet pet;
 
+    // Every pet simulated in this session, created on first use
+    private Household household;
+
     // The pet's current vital statistics
     private VitalStats stats;
 
@@ -92,21 +96,88 @@ public class GameState {
     }
 
     /**
-     * Gets the player's pet associated with this game state.
+     * Fast-forwards the pet's vital statistics through the time that passed since
+     * this game state was saved, as if the stats had kept decaying every second.
+     * Moves {@code savedAt} to {@code now} so the same interval is never replayed twice.
+     *
+     * @param now The current time.
+     * @return The number of seconds that were simulated.
+     */
+    public long catchUp(LocalDateTime now) {
+        Pet pet = getPet();
+        if (pet == null || savedAt == null) {
+            return 0;
+        }
+        long elapsedSeconds = Duration.between(savedAt, now).getSeconds();
+        if (elapsedSeconds <= 0) {
+            return 0;
+        }
+        SimulationEngine engine = new SimulationEngine();
+        engine.load(pet);
+        long simulated = engine.fastForward(elapsedSeconds);
+        engine.store(pet.getStats());
+        savedAt = now;
+        return simulated;
+    }
+
+    /**
+     * Creates a deep copy of this game state that can be serialized on another thread
+     * while the game keeps changing the original.
+     *
+     * @return An independent snapshot of the game state.
+     */
+    public GameState snapshot() {
+        GameState copy = new GameState();
+        copy.parentControlsEnabled = parentControlsEnabled;
+        copy.savedAt = savedAt;
+        Pet pet = getPet();
+        copy.pet = pet != null ? pet.copy() : null;
+        copy.stats = stats != null ? stats.copy() : null;
+        copy.controlParent = controlParent;
+        copy.sessionStartTime = sessionStartTime;
+        copy.totalPlayTime = totalPlayTime;
+        return copy;
+    }
+
+    /**
+     * Gets the player's pet associated with this game state, the one on screen.
      *
      * @return The {@link Pet} instance representing the player's pet.
      */
     public Pet getPet() {
-        return pet;
+        return household != null ? household.getActive() : pet;
     }
 
     /**
-     * Sets the player's pet for this game state.
+     * Sets the player's pet for this game state and puts it on screen.
+     * The pet it replaces leaves the household, so it no longer decays with it.
      *
      * @param pet The {@link Pet} instance to associate with this game state.
      */
     public void setPet(Pet pet) {
         this.pet = pet;
+        if (household != null) {
+            Pet old = household.getActive();
+            if (old != null && old != pet) {
+                household.remove(old);
+            }
+            household.setActive(pet);
+        }
+    }
+
+    /**
+     * Gets the household of pets simulated in this session.
+     * It starts with the player's pet as its active pet; more pets can be added to it.
+     *
+     * @return The {@link Household} of this game state.
+     */
+    @JsonIgnore
+    public Household getHousehold() {
+        if (household == null) {
+            household = new Household();
+            household.setActive(pet);
+        }
+        return household;
     }
 
     /**
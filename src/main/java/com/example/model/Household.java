@@ -0,0 +1,167 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The pets of one game session, simulated together.
+ * The stats of every pet live in one row of a shared {@link StatsTable}; the {@link VitalStats} of each
+ * pet is a view over its row. {@link #tick()} advances the whole household in a few tight passes over the
+ * table columns, with a constant amount of work per pet and no allocation.
+ * <p>
+ * The UI only binds to the active pet, the one on screen: only its observers are notified after a tick.
+ * The stats of the other pets are always up to date when read, but their properties are only refreshed
+ * once they are put on screen.
+ * <p>
+ * A tick gives exactly the same result for every pet as {@link SimulationEngine#tick(long)} with one tick.
+ */
+public class Household {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final List<Pet> pets = new ArrayList<>();
+
+    // Row i holds the stats of pets.get(i)
+    private final StatsTable table = new StatsTable(INITIAL_CAPACITY);
+
+    // Index of the pet on screen, -1 if none
+    private int active = -1;
+
+    /**
+     * Adds a pet to the household; its stats move into the household table.
+     *
+     * @param pet The pet to add.
+     * @return The index of the pet.
+     */
+    public int add(Pet pet) {
+        int index = pets.indexOf(pet);
+        if (index >= 0) {
+            return index;
+        }
+        index = table.addRow();
+        pet.getStats().attach(table, index);
+        table.setSpecies(index, pet.getSpecies());
+        pets.add(pet);
+        return index;
+    }
+
+    /**
+     * Removes a pet from the household; its stats move back into a table of their own.
+     * The last pet takes the index of the removed one.
+     *
+     * @param pet The pet to remove.
+     * @return {@code true} if the pet was in the household.
+     */
+    public boolean remove(Pet pet) {
+        int index = pets.indexOf(pet);
+        if (index < 0) {
+            return false;
+        }
+        pet.getStats().detach();
+        int moved = table.removeRow(index);
+        if (moved >= 0) {
+            Pet last = pets.remove(moved);
+            pets.set(index, last);
+            last.getStats().setRow(index);
+        } else {
+            pets.remove(index);
+        }
+        if (active == index) {
+            active = -1;
+        } else if (active == moved) {
+            active = index;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the pets of the household.
+     *
+     * @return An unmodifiable view of the pets, in index order.
+     */
+    public List<Pet> getPets() {
+        return Collections.unmodifiableList(pets);
+    }
+
+    /**
+     * Gets the number of pets in the household.
+     *
+     * @return The number of pets.
+     */
+    public int size() {
+        return pets.size();
+    }
+
+    /**
+     * Gets the table holding the stats of the household, one row per pet in index order.
+     * Meant for bulk reads such as analytics; changes go through the {@link VitalStats} of each pet.
+     *
+     * @return The stats table.
+     */
+    public StatsTable getTable() {
+        return table;
+    }
+
+    /**
+     * Puts a pet on screen, adding it to the household if needed.
+     *
+     * @param pet The pet to show, or {@code null} to show none.
+     */
+    public void setActive(Pet pet) {
+        active = pet != null ? add(pet) : -1;
+        if (active >= 0) {
+            // Its properties may have missed ticks while it was in the background
+            pet.getStats().refresh();
+        }
+    }
+
+    /**
+     * Gets the pet on screen.
+     *
+     * @return The active pet, or {@code null} if none.
+     */
+    public Pet getActive() {
+        return active >= 0 ? pets.get(active) : null;
+    }
+
+    /**
+     * Gets the index of the pet on screen.
+     *
+     * @return The index of the active pet, or -1 if none.
+     */
+    public int getActiveIndex() {
+        return active;
+    }
+
+    /**
+     * Advances every pet by one second, then notifies the observers of the active pet.
+     */
+    public void tick() {
+        table.tick();
+        if (active >= 0) {
+            pets.get(active).getStats().refresh();
+        }
+    }
+
+    /**
+     * Checks whether a stat of a pet is critical after the last tick.
+     *
+     * @param index The pet index.
+     * @param stat  The stat index (0 = Hunger, 1 = Happiness, 2 = Energy, 3 = Health).
+     * @return {@code true} if the stat is critical.
+     */
+    public boolean isCritical(int index, int stat) {
+        return table.isCritical(index, stat);
+    }
+
+    /**
+     * Checks whether a pet died; dead pets no longer decay.
+     *
+     * @param index The pet index.
+     * @return {@code true} if the pet's health reached 0 while critical.
+     */
+    public boolean isGameOver(int index) {
+        return table.isGameOver(index);
+    }
+}
@@ -179,6 +179,20 @@ public class Inventory {
         setItem4(getItem4() + 1);
     }
 
+    /**
+     * Creates a copy of this inventory with the same quantities.
+     *
+     * @return An independent copy of the inventory.
+     */
+    public Inventory copy() {
+        Inventory copy = new Inventory();
+        copy.item1.set(item1.get());
+        copy.item2.set(item2.get());
+        copy.item3.set(item3.get());
+        copy.item4.set(item4.get());
+        return copy;
+    }
+
     /**
      * Ensures item quantities stay within a valid range (0 to 99).
      *
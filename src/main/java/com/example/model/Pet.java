@@ -1,5 +1,7 @@
 package com.example.model;
 
+import com.example.util.Log;
+
 import java.time.LocalTime;
 /**
  * Model class representing a virtual pet in the game.
@@ -7,6 +9,8 @@ import java.time.LocalTime;
  * and methods for accessing and modifying the pet's name.
  */
 public class Pet {
+    private static final Log LOG = Log.getLog(Pet.class);
+
     // The name of the pet
     private String name;
     private String species;
@@ -77,6 +81,15 @@ public class Pet {
     public int getSaveID() {
         return saveID;
     }
+
+    /**
+     * Sets the number of the save slot this pet belongs to.
+     *
+     * @param saveID The save slot number.
+     */
+    public void setSaveID(int saveID) {
+        this.saveID = saveID;
+    }
     /**
      * Retrieves the inventory of the pet.
      *
@@ -86,7 +99,7 @@ public class Pet {
 
     // Called when a stat threshold is reached
     private void handleThreshold() {
-        System.out.println("Threshold reached for " + name + ". Consider taking action!");
+        LOG.info("Threshold reached for " + name + ". Consider taking action!");
         // Add additional logic, e.g., changing pet mood or triggering events
     }
     public void performAction(PetAction action) {
@@ -155,6 +168,27 @@ public class Pet {
         this.species = species;
     }
 
+    /**
+     * Creates a deep copy of this pet, including its stats and inventory.
+     *
+     * @return An independent copy of the pet.
+     */
+    public Pet copy() {
+        Pet copy = new Pet(name, species, saveID);
+        copy.stats = stats.copy();
+        copy.inventory = inventory.copy();
+        copy.startTime = startTime;
+        copy.endTime = endTime;
+        copy.states = states != null ? states.clone() : null;
+        copy.defaultItem12 = defaultItem12;
+        copy.defaultItem34 = defaultItem34;
+        copy.score = score;
+        copy.totalTimeSpent = totalTimeSpent;
+        copy.timeLimit = timeLimit;
+        copy.currentPlayTime = currentPlayTime;
+        return copy;
+    }
+
 
 }
 
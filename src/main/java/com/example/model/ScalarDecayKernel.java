@@ -0,0 +1,65 @@
+package com.example.model;
+
+import static com.example.model.SimulationEngine.ENERGY;
+
+/**
+ * Scalar {@link DecayKernel}: plain loops over the columns, branch-free where it matters so the JIT
+ * can still auto-vectorize the decay pass. Also processes the tail rows of the vector kernel.
+ */
+final class ScalarDecayKernel implements DecayKernel {
+
+    static final ScalarDecayKernel INSTANCE = new ScalarDecayKernel();
+
+    private ScalarDecayKernel() {
+    }
+
+    @Override
+    public void decay(byte[] value, byte[] modifier, byte[] species, byte[] flags, byte[] changed, int count) {
+        decay(value, modifier, species, flags, changed, 0, count);
+    }
+
+    @Override
+    public void updateCriticalFlags(byte[] value, byte[] changed, byte[] flags, int stat, int threshold, int count) {
+        updateCriticalFlags(value, changed, flags, stat, threshold, 0, count);
+    }
+
+    /**
+     * Decays the rows from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    static void decay(byte[] value, byte[] modifier, byte[] species, byte[] flags, byte[] changed, int from, int to) {
+        for (int i = from; i < to; i++) {
+            // -1 for living rows, 0 for dead ones, which therefore decay by nothing
+            int live = ((flags[i] >> 4) & 1) - 1;
+            int current = value[i];
+            int raw = Math.max(0, current - ((1 + species[i] + modifier[i]) & live));
+            value[i] = (byte) Math.min(100, raw);
+            changed[i] = (byte) (raw != current ? 1 : 0);
+        }
+    }
+
+    /**
+     * Updates the critical bits of the rows from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    static void updateCriticalFlags(byte[] value, byte[] changed, byte[] flags, int stat, int threshold,
+                                    int from, int to) {
+        int bit = 1 << stat;
+        for (int i = from; i < to; i++) {
+            if (changed[i] == 0) {
+                continue;
+            }
+            int v = value[i];
+            if (stat == ENERGY) {
+                // Energy enters critical at 0 and only leaves it when fully restored
+                if (v == 0) {
+                    flags[i] = (byte) (flags[i] | bit);
+                } else if (v == 100) {
+                    flags[i] = (byte) (flags[i] & ~bit);
+                }
+            } else if (v <= threshold) {
+                flags[i] = (byte) (flags[i] | bit);
+            } else {
+                flags[i] = (byte) (flags[i] & ~bit);
+            }
+        }
+    }
+}
@@ -1,22 +1,20 @@
 package com.example.model;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
-import javafx.util.Duration;
 
 /**
  * A utility class for managing a score that increases over time.
  * The score is updated periodically based on a specified rate of points per second.
+ * It has no timer of its own: the owner calls {@link #tick()} once per second, typically from the game clock.
  */
 public class ScoreKeeper {
 
     // Property to track the current score
     private final IntegerProperty score = new SimpleIntegerProperty(0);
 
-    // Timeline for periodically updating the score
-    private final Timeline timeline;
+    // Whether ticks currently add points
+    private boolean running = false;
 
     // Points gained per second
     private final int pointsPerSecond;
@@ -28,26 +26,38 @@ public class ScoreKeeper {
      */
     public ScoreKeeper(int pointsPerSecond) {
         this.pointsPerSecond = pointsPerSecond;
-
-        // Create a timeline that updates the score every second
-        timeline = new Timeline(
-                new KeyFrame(Duration.seconds(1), event -> increaseScore(pointsPerSecond))
-        );
-        timeline.setCycleCount(Timeline.INDEFINITE); // Runs indefinitely
     }
 
     /**
-     * Starts the scorekeeper's timer, causing the score to increase over time.
+     * Starts the scorekeeper, causing the score to increase on every tick.
      */
     public void start() {
-        timeline.play();
+        running = true;
     }
 
     /**
-     * Stops the scorekeeper's timer, halting the periodic score updates.
+     * Stops the scorekeeper, halting the periodic score updates.
      */
     public void stop() {
-        timeline.stop();
+        running = false;
+    }
+
+    /**
+     * Advances the score by one second's worth of points, if the scorekeeper is running.
+     */
+    public void tick() {
+        if (running) {
+            increaseScore(pointsPerSecond);
+        }
+    }
+
+    /**
+     * Checks whether the scorekeeper is running.
+     *
+     * @return {@code true} if ticks add points.
+     */
+    public boolean isRunning() {
+        return running;
     }
 
     /**
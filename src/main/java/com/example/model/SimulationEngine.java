@@ -0,0 +1,511 @@
+package com.example.model;
+
+/**
+ * Headless simulation of the per-second stat decay applied to a pet.
+ * Holds the four vital stats, their modifiers and the critical flags as primitive
+ * {@code int} fields so that a pet can be advanced by any number of ticks without
+ * touching JavaFX properties, boxing values or allocating per tick.
+ * <p>
+ * One tick reproduces exactly what the game scene used to do every second:
+ * decay energy, health, hunger and happiness (in that order) by one plus the species
+ * and stat modifiers, re-evaluate the critical state after every change, then apply
+ * the critical/normal state modifiers. The UI only samples the result through
+ * {@link #store(VitalStats)}, {@link #isCritical(int)} and {@link #isGameOver()}.
+ */
+public class SimulationEngine {
+
+    // Stat indexes, matching the layout of VitalStats#getState()
+    public static final int HUNGER = 0;
+    public static final int HAPPINESS = 1;
+    public static final int ENERGY = 2;
+    public static final int HEALTH = 3;
+
+    // Critical thresholds for hunger, happiness, energy and health
+    static final int[] CRITICAL_THRESHOLD = {20, 25, 0, 0};
+
+    // Current stat values (0-100)
+    private int hunger;
+    private int happiness;
+    private int energy;
+    private int health;
+
+    // Stat modifiers added on top of the base decay of 1 per tick
+    private int hungerMod;
+    private int happinessMod;
+    private int energyMod;
+    private int healthMod;
+
+    // Species-specific decay modifiers
+    private int speciesHungerMod;
+    private int speciesHappinessMod;
+    private int speciesEnergyMod;
+    private int speciesHealthMod;
+
+    // Bit i is set when stat i is in a critical state
+    private int criticalFlags;
+
+    private boolean gameOver;
+
+    /**
+     * Creates an engine with the default stats of a freshly created pet and no species modifiers.
+     */
+    public SimulationEngine() {
+        hunger = 80;
+        happiness = 70;
+        energy = 100;
+        health = 100;
+    }
+
+    /**
+     * Copies the stats, modifiers and critical states of the given pet into the engine
+     * and selects the species modifiers for its species.
+     *
+     * @param pet The {@link Pet} to simulate.
+     */
+    public void load(Pet pet) {
+        setSpecies(pet.getSpecies());
+        load(pet.getStats());
+    }
+
+    /**
+     * Copies the stats, modifiers and critical states from the given {@link VitalStats}
+     * into the engine and clears the game over flag.
+     *
+     * @param stats The stats to load.
+     */
+    public void load(VitalStats stats) {
+        hunger = stats.getHunger();
+        happiness = stats.getHappiness();
+        energy = stats.getEnergy();
+        health = stats.getHealth();
+        hungerMod = stats.getHungerMod();
+        happinessMod = stats.getHappinessMod();
+        energyMod = stats.getEnergyMod();
+        healthMod = stats.getHealthMod();
+        criticalFlags = 0;
+        for (int i = HUNGER; i <= HEALTH; i++) {
+            if (stats.getVitalState(i) == 1) {
+                criticalFlags |= 1 << i;
+            }
+        }
+        gameOver = false;
+    }
+
+    /**
+     * Writes the simulated stats, modifiers and critical states back into the given {@link VitalStats}.
+     * The values are written without re-running the state listeners, so bound UI components
+     * see a single change per stat.
+     *
+     * @param stats The stats to update.
+     */
+    public void store(VitalStats stats) {
+        stats.restore(hunger, happiness, energy, health,
+                hungerMod, happinessMod, energyMod, healthMod, criticalFlags);
+    }
+
+    /**
+     * Selects the species-specific decay modifiers.
+     *
+     * @param species The species name as stored on the {@link Pet}.
+     */
+    public void setSpecies(String species) {
+        int[] modifiers = speciesModifiers(species);
+        speciesHungerMod = modifiers[HUNGER];
+        speciesHappinessMod = modifiers[HAPPINESS];
+        speciesEnergyMod = modifiers[ENERGY];
+        speciesHealthMod = modifiers[HEALTH];
+    }
+
+    /**
+     * Gets the species-specific decay modifiers.
+     *
+     * @param species The species name as stored on the {@link Pet}.
+     * @return The modifiers, indexed by stat.
+     */
+    static int[] speciesModifiers(String species) {
+        int[] modifiers = new int[4];
+        if (species == null) {
+            return modifiers;
+        }
+        switch (species) {
+            case "cat":
+                modifiers[HUNGER] = 1;
+                modifiers[ENERGY] = -1;
+                break;
+            case "Bear":
+                modifiers[HUNGER] = 2;
+                modifiers[HAPPINESS] = 2;
+                modifiers[ENERGY] = 2;
+                modifiers[HEALTH] = -1;
+                break;
+            case "mole":
+                // Default values (all 0)
+                break;
+        }
+        return modifiers;
+    }
+
+    /**
+     * Advances the simulation by the given number of one-second ticks.
+     * Stops early when the pet dies.
+     *
+     * @param ticks The number of ticks to simulate.
+     * @return The number of ticks actually simulated.
+     */
+    public long tick(long ticks) {
+        long done = 0;
+        while (done < ticks && !gameOver) {
+            step();
+            done++;
+        }
+        return done;
+    }
+
+    /**
+     * Advances the simulation by the given number of ticks in time proportional to the
+     * length of the pet's trajectory rather than to {@code ticks}.
+     * The engine state is finite and every tick is deterministic, so the trajectory
+     * always ends in a cycle (death being a cycle of length 1). The cycle is located
+     * with Brent's algorithm and whole laps are skipped, which gives exactly the same
+     * result as calling {@link #tick(long)} with the same argument.
+     *
+     * @param ticks The number of ticks to simulate.
+     * @return The number of ticks actually simulated, as {@link #tick(long)} would report.
+     */
+    public long fastForward(long ticks) {
+        if (ticks <= 0 || gameOver) {
+            return 0;
+        }
+
+        // Find the cycle length, giving up once the search costs as much as plain ticking
+        SimulationEngine tortoise = new SimulationEngine();
+        SimulationEngine hare = new SimulationEngine();
+        tortoise.copyFrom(this);
+        hare.copyFrom(this);
+        hare.step();
+        long power = 1;
+        long cycleLength = 1;
+        long searched = 1;
+        while (!tortoise.sameState(hare)) {
+            if (searched >= ticks) {
+                return tick(ticks);
+            }
+            if (power == cycleLength) {
+                tortoise.copyFrom(hare);
+                power <<= 1;
+                cycleLength = 0;
+            }
+            hare.step();
+            cycleLength++;
+            searched++;
+        }
+
+        // Find the first tick of the cycle
+        tortoise.copyFrom(this);
+        hare.copyFrom(this);
+        for (long i = 0; i < cycleLength; i++) {
+            hare.step();
+        }
+        long cycleStart = 0;
+        while (!tortoise.sameState(hare)) {
+            if (cycleStart >= ticks) {
+                return tick(ticks);
+            }
+            tortoise.step();
+            hare.step();
+            cycleStart++;
+        }
+        if (cycleStart >= ticks) {
+            return tick(ticks);
+        }
+
+        copyFrom(tortoise);
+        if (gameOver) {
+            // The cycle is the terminal state: the pet died on the last tick before it
+            return cycleStart;
+        }
+        long remaining = (ticks - cycleStart) % cycleLength;
+        for (long i = 0; i < remaining; i++) {
+            step();
+        }
+        return ticks;
+    }
+
+    /**
+     * Copies the complete simulation state of another engine into this one.
+     */
+    private void copyFrom(SimulationEngine other) {
+        hunger = other.hunger;
+        happiness = other.happiness;
+        energy = other.energy;
+        health = other.health;
+        hungerMod = other.hungerMod;
+        happinessMod = other.happinessMod;
+        energyMod = other.energyMod;
+        healthMod = other.healthMod;
+        speciesHungerMod = other.speciesHungerMod;
+        speciesHappinessMod = other.speciesHappinessMod;
+        speciesEnergyMod = other.speciesEnergyMod;
+        speciesHealthMod = other.speciesHealthMod;
+        criticalFlags = other.criticalFlags;
+        gameOver = other.gameOver;
+    }
+
+    /**
+     * Checks whether another engine with the same species holds the same simulation state.
+     */
+    private boolean sameState(SimulationEngine other) {
+        return hunger == other.hunger
+                && happiness == other.happiness
+                && energy == other.energy
+                && health == other.health
+                && hungerMod == other.hungerMod
+                && happinessMod == other.happinessMod
+                && energyMod == other.energyMod
+                && healthMod == other.healthMod
+                && criticalFlags == other.criticalFlags
+                && gameOver == other.gameOver;
+    }
+
+    /**
+     * Performs a single decay tick followed by the critical state scan.
+     * Does nothing once the pet is dead.
+     */
+    private void step() {
+        if (gameOver) {
+            return;
+        }
+        // Decay each stat by 1 (plus any modifiers)
+        energy = decrease(ENERGY, energy, 1 + speciesEnergyMod + energyMod);
+        health = decrease(HEALTH, health, 1 + speciesHealthMod + healthMod);
+        hunger = decrease(HUNGER, hunger, 1 + speciesHungerMod + hungerMod);
+        happiness = decrease(HAPPINESS, happiness, 1 + speciesHappinessMod + happinessMod);
+
+        // Check critical states
+        if (isCritical(HEALTH)) {
+            if (health <= 0) {
+                gameOver = true;
+                return;
+            }
+            // When health is critical, it affects energy and happiness
+            energyMod = 2;
+            happinessMod = 1;
+        } else {
+            for (int i = HUNGER; i < HEALTH; i++) {
+                if (isCritical(i)) {
+                    applyCriticalState(i);
+                } else {
+                    applyNormalState(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Decreases a stat the same way {@link VitalStats} does: floor at 0, clamp to 100,
+     * and re-evaluate the state whenever the raw value changed.
+     *
+     * @param index  The stat index.
+     * @param value  The current value.
+     * @param amount The amount to subtract (may be negative).
+     * @return The new value.
+     */
+    private int decrease(int index, int value, int amount) {
+        int raw = Math.max(0, value - amount);
+        if (raw == value) {
+            return value;
+        }
+        int clamped = Math.min(100, raw);
+        setValue(index, clamped);
+        updateState(index, clamped);
+        return clamped;
+    }
+
+    private void setValue(int index, int value) {
+        switch (index) {
+            case HUNGER:
+                hunger = value;
+                break;
+            case HAPPINESS:
+                happiness = value;
+                break;
+            case ENERGY:
+                energy = value;
+                break;
+            default:
+                health = value;
+                break;
+        }
+    }
+
+    /**
+     * Updates the critical flag for a stat and recomputes the interaction modifiers,
+     * mirroring the listener logic in {@link VitalStats}.
+     */
+    private void updateState(int index, int value) {
+        if (index == ENERGY) {
+            // Energy enters critical at 0 and only leaves it when fully restored
+            if (value == 0 && !isCritical(ENERGY)) {
+                criticalFlags |= 1 << ENERGY;
+            } else if (value == 100 && isCritical(ENERGY)) {
+                criticalFlags &= ~(1 << ENERGY);
+            }
+            return;
+        }
+
+        if (value <= CRITICAL_THRESHOLD[index]) {
+            criticalFlags |= 1 << index;
+        } else {
+            criticalFlags &= ~(1 << index);
+        }
+
+        int totalHealthMod = 0;
+        int totalEnergyMod = 0;
+        int totalHungerMod = 0;
+        int totalHappinessMod = 0;
+
+        // Hunger effects
+        if (hunger <= 50) {
+            if (hunger + 20 < energy) {
+                totalEnergyMod += 3;
+            }
+            if (hunger + 15 < happiness) {
+                totalHappinessMod += 2;
+            }
+            if (hunger <= 20) {
+                totalHealthMod += 1;
+            }
+        }
+
+        // Happiness effects
+        if (happiness <= 50 && happiness + 25 < energy) {
+            totalEnergyMod += 2;
+        }
+
+        // Energy effects
+        if (energy <= 50 && energy + 20 < happiness) {
+            totalHappinessMod += 2;
+        }
+
+        // Health effects
+        if (health <= 50) {
+            if (health + 30 < energy) {
+                totalEnergyMod += 3;
+            }
+            if (health + 25 < happiness) {
+                totalHappinessMod += 2;
+            }
+            if (health + 20 < hunger) {
+                totalHungerMod += 2;
+            }
+        }
+
+        healthMod = totalHealthMod;
+        energyMod = totalEnergyMod;
+        hungerMod = totalHungerMod;
+        happinessMod = totalHappinessMod;
+    }
+
+    /**
+     * Applies the modifiers used while a stat is critical.
+     */
+    private void applyCriticalState(int index) {
+        switch (index) {
+            case HUNGER: // Being hungry affects health, energy and happiness
+                healthMod = 1;
+                energyMod = 1;
+                happinessMod = 1;
+                break;
+            case HAPPINESS: // Being unhappy affects health and energy
+                healthMod = 1;
+                energyMod = 1;
+                break;
+            case ENERGY: // Being exhausted affects everything and forces a recovery
+                healthMod = 1;
+                hungerMod = 1;
+                happinessMod = 1;
+                energyMod = -7;
+                if (energy >= 100) {
+                    applyNormalState(ENERGY);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Resets the modifiers tied to a stat that is back in its normal state.
+     */
+    private void applyNormalState(int index) {
+        switch (index) {
+            case HUNGER:
+                healthMod = 0;
+                energyMod = 0;
+                happinessMod = 0;
+                break;
+            case HAPPINESS:
+                healthMod = 0;
+                energyMod = 0;
+                break;
+            case ENERGY:
+                healthMod = 0;
+                hungerMod = 0;
+                happinessMod = 0;
+                break;
+            case HEALTH:
+                energyMod = 0;
+                happinessMod = 0;
+                break;
+        }
+    }
+
+    /**
+     * Checks whether a stat is currently in its critical state.
+     *
+     * @param index The stat index (0 = Hunger, 1 = Happiness, 2 = Energy, 3 = Health).
+     * @return {@code true} if the stat is critical.
+     */
+    public boolean isCritical(int index) {
+        return (criticalFlags & (1 << index)) != 0;
+    }
+
+    /**
+     * Checks whether the pet died during the last simulated tick.
+     *
+     * @return {@code true} if health reached 0 while critical.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getHunger() {
+        return hunger;
+    }
+
+    public int getHappiness() {
+        return happiness;
+    }
+
+    public int getEnergy() {
+        return energy;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getHungerMod() {
+        return hungerMod;
+    }
+
+    public int getHappinessMod() {
+        return happinessMod;
+    }
+
+    public int getEnergyMod() {
+        return energyMod;
+    }
+
+    public int getHealthMod() {
+        return healthMod;
+    }
+}
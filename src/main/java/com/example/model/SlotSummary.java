@@ -0,0 +1,105 @@
+package com.example.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+
+/**
+ * Model class holding the metadata of a save slot shown in the menus.
+ * Kept in the save slot index so menus can list saves without loading every full {@link GameState}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SlotSummary {
+
+    // The pet's name and species
+    private String name;
+    private String species;
+
+    // The pet's score at the time of the save
+    private int score;
+
+    // Whether the pet was alive at the time of the save
+    private boolean alive;
+
+    // Timestamp of the save
+    private LocalDateTime savedAt;
+
+    // The slot number stored on the pet
+    private int saveID;
+
+    /**
+     * Default no-arguments constructor.
+     * Required for Jackson JSON serialization/deserialization.
+     */
+    public SlotSummary() {
+    }
+
+    /**
+     * Builds the summary of a game state.
+     *
+     * @param state The {@link GameState} to summarize.
+     * @return The summary, or {@code null} if the state has no pet.
+     */
+    public static SlotSummary of(GameState state) {
+        Pet pet = state.getPet();
+        if (pet == null) {
+            return null;
+        }
+        SlotSummary summary = new SlotSummary();
+        summary.name = pet.getName();
+        summary.species = pet.getSpecies();
+        summary.score = pet.getScore();
+        summary.alive = pet.getStats().isAlive();
+        summary.savedAt = state.getSavedAt();
+        summary.saveID = pet.getSaveID();
+        return summary;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(String species) {
+        this.species = species;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public boolean isAlive() {
+        return alive;
+    }
+
+    public void setAlive(boolean alive) {
+        this.alive = alive;
+    }
+
+    public LocalDateTime getSavedAt() {
+        return savedAt;
+    }
+
+    public void setSavedAt(LocalDateTime savedAt) {
+        this.savedAt = savedAt;
+    }
+
+    public int getSaveID() {
+        return saveID;
+    }
+
+    public void setSaveID(int saveID) {
+        this.saveID = saveID;
+    }
+}
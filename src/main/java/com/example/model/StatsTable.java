@@ -0,0 +1,416 @@
+package com.example.model;
+
+import java.util.Arrays;
+
+import static com.example.model.SimulationEngine.ENERGY;
+import static com.example.model.SimulationEngine.HAPPINESS;
+import static com.example.model.SimulationEngine.HEALTH;
+import static com.example.model.SimulationEngine.HUNGER;
+
+/**
+ * Struct-of-arrays storage for the vital stats of many pets.
+ * Each field is a primitive {@code byte} column indexed by row, one row per pet: the four stat values,
+ * the four stat modifiers, the four species modifiers, and a flags column holding one critical bit per
+ * stat (bit i for stat i, as in {@link VitalStats#getState()}) plus a game over bit. A row costs 13 bytes
+ * and no objects, and {@link #tick()} advances every row in a few tight passes over the columns, run by a
+ * {@link DecayKernel}.
+ * <p>
+ * {@link VitalStats} is a view over one row. The rules applied here are the ones of
+ * {@link SimulationEngine}; a tick gives the same result for every row as {@link SimulationEngine#tick(long)}
+ * with one tick.
+ * <p>
+ * Not thread-safe: used from the JavaFX application thread, like the stats it stores.
+ */
+public final class StatsTable {
+
+    // Flag set once a pet died; dead pets no longer decay
+    static final int GAME_OVER = 1 << 4;
+
+    // Mask of the critical bits in the flags column
+    static final int CRITICAL_MASK = 0xF;
+
+    // Stats of a freshly created pet
+    private static final int[] DEFAULT_VALUES = {80, 70, 100, 100};
+
+    // Stats decay in this order within a tick
+    private static final int[] DECAY_ORDER = {ENERGY, HEALTH, HUNGER, HAPPINESS};
+
+    // Columns indexed by [stat][row], stats in the order of SimulationEngine#HUNGER..HEALTH
+    private byte[][] values;
+    private byte[][] modifiers;
+    private byte[][] speciesModifiers;
+
+    // Critical bits and the game over bit, indexed by row
+    private byte[] flags;
+
+    // Scratch column: whether the value of each row changed in the current decay pass
+    private byte[] changed;
+
+    private int size = 0;
+
+    // Bulk arithmetic of the decay passes; null for DecayKernel#best(), resolved on the first tick
+    private final DecayKernel kernel;
+
+    /**
+     * Constructs an empty table using the fastest available {@link DecayKernel}.
+     *
+     * @param capacity The number of rows to allocate up front; the table grows as needed.
+     */
+    public StatsTable(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * Constructs an empty table.
+     *
+     * @param capacity The number of rows to allocate up front; the table grows as needed.
+     * @param kernel   The kernel running the decay passes, or {@code null} for the fastest available one.
+     */
+    public StatsTable(int capacity, DecayKernel kernel) {
+        this.kernel = kernel;
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        values = new byte[4][capacity];
+        modifiers = new byte[4][capacity];
+        speciesModifiers = new byte[4][capacity];
+        flags = new byte[capacity];
+        changed = new byte[capacity];
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The number of rows in use.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a row with the stats of a freshly created pet.
+     *
+     * @return The index of the new row.
+     */
+    public int addRow() {
+        if (size == flags.length) {
+            grow(size * 2);
+        }
+        int row = size++;
+        for (int stat = HUNGER; stat <= HEALTH; stat++) {
+            values[stat][row] = (byte) DEFAULT_VALUES[stat];
+            modifiers[stat][row] = 0;
+            speciesModifiers[stat][row] = 0;
+        }
+        flags[row] = 0;
+        return row;
+    }
+
+    /**
+     * Removes a row by moving the last row into its place.
+     *
+     * @param row The row to remove.
+     * @return The former index of the row now stored at {@code row}, or -1 if {@code row} was the last row.
+     */
+    int removeRow(int row) {
+        int last = --size;
+        if (row == last) {
+            return -1;
+        }
+        copyRow(last, this, row);
+        return last;
+    }
+
+    /**
+     * Copies a row into a row of another table, or of this one.
+     */
+    void copyRow(int from, StatsTable target, int to) {
+        for (int stat = HUNGER; stat <= HEALTH; stat++) {
+            target.values[stat][to] = values[stat][from];
+            target.modifiers[stat][to] = modifiers[stat][from];
+            target.speciesModifiers[stat][to] = speciesModifiers[stat][from];
+        }
+        target.flags[to] = flags[from];
+    }
+
+    /**
+     * Gets a stat value.
+     *
+     * @param row  The row.
+     * @param stat The stat index (0 = Hunger, 1 = Happiness, 2 = Energy, 3 = Health).
+     * @return The value (0-100).
+     */
+    public int get(int row, int stat) {
+        return values[stat][row];
+    }
+
+    /**
+     * Sets a stat value like the setters of {@link VitalStats}: the value is clamped to 0-100 and, if it
+     * changed, the critical state and the interaction modifiers are re-evaluated.
+     *
+     * @param row   The row.
+     * @param stat  The stat index.
+     * @param value The new value.
+     * @return {@code true} if the value changed.
+     */
+    boolean set(int row, int stat, int value) {
+        int clamped = clamp(value);
+        if (values[stat][row] == clamped) {
+            return false;
+        }
+        values[stat][row] = (byte) clamped;
+        updateState(row, stat);
+        if (stat == HEALTH && clamped > 0) {
+            flags[row] = (byte) (flags[row] & ~GAME_OVER);
+        }
+        return true;
+    }
+
+    /**
+     * Stores a stat value clamped to 0-100 without re-evaluating any state.
+     */
+    void setRaw(int row, int stat, int value) {
+        values[stat][row] = (byte) clamp(value);
+    }
+
+    /**
+     * Gets a stat modifier.
+     *
+     * @param row  The row.
+     * @param stat The stat index.
+     * @return The modifier added to the decay of the stat.
+     */
+    public int getModifier(int row, int stat) {
+        return modifiers[stat][row];
+    }
+
+    void setModifier(int row, int stat, int modifier) {
+        modifiers[stat][row] = (byte) modifier;
+    }
+
+    /**
+     * Selects the species-specific decay modifiers of a row.
+     *
+     * @param row     The row.
+     * @param species The species name as stored on the {@link Pet}.
+     */
+    public void setSpecies(int row, String species) {
+        int[] bySpecies = SimulationEngine.speciesModifiers(species);
+        for (int stat = HUNGER; stat <= HEALTH; stat++) {
+            speciesModifiers[stat][row] = (byte) bySpecies[stat];
+        }
+    }
+
+    /**
+     * Checks whether a stat is critical.
+     *
+     * @param row  The row.
+     * @param stat The stat index.
+     * @return {@code true} if the stat is in its critical state.
+     */
+    public boolean isCritical(int row, int stat) {
+        return (flags[row] & (1 << stat)) != 0;
+    }
+
+    /**
+     * Gets the critical bits of a row.
+     *
+     * @param row The row.
+     * @return Bit mask of critical stats, bit i matching stat i.
+     */
+    public int getCriticalFlags(int row) {
+        return flags[row] & CRITICAL_MASK;
+    }
+
+    /**
+     * Replaces the critical bits of a row and clears its game over flag.
+     */
+    void setCriticalFlags(int row, int criticalFlags) {
+        flags[row] = (byte) (criticalFlags & CRITICAL_MASK);
+    }
+
+    /**
+     * Checks whether the pet of a row died during a tick.
+     *
+     * @param row The row.
+     * @return {@code true} if health reached 0 while critical.
+     */
+    public boolean isGameOver(int row) {
+        return (flags[row] & GAME_OVER) != 0;
+    }
+
+    /**
+     * Advances every row by one second: decays the stats in the order of the {@link SimulationEngine},
+     * then applies the modifiers of the critical states.
+     */
+    public void tick() {
+        DecayKernel bulk = kernel != null ? kernel : DecayKernel.best();
+        for (int stat : DECAY_ORDER) {
+            decay(bulk, stat);
+        }
+        scanCriticalStates();
+    }
+
+    /**
+     * Decays one stat of every living row by one plus its species and stat modifiers.
+     * The arithmetic and the critical-threshold detection run as bulk passes of the {@link DecayKernel};
+     * the interaction modifiers are then only recomputed for the rows whose value changed.
+     */
+    private void decay(DecayKernel bulk, int stat) {
+        byte[] change = changed;
+        int count = size;
+        bulk.decay(values[stat], modifiers[stat], speciesModifiers[stat], flags, change, count);
+        bulk.updateCriticalFlags(values[stat], change, flags, stat, SimulationEngine.CRITICAL_THRESHOLD[stat], count);
+        if (stat == ENERGY) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            if (change[i] != 0) {
+                recomputeModifiers(i);
+            }
+        }
+    }
+
+    /**
+     * Applies the modifiers of the critical states of every living row, or ends the game of the rows whose
+     * health ran out.
+     * <p>
+     * The {@link SimulationEngine} applies the hunger, happiness and energy states one after the other,
+     * each overwriting modifiers set by the previous one. Folded together this leaves: the health, hunger
+     * and happiness modifiers at 1 while exhausted (energy critical and below 100) and 0 otherwise; the
+     * energy modifier at -7 while energy is critical, else 1 while happiness is critical, else 0.
+     */
+    private void scanCriticalStates() {
+        byte[] health = values[HEALTH];
+        byte[] energy = values[ENERGY];
+        byte[] healthMod = modifiers[HEALTH];
+        byte[] hungerMod = modifiers[HUNGER];
+        byte[] happinessMod = modifiers[HAPPINESS];
+        byte[] energyMod = modifiers[ENERGY];
+        int count = size;
+        for (int i = 0; i < count; i++) {
+            int flag = flags[i];
+            if ((flag & GAME_OVER) != 0) {
+                continue;
+            }
+            if ((flag & (1 << HEALTH)) != 0) {
+                if (health[i] <= 0) {
+                    flags[i] = (byte) (flag | GAME_OVER);
+                } else {
+                    // When health is critical, it affects energy and happiness
+                    energyMod[i] = 2;
+                    happinessMod[i] = 1;
+                }
+                continue;
+            }
+            int unhappy = (flag >> HAPPINESS) & 1;
+            int tired = (flag >> ENERGY) & 1;
+            byte exhausted = (byte) (tired & (energy[i] < 100 ? 1 : 0));
+            healthMod[i] = exhausted;
+            hungerMod[i] = exhausted;
+            happinessMod[i] = exhausted;
+            energyMod[i] = (byte) (tired != 0 ? -7 : unhappy);
+        }
+    }
+
+    /**
+     * Re-evaluates the critical state of a stat whose value changed and, for every stat but energy,
+     * the interaction modifiers.
+     */
+    void updateState(int row, int stat) {
+        updateCriticalFlag(row, stat);
+        if (stat != ENERGY) {
+            recomputeModifiers(row);
+        }
+    }
+
+    /**
+     * Re-evaluates the critical state of a stat whose value changed.
+     */
+    void updateCriticalFlag(int row, int stat) {
+        int value = values[stat][row];
+        int bit = 1 << stat;
+        if (stat == ENERGY) {
+            // Energy enters critical at 0 and only leaves it when fully restored
+            if (value == 0) {
+                flags[row] = (byte) (flags[row] | bit);
+            } else if (value == 100) {
+                flags[row] = (byte) (flags[row] & ~bit);
+            }
+        } else if (value <= SimulationEngine.CRITICAL_THRESHOLD[stat]) {
+            flags[row] = (byte) (flags[row] | bit);
+        } else {
+            flags[row] = (byte) (flags[row] & ~bit);
+        }
+    }
+
+    /**
+     * Recomputes the interaction modifiers of a row from its current stat values.
+     */
+    void recomputeModifiers(int row) {
+        int hunger = values[HUNGER][row];
+        int happiness = values[HAPPINESS][row];
+        int energy = values[ENERGY][row];
+        int health = values[HEALTH][row];
+        int totalHealthMod = 0;
+        int totalEnergyMod = 0;
+        int totalHungerMod = 0;
+        int totalHappinessMod = 0;
+
+        // Hunger effects
+        if (hunger <= 50) {
+            if (hunger + 20 < energy) {
+                totalEnergyMod += 3;    // Significant energy drain when hungry
+            }
+            if (hunger + 15 < happiness) {
+                totalHappinessMod += 2; // Being hungry makes you unhappy
+            }
+            if (hunger <= 20) {
+                totalHealthMod += 1;    // Malnutrition starts affecting health
+            }
+        }
+
+        // Happiness effects
+        if (happiness <= 50 && happiness + 25 < energy) {
+            totalEnergyMod += 2;        // Depression drains energy
+        }
+
+        // Energy effects
+        if (energy <= 50 && energy + 20 < happiness) {
+            totalHappinessMod += 2;     // Being tired makes you grumpy
+        }
+
+        // Health effects - affects everything when low
+        if (health <= 50) {
+            if (health + 30 < energy) {
+                totalEnergyMod += 3;    // Poor health severely affects energy
+            }
+            if (health + 25 < happiness) {
+                totalHappinessMod += 2; // Being sick makes you unhappy
+            }
+            if (health + 20 < hunger) {
+                totalHungerMod += 2;    // Sickness affects appetite
+            }
+        }
+
+        modifiers[HEALTH][row] = (byte) totalHealthMod;
+        modifiers[ENERGY][row] = (byte) totalEnergyMod;
+        modifiers[HUNGER][row] = (byte) totalHungerMod;
+        modifiers[HAPPINESS][row] = (byte) totalHappinessMod;
+    }
+
+    // Clamp method to ensure values stay within range
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(100, value));
+    }
+
+    private void grow(int capacity) {
+        for (int stat = HUNGER; stat <= HEALTH; stat++) {
+            values[stat] = Arrays.copyOf(values[stat], capacity);
+            modifiers[stat] = Arrays.copyOf(modifiers[stat], capacity);
+            speciesModifiers[stat] = Arrays.copyOf(speciesModifiers[stat], capacity);
+        }
+        flags = Arrays.copyOf(flags, capacity);
+        changed = new byte[capacity];
+    }
+}
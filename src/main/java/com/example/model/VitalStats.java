@@ -1,71 +1,250 @@
 package com.example.model;
 
+import com.example.util.Log;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.beans.property.SimpleIntegerProperty;
 
-import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static com.example.model.SimulationEngine.ENERGY;
+import static com.example.model.SimulationEngine.HAPPINESS;
+import static com.example.model.SimulationEngine.HEALTH;
+import static com.example.model.SimulationEngine.HUNGER;
 
 /**
  * Model class representing the vital statistics of a virtual pet.
  * Tracks and manages hunger, happiness, energy, and health levels with associated modifiers and states.
+ * <p>
+ * The stats are a view over one row of a {@link StatsTable}. A new instance owns a single-row table;
+ * a {@link Household} moves the row of each of its pets into its shared table so that the whole household
+ * is simulated in bulk. The JavaFX properties are only created when first requested, so pets that are
+ * never shown cost no property objects.
+ * <p>
+ * The JSON property order is fixed: the stats have no fields for Jackson to order them by, and setting a
+ * stat recomputes its modifier, so the saved modifiers and states are read after the stats.
  */
+@JsonPropertyOrder({"health", "hunger", "happiness", "energy",
+        "hungerMod", "happinessMod", "energyMod", "healthMod", "alive", "state"})
 public class VitalStats {
 
-    // Modifiers affecting each stat
-    private int hungerMod = 0;
-    private int happinessMod = 0;
-    private int healthMod = 0;
-    private int energyMod = 0;
+    private static final Log LOG = Log.getLog(VitalStats.class);
+
+    // Table and row holding the stats
+    private StatsTable table;
+    private int row;
 
-    // Properties representing current levels of each stat
-    private final IntegerProperty hunger = new SimpleIntegerProperty(80);
-    private final IntegerProperty happiness = new SimpleIntegerProperty(70);
-    private final IntegerProperty energy = new SimpleIntegerProperty(100);
-    private final IntegerProperty health = new SimpleIntegerProperty(100);
+    // Properties of each stat, indexed by stat; created on first request
+    private IntegerProperty[] properties;
 
-    // petState array to represent the state of each stat: 0 = OK, 1 = Critical
-    private final int[] petState = {0, 0, 0, 0}; // Index 0 = Hunger, 1 = Happiness, 2 = Energy, 3 = Health
+    // Set while the properties are updated from the table, so their listeners do not write back
+    private boolean publishing = false;
 
-    // Define thresholds for stats
-    private static final int[] CRITICAL_THRESHOLD = {20, 25, 0, 0}; // Critical threshold for warnings
+    // Incremented once per change to the stats, however many values changed
+    private int revisionCount = 0;
+    private ReadOnlyIntegerWrapper revision;
 
-    private boolean suppressListeners = false;
+    // Incremented like the revision, except for the ticks of the table published by refresh()
+    private int editCount = 0;
+    private ReadOnlyIntegerWrapper edits;
 
     private boolean alive = true;  // Add this field
+
     /**
-     * Constructor initializes vital stats with default values and attaches listeners
-     * to automatically clamp values and update states when properties change.
+     * Pending values of a batched update, see {@link VitalStats#update(Consumer)}.
+     * Mirrors the stat methods of {@link VitalStats} without firing any listeners.
+     */
+    public static final class StatsUpdate {
+        private int hunger;
+        private int happiness;
+        private int energy;
+        private int health;
+
+        private StatsUpdate(int hunger, int happiness, int energy, int health) {
+            this.hunger = hunger;
+            this.happiness = happiness;
+            this.energy = energy;
+            this.health = health;
+        }
+
+        public int getHunger() {
+            return hunger;
+        }
+
+        public int getHappiness() {
+            return happiness;
+        }
+
+        public int getEnergy() {
+            return energy;
+        }
+
+        public int getHealth() {
+            return health;
+        }
+
+        public void setHunger(int value) {
+            hunger = value;
+        }
+
+        public void setHappiness(int value) {
+            happiness = value;
+        }
+
+        public void setEnergy(int value) {
+            energy = value;
+        }
+
+        public void setHealth(int value) {
+            health = value;
+        }
+
+        public void increaseHunger(int value) {
+            hunger = Math.min(100, hunger + value);
+        }
+
+        public void decreaseHunger(int value) {
+            hunger = Math.max(0, hunger - value);
+        }
+
+        public void increaseHappiness(int value) {
+            happiness = Math.min(100, happiness + value);
+        }
+
+        public void decreaseHappiness(int value) {
+            happiness = Math.max(0, happiness - value);
+        }
+
+        public void increaseEnergy(int value) {
+            energy = Math.min(100, energy + value);
+        }
+
+        public void decreaseEnergy(int value) {
+            energy = Math.max(0, energy - value);
+        }
+
+        public void increaseHealth(int value) {
+            health = Math.min(100, health + value);
+        }
+
+        public void decreaseHealth(int value) {
+            health = Math.max(0, health - value);
+        }
+    }
+
+    /**
+     * Constructor initializes vital stats with default values in a table of their own.
      */
     public VitalStats() {
-        // Add listeners to enforce clamping and update state
-        hunger.addListener((observable, oldValue, newValue) -> {
-            if (!suppressListeners) {
-                hunger.set(clampValue(newValue.intValue()));
-                updatePetState(0, hunger.get());
-            }
-        });
+        this.table = new StatsTable(1);
+        this.row = table.addRow();
+    }
 
-        happiness.addListener((observable, oldValue, newValue) -> {
-            if (!suppressListeners) {
-                happiness.set(clampValue(newValue.intValue()));
-                updatePetState(1, happiness.get());
-            }
-        });
+    /**
+     * Moves these stats into a row of another table; the view reads and writes that row from now on.
+     *
+     * @param target    The table to move into.
+     * @param targetRow The row of {@code target} receiving the stats.
+     */
+    void attach(StatsTable target, int targetRow) {
+        table.copyRow(row, target, targetRow);
+        table = target;
+        row = targetRow;
+    }
+
+    /**
+     * Moves these stats back into a table of their own, e.g. when the pet leaves a household.
+     */
+    void detach() {
+        StatsTable own = new StatsTable(1);
+        attach(own, own.addRow());
+    }
+
+    /**
+     * Points the view at another row of the same table, after the table moved the row.
+     */
+    void setRow(int row) {
+        this.row = row;
+    }
+
+    /**
+     * Notifies observers of a change made to the row outside this view, such as a bulk tick:
+     * updates the properties created so far and the revision.
+     */
+    void refresh() {
+        publishValues(0xF);
+    }
 
-        energy.addListener((observable, oldValue, newValue) -> {
-            if (!suppressListeners) {
-                energy.set(clampValue(newValue.intValue()));
-                updatePetState(2, energy.get());
+    /**
+     * Applies several stat changes as one transaction.
+     * The changes are made on a {@link StatsUpdate}; afterwards every value is clamped once,
+     * the critical states of the changed stats and the modifiers are recomputed once, and
+     * {@link #revisionProperty()} changes once. Observers of the individual stat properties
+     * only see the final values.
+     *
+     * @param changes The changes to apply, e.g. {@code s -> { s.decreaseHunger(2); s.decreaseEnergy(1); }}.
+     */
+    public void update(Consumer<StatsUpdate> changes) {
+        StatsUpdate update = new StatsUpdate(getHunger(), getHappiness(), getEnergy(), getHealth());
+        changes.accept(update);
+        int[] newValues = {update.hunger, update.happiness, update.energy, update.health};
+
+        // Bit i set when stat i changed
+        int changed = 0;
+        for (int i = HUNGER; i <= HEALTH; i++) {
+            int previous = table.get(row, i);
+            table.setRaw(row, i, newValues[i]);
+            if (table.get(row, i) != previous) {
+                changed |= 1 << i;
             }
-        });
+        }
+        if (changed == 0) {
+            return;
+        }
 
-        health.addListener((observable, oldValue, newValue) -> {
-            if (!suppressListeners) {
-                health.set(clampValue(newValue.intValue()));
-                updatePetState(3, health.get());
+        for (int i = HUNGER; i <= HEALTH; i++) {
+            if ((changed & (1 << i)) != 0) {
+                int previousFlags = table.getCriticalFlags(row);
+                table.updateCriticalFlag(row, i);
+                logState(i, previousFlags);
             }
-        });
+        }
+        // Energy only toggles its own state; the other stats also drive the modifiers
+        if ((changed & ~(1 << ENERGY)) != 0) {
+            table.recomputeModifiers(row);
+        }
+        publish(changed);
+    }
+
+    /**
+     * Gets a property that changes once for every change to the stats, whether made
+     * through a single setter or a batched {@link #update(Consumer)}.
+     * Lets observers refresh once per update instead of once per stat.
+     *
+     * @return The revision counter property.
+     */
+    public ReadOnlyIntegerProperty revisionProperty() {
+        if (revision == null) {
+            revision = new ReadOnlyIntegerWrapper(revisionCount);
+        }
+        return revision.getReadOnlyProperty();
+    }
+
+    /**
+     * Gets a property that changes once for every change made through this view, like
+     * {@link #revisionProperty()}, but not for the decay ticks of the {@link Household}.
+     * Lets observers tell care of the pet apart from the passing of time.
+     *
+     * @return The edit counter property.
+     */
+    public ReadOnlyIntegerProperty editsProperty() {
+        if (edits == null) {
+            edits = new ReadOnlyIntegerWrapper(editCount);
+        }
+        return edits.getReadOnlyProperty();
     }
 
     // Getters for property objects
@@ -75,7 +254,7 @@ public class VitalStats {
      * @return The hunger property.
      */
     public IntegerProperty hungerProperty() {
-        return hunger;
+        return property(HUNGER);
     }
     /**
      * Gets the property representing the happiness level of the pet.
@@ -83,7 +262,7 @@ public class VitalStats {
      * @return The happiness property.
      */
     public IntegerProperty happinessProperty() {
-        return happiness;
+        return property(HAPPINESS);
     }
     /**
      * Gets the property representing the energy level of the pet.
@@ -91,7 +270,7 @@ public class VitalStats {
      * @return The energy property.
      */
     public IntegerProperty energyProperty() {
-        return energy;
+        return property(ENERGY);
     }
     /**
      * Gets the property representing the health level of the pet.
@@ -99,7 +278,7 @@ public class VitalStats {
      * @return The health property.
      */
     public IntegerProperty healthProperty() {
-        return health;
+        return property(HEALTH);
     }
 
     // Getters and setters for individual stat values
@@ -109,7 +288,7 @@ public class VitalStats {
      * @return The current hunger value (0-100).
      */
     public int getHunger() {
-        return hunger.get();
+        return table.get(row, HUNGER);
     }
     /**
      * Sets the hunger level of the pet.
@@ -118,7 +297,7 @@ public class VitalStats {
      * @param value The new hunger value.
      */
     public void setHunger(int value) {
-        hunger.set(clampValue(value));
+        set(HUNGER, value);
     }
     /**
      * Gets the current happiness level of the pet.
@@ -126,7 +305,7 @@ public class VitalStats {
      * @return The current happiness value (0-100).
      */
     public int getHappiness() {
-        return happiness.get();
+        return table.get(row, HAPPINESS);
     }
     /**
      * Sets the happiness level of the pet.
@@ -134,7 +313,7 @@ public class VitalStats {
      * @param value The new happiness value.
      */
     public void setHappiness(int value) {
-        happiness.set(clampValue(value));
+        set(HAPPINESS, value);
     }
     /**
      * Gets the current energy level of the pet.
@@ -142,7 +321,7 @@ public class VitalStats {
      * @return The current energy value (0-100).
      */
     public int getEnergy() {
-        return energy.get();
+        return table.get(row, ENERGY);
     }
     /**
      * Sets the energy level of the pet.
@@ -151,7 +330,7 @@ public class VitalStats {
      * @param value The new energy value.
      */
     public void setEnergy(int value) {
-        energy.set(clampValue(value));
+        set(ENERGY, value);
     }
     /**
      * Gets the current health level of the pet.
@@ -159,7 +338,7 @@ public class VitalStats {
      * @return The current health value (0-100).
      */
     public int getHealth() {
-        return health.get();
+        return table.get(row, HEALTH);
     }
     /**
      * Sets the health level of the pet.
@@ -168,7 +347,7 @@ public class VitalStats {
      * @param value The new health value.
      */
     public void setHealth(int value) {
-        health.set(clampValue(value));
+        set(HEALTH, value);
     }
 
     // Adjust methods for modifying stats incrementally
@@ -179,7 +358,7 @@ public class VitalStats {
      * @param value The amount to increase health.
      */
     public void increaseHealth(int value) {
-        health.set(Math.min(100, health.get() + value));
+        set(HEALTH, Math.min(100, getHealth() + value));
     }
     /**
      * Decreases the pet's health by the specified value.
@@ -188,7 +367,7 @@ public class VitalStats {
      * @param value The amount to decrease health.
      */
     public void decreaseHealth(int value) {
-        health.set(Math.max(0, health.get() - value));
+        set(HEALTH, Math.max(0, getHealth() - value));
     }
     /**
      * Increases the pet's hunger by the specified value.
@@ -197,7 +376,7 @@ public class VitalStats {
      * @param value The amount to increase hunger.
      */
     public void increaseHunger(int value) {
-        hunger.set(Math.min(100, hunger.get() + value));
+        set(HUNGER, Math.min(100, getHunger() + value));
     }
     /**
      * Decreases the pet's hunger by the specified value.
@@ -206,7 +385,7 @@ public class VitalStats {
      * @param value The amount to decrease hunger.
      */
     public void decreaseHunger(int value) {
-        hunger.set(Math.max(0, hunger.get() - value));
+        set(HUNGER, Math.max(0, getHunger() - value));
     }
     /**
      * Increases the pet's happiness by the specified value.
@@ -215,7 +394,7 @@ public class VitalStats {
      * @param value The amount to increase happiness.
      */
     public void increaseHappiness(int value) {
-        happiness.set(Math.min(100, happiness.get() + value));
+        set(HAPPINESS, Math.min(100, getHappiness() + value));
     }
     /**
      * Decreases the pet's happiness by the specified value.
@@ -224,7 +403,7 @@ public class VitalStats {
      * @param value The amount to decrease happiness.
      */
     public void decreaseHappiness(int value) {
-        happiness.set(Math.max(0, happiness.get() - value));
+        set(HAPPINESS, Math.max(0, getHappiness() - value));
     }
 
     /**
@@ -234,7 +413,7 @@ public class VitalStats {
      * @param value The amount to increase energy.
      */
     public void increaseEnergy(int value) {
-        energy.set(Math.min(100, energy.get() + value));
+        set(ENERGY, Math.min(100, getEnergy() + value));
     }
     /**
      * Decreases the pet's energy by the specified value.
@@ -243,7 +422,7 @@ public class VitalStats {
      * @param value The amount to decrease energy.
      */
     public void decreaseEnergy(int value) {
-        energy.set(Math.max(0, energy.get() - value));
+        set(ENERGY, Math.max(0, getEnergy() - value));
     }
 
     // Modifiers for stats
@@ -253,7 +432,7 @@ public class VitalStats {
      * @return The hunger modifier.
      */
     public int getHungerMod() {
-        return hungerMod;
+        return table.getModifier(row, HUNGER);
     }
     /**
      * Sets the modifier affecting the pet's health stat.
@@ -261,7 +440,7 @@ public class VitalStats {
      * @return healthMod The new health modifier value.
      */
     public int getHealthMod() {
-        return healthMod;
+        return table.getModifier(row, HEALTH);
     }
     /**
      * Sets the modifier affecting the pet's happiness stat.
@@ -269,7 +448,7 @@ public class VitalStats {
      * @return happinessMod The new happiness modifier value.
      */
     public int getHappinessMod() {
-        return happinessMod;
+        return table.getModifier(row, HAPPINESS);
     }
     /**
      * Gets the modifier affecting the pet's energy stat.
@@ -277,7 +456,7 @@ public class VitalStats {
      * @return The energy modifier.
      */
     public int getEnergyMod() {
-        return energyMod;
+        return table.getModifier(row, ENERGY);
     }
     /**
      * Sets the modifier affecting the pet's hunger stat.
@@ -285,11 +464,11 @@ public class VitalStats {
      * @param hungerMod The new hunger modifier value.
      */
     public void setHungerMod(int hungerMod) {
-        this.hungerMod = hungerMod;
+        table.setModifier(row, HUNGER, hungerMod);
     }
 
     public void setHealthMod(int healthMod) {
-        this.healthMod = healthMod;
+        table.setModifier(row, HEALTH, healthMod);
     }
     /**
      * Sets the modifier affecting the pet's energy stat.
@@ -297,11 +476,11 @@ public class VitalStats {
      * @param energyMod The new energy modifier value.
      */
     public void setEnergyMod(int energyMod) {
-        this.energyMod = energyMod;
+        table.setModifier(row, ENERGY, energyMod);
     }
 
     public void setHappinessMod(int happinessMod) {
-        this.happinessMod = happinessMod;
+        table.setModifier(row, HAPPINESS, happinessMod);
     }
     // Methods to get and set pet states
     /**
@@ -313,7 +492,11 @@ public class VitalStats {
      * @return A copy of the pet state array.
      */
     public int[] getState() {
-        return petState.clone();
+        int[] state = new int[4];
+        for (int i = HUNGER; i <= HEALTH; i++) {
+            state[i] = getVitalState(i);
+        }
+        return state;
     }
 
     /**
@@ -324,7 +507,15 @@ public class VitalStats {
      */
     @JsonProperty("state")
     public void setState(int[] state) {
-        System.arraycopy(state, 0, petState, 0, Math.min(state.length, petState.length));
+        int criticalFlags = table.getCriticalFlags(row);
+        for (int i = 0; i < Math.min(state.length, 4); i++) {
+            if (state[i] != 0) {
+                criticalFlags |= 1 << i;
+            } else {
+                criticalFlags &= ~(1 << i);
+            }
+        }
+        table.setCriticalFlags(row, criticalFlags);
     }
 
     /**
@@ -335,100 +526,95 @@ public class VitalStats {
      * @return The state of the stat (0 = OK, 1 = Critical).
      */
     public int getVitalState(int index) {
-        return petState[index];
-    }
-
-    // Update petState array based on the stat value
-    private void updatePetState(int index, int newValue) {
-        // Handle critical state
-        if (index == 2) { // Handle energy-specific logic
-            System.out.println(getStatName(index) + " is currently: " + newValue);
-            if (newValue == 0 && petState[index] == 0) {
-                petState[index] = 1; // Set to critical state when energy first drops to 0
-                System.out.println(getStatName(index) + " has dropped to 0! Entering critical state.");
-            } else if (newValue == 100 && petState[index] == 1) {
-                petState[index] = 0; // Exit critical state when energy fully restores to 100
-                System.out.println(getStatName(index) + " is fully restored to 100! Exiting critical state.");
-            }
-            return; // Exit after handling energy
+        if (index < HUNGER || index > HEALTH) {
+            throw new ArrayIndexOutOfBoundsException(index);
         }
+        return table.isCritical(row, index) ? 1 : 0;
+    }
 
-        // Handle other stats
-        if (newValue <= CRITICAL_THRESHOLD[index]) {
-            petState[index] = 1; // Critical state
-            System.out.println(getStatName(index) + " is critically low! Current value: " + newValue);
-        } else {
-            petState[index] = 0; // Normal state
-            System.out.println(getStatName(index) + " is no longer critically low! Current value: " + newValue);
+    // Set a stat through the table, then notify observers if it changed
+    private void set(int index, int value) {
+        int previousFlags = table.getCriticalFlags(row);
+        if (table.set(row, index, value)) {
+            logState(index, previousFlags);
+            publish(1 << index);
         }
+    }
 
-
-    // Reset all modifiers first
-        int totalHealthMod = 0;
-        int totalEnergyMod = 0;
-        int totalHungerMod = 0;
-        int totalHappinessMod = 0;
-
-        // Get current values
-        int currentHunger = hunger.get();
-        int currentHappiness = happiness.get();
-        int currentEnergy = energy.get();
-        int currentHealth = health.get();
-
-        // Hunger effects
-        if (currentHunger <= 50) {
-            // Hunger affects energy more when there's a big difference
-            if (currentHunger + 20 < currentEnergy) {
-                totalEnergyMod += 3;    // Significant energy drain when hungry
-            }
-            // Hunger affects happiness when there's a difference
-            if (currentHunger + 15 < currentHappiness) {
-                totalHappinessMod += 2; // Being hungry makes you unhappy
-            }
-            // Only affect health when critically low
-            if (currentHunger <= 20) {
-                totalHealthMod += 1;    // Malnutrition starts affecting health
-            }
+    // Log the critical state transitions of a stat that changed
+    private void logState(int index, int previousFlags) {
+        int newValue = table.get(row, index);
+        boolean wasCritical = (previousFlags & (1 << index)) != 0;
+        boolean critical = table.isCritical(row, index);
+        LOG.trace(() -> getStatName(index) + " is currently: " + newValue);
+        if (critical == wasCritical) {
+            return;
         }
-        
-        // Happiness effects
-        if (currentHappiness <= 50) {
-            // Happiness primarily affects energy when there's a big gap
-            if (currentHappiness + 25 < currentEnergy) {
-                totalEnergyMod += 2;    // Depression drains energy
+        if (index == ENERGY) {
+            if (critical) {
+                LOG.debug(() -> getStatName(index) + " has dropped to 0! Entering critical state.");
+            } else {
+                LOG.debug(() -> getStatName(index) + " is fully restored to 100! Exiting critical state.");
             }
+        } else if (critical) {
+            LOG.debug(() -> getStatName(index) + " is critically low! Current value: " + newValue);
+        } else {
+            LOG.debug(() -> getStatName(index) + " is no longer critically low! Current value: " + newValue);
         }
-        
-        // Energy effects
-        if (currentEnergy <= 50) {
-            // Energy primarily affects happiness when there's a significant difference
-            if (currentEnergy + 20 < currentHappiness) {
-                totalHappinessMod += 2; // Being tired makes you grumpy
-            }
+    }
+
+    // Publish a change made through this view, which also counts as an edit
+    private void publish(int changed) {
+        publishValues(changed);
+        editCount++;
+        if (edits != null) {
+            edits.set(editCount);
         }
-        
-        // Health effects - affects everything when low
-        if (currentHealth <= 50) {
-            // Health affects all stats more severely when there's a big difference
-            if (currentHealth + 30 < currentEnergy) {
-                totalEnergyMod += 3;    // Poor health severely affects energy
-            }
-            if (currentHealth + 25 < currentHappiness) {
-                totalHappinessMod += 2; // Being sick makes you unhappy
-            }
-            if (currentHealth + 20 < currentHunger) {
-                totalHungerMod += 2;    // Sickness affects appetite
+    }
+
+    // Update the properties of the changed stats, then the revision
+    private void publishValues(int changed) {
+        if (properties != null) {
+            publishing = true;
+            try {
+                for (int i = HUNGER; i <= HEALTH; i++) {
+                    if ((changed & (1 << i)) != 0 && properties[i] != null) {
+                        properties[i].set(table.get(row, i));
+                    }
+                }
+            } finally {
+                publishing = false;
             }
         }
-
-        // Apply accumulated modifiers
-        setHealthMod(totalHealthMod);
-        setEnergyMod(totalEnergyMod);
-        setHungerMod(totalHungerMod);
-        setHappinessMod(totalHappinessMod);
+        revisionCount++;
+        if (revision != null) {
+            revision.set(revisionCount);
+        }
     }
 
-
+    // Create the property of a stat on first request; values set on it go through the stat setter
+    private IntegerProperty property(int index) {
+        if (properties == null) {
+            properties = new IntegerProperty[4];
+        }
+        if (properties[index] == null) {
+            IntegerProperty property = new SimpleIntegerProperty(table.get(row, index));
+            property.addListener((observable, oldValue, newValue) -> {
+                if (!publishing) {
+                    set(index, newValue.intValue());
+                    // Show the clamped value, or the unchanged one if the table did not change
+                    publishing = true;
+                    try {
+                        property.set(table.get(row, index));
+                    } finally {
+                        publishing = false;
+                    }
+                }
+            });
+            properties[index] = property;
+        }
+        return properties[index];
+    }
 
     // Helper to get the stat name from the index
     private String getStatName(int index) {
@@ -446,22 +632,49 @@ public class VitalStats {
         }
     }
 
-    // Clamp method to ensure values stay within range
-    private int clampValue(int value) {
-        return Math.max(0, Math.min(100, value));
-    }
-
     /**
      * Restores all stats to their maximum values and resets pet states.
      */
     public void restoreAll() {
-        suppressListeners = true; // Suppress listeners to avoid redundant updates
-        setHealth(100);
-        setEnergy(100);
-        setHunger(100);
-        setHappiness(100);
-        suppressListeners = false; // Re-enable listeners
-        Arrays.fill(petState, 0); // Reset all states to normal
+        for (int i = HUNGER; i <= HEALTH; i++) {
+            table.setRaw(row, i, 100);
+        }
+        table.setCriticalFlags(row, 0); // Reset all states to normal
+        publish(0xF);
+    }
+
+    /**
+     * Overwrites all stats, modifiers and states at once without re-evaluating the states.
+     * Used by {@link SimulationEngine} to publish the result of a simulated tick
+     * and by the binary save codec to restore a saved pet exactly.
+     *
+     * @param criticalFlags Bit mask of critical stats, bit i matching index i of {@link #getState()}.
+     */
+    public void restore(int hungerValue, int happinessValue, int energyValue, int healthValue,
+                 int hungerMod, int happinessMod, int energyMod, int healthMod, int criticalFlags) {
+        table.setRaw(row, HUNGER, hungerValue);
+        table.setRaw(row, HAPPINESS, happinessValue);
+        table.setRaw(row, ENERGY, energyValue);
+        table.setRaw(row, HEALTH, healthValue);
+        table.setModifier(row, HUNGER, hungerMod);
+        table.setModifier(row, HAPPINESS, happinessMod);
+        table.setModifier(row, ENERGY, energyMod);
+        table.setModifier(row, HEALTH, healthMod);
+        table.setCriticalFlags(row, criticalFlags);
+        publish(0xF);
+    }
+
+    /**
+     * Creates a copy of these stats, including modifiers and states.
+     *
+     * @return An independent copy of the stats.
+     */
+    public VitalStats copy() {
+        VitalStats copy = new VitalStats();
+        copy.restore(getHunger(), getHappiness(), getEnergy(), getHealth(),
+                getHungerMod(), getHappinessMod(), getEnergyMod(), getHealthMod(), table.getCriticalFlags(row));
+        copy.alive = alive;
+        return copy;
     }
 
     /**
@@ -471,7 +684,7 @@ public class VitalStats {
      */
     @JsonProperty("alive")
     public boolean isAlive() {
-        return health.get() > 0;
+        return getHealth() > 0;
     }
 
     /**
@@ -483,7 +696,7 @@ public class VitalStats {
     public void setAlive(boolean alive) {
         this.alive = alive;
         // If setting to true, ensure health is above 0
-        if (alive && health.get() <= 0) {
+        if (alive && getHealth() <= 0) {
             setHealth(1);
         }
     }
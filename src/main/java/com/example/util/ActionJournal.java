@@ -0,0 +1,559 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Inventory;
+import com.example.model.Pet;
+import com.example.model.VitalStats;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of the care actions of each save slot.
+ * Between two full saves, each action only appends a small fixed-size record to {@code <slot>.journal};
+ * loading a slot replays the journal on top of the last snapshot, so progress survives a crash without
+ * rewriting the whole save after every click.
+ * <p>
+ * Records are physical: each one holds the stats, inventory, score and play time of the pet right after the
+ * action, so replaying a record twice, or replaying records older than the snapshot, is harmless as long as
+ * the newest record is applied last. Every snapshot written by {@link SaveService} first appends a checkpoint
+ * of the saved state and then drops the records it covers.
+ * <p>
+ * Appends never block: records are queued for a single writer thread that writes every record queued since
+ * its last pass in one write per journal followed by one {@code force} (group commit). Once a journal passes
+ * {@link #COMPACT_THRESHOLD_BYTES}, a compaction folds it into a fresh snapshot in the background.
+ * <p>
+ * Implements the Singleton pattern so every screen appends to the same journals.
+ */
+public final class ActionJournal {
+
+    private static final Log LOG = Log.getLog(ActionJournal.class);
+
+    /**
+     * What caused a journal record.
+     */
+    public enum Action {
+        FEED, PLAY, GIFT, EXERCISE, VET, SLEEP, BUY,
+        /** State saved by a full snapshot. */
+        CHECKPOINT
+    }
+
+    // Journal size past which it is folded into the snapshot, about a thousand records
+    static final long COMPACT_THRESHOLD_BYTES = 64 * 1024;
+
+    static final String EXTENSION = ".journal";
+
+    // sequence, action, time, 4 stats, 4 modifiers, critical flags, 4 items, score, play time
+    static final int PAYLOAD_BYTES = 8 + 1 + 8 + 4 + 4 + 1 + 4 * 4 + 4 + 8;
+
+    // Payload length and CRC32 of the payload before each payload
+    static final int RECORD_BYTES = 4 + 4 + PAYLOAD_BYTES;
+
+    private static ActionJournal instance;
+
+    private final Path directory;
+    private final long compactThreshold;
+
+    // Folds a slot's journal into its snapshot; called from the writer thread
+    private final Function<String, CompletableFuture<?>> compactor;
+
+    // Journals touched in this run, keyed by save name; guarded by itself
+    private final Map<String, Journal> journals = new HashMap<>();
+
+    private final BlockingQueue<Command> commands = new LinkedBlockingQueue<>();
+
+    // Writer thread, started with the first command
+    private Thread writerThread;
+
+    /**
+     * The journal of one slot. The sequence is assigned by appending threads under the
+     * {@code journals} lock; the channel and size are only used by the writer thread.
+     * <p>
+     * The last sequence number of the file is learned when the slot is loaded ({@link #replay}), so appending
+     * never reads the file. Records appended to a slot that was not loaded in this run number from 1, and the
+     * older records of its file, which cannot belong to the state being journaled, are dropped when the writer
+     * opens it.
+     */
+    private static final class Journal {
+        private final String saveName;
+        private final Path path;
+        private long lastSequence;
+        private boolean sequenceKnown;
+        private boolean discardOnOpen;
+        private FileChannel channel;
+        private long size;
+        private volatile boolean compacting;
+
+        private Journal(String saveName, Path path) {
+            this.saveName = saveName;
+            this.path = path;
+        }
+    }
+
+    private enum CommandType { APPEND, TRUNCATE, DELETE, BARRIER }
+
+    /**
+     * Work queued for the writer thread, processed in order.
+     */
+    private record Command(CommandType type, Journal journal, byte[] record, long through,
+                           CompletableFuture<Void> done) {
+    }
+
+    /**
+     * Constructs a journal set.
+     *
+     * @param directory        The directory holding the journal files.
+     * @param compactThreshold The journal size in bytes that triggers a compaction.
+     * @param compactor        Folds the journal of a save name into its snapshot.
+     */
+    ActionJournal(Path directory, long compactThreshold, Function<String, CompletableFuture<?>> compactor) {
+        this.directory = directory;
+        this.compactThreshold = compactThreshold;
+        this.compactor = compactor;
+    }
+
+    /**
+     * Gets the shared journal, creating it on first use. Journals live next to the save files.
+     *
+     * @return The shared {@code ActionJournal}.
+     */
+    public static synchronized ActionJournal getInstance() {
+        if (instance == null) {
+            instance = new ActionJournal(Paths.get(FileHandler.SAVES_DIR), COMPACT_THRESHOLD_BYTES,
+                    saveName -> SaveService.getInstance().compact(saveName));
+        }
+        return instance;
+    }
+
+    /**
+     * Appends a record of the pet's current state. Never blocks on disk I/O: the record is encoded now and
+     * written by the writer thread with the records appended around the same time.
+     *
+     * @param saveName The name of the save (without extension).
+     * @param action   What changed the pet.
+     * @param pet      The pet, read on the calling thread.
+     * @return The sequence number of the record, increasing per save.
+     */
+    public long append(String saveName, Action action, Pet pet) {
+        Journal journal;
+        long sequence;
+        synchronized (journals) {
+            journal = journal(saveName);
+            if (!journal.sequenceKnown) {
+                journal.sequenceKnown = true;
+                journal.discardOnOpen = true;
+            }
+            sequence = ++journal.lastSequence;
+        }
+        byte[] record = encode(sequence, action, System.currentTimeMillis(), pet);
+        submit(new Command(CommandType.APPEND, journal, record, 0, null));
+        return sequence;
+    }
+
+    /**
+     * Drops the records up to a sequence number once a snapshot covering them is on disk.
+     *
+     * @param saveName The name of the save (without extension).
+     * @param through  The sequence number of the last record included in the snapshot.
+     * @return A future completed when the journal is rewritten.
+     */
+    public CompletableFuture<Void> truncate(String saveName, long through) {
+        Journal journal;
+        synchronized (journals) {
+            journal = journal(saveName);
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        submit(new Command(CommandType.TRUNCATE, journal, null, through, done));
+        return done;
+    }
+
+    /**
+     * Deletes the journal of a save, after the records queued before it are written.
+     *
+     * @param saveName The name of the save (without extension).
+     * @return A future completed when the file is gone.
+     */
+    public CompletableFuture<Void> delete(String saveName) {
+        Journal journal;
+        synchronized (journals) {
+            journal = journal(saveName);
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        submit(new Command(CommandType.DELETE, journal, null, 0, done));
+        return done;
+    }
+
+    /**
+     * Waits until every record appended so far is on disk.
+     *
+     * @param timeoutMillis The maximum time to wait, in milliseconds.
+     * @return {@code true} if all records were written in time, {@code false} otherwise.
+     */
+    public boolean flush(long timeoutMillis) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        submit(new Command(CommandType.BARRIER, null, null, 0, done));
+        try {
+            done.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (Exception e) {
+            LOG.warn("Pending journal records were not flushed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Applies the records of a save's journal to a game state loaded from its snapshot, oldest first.
+     * Stops at the first torn or corrupt record, which can only be the tail of an interrupted write.
+     * The saved time moves to the time of the last record, so offline catch-up starts from there.
+     * Records appended afterwards continue the sequence of the file.
+     *
+     * @param saveName The name of the save (without extension).
+     * @param state    The game state to update.
+     * @return The sequence number of the last record applied, or 0 if none was.
+     * @throws IOException if the journal exists but cannot be read.
+     */
+    public long replay(String saveName, GameState state) throws IOException {
+        Path path = pathOf(saveName);
+        if (state.getPet() == null) {
+            return 0;
+        }
+        if (!Files.exists(path)) {
+            continueSequence(saveName, 0);
+            return 0;
+        }
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(path));
+        long lastSequence = 0;
+        long lastTime = 0;
+        ByteBuffer payload;
+        while ((payload = nextPayload(data)) != null) {
+            lastSequence = payload.getLong();
+            payload.get(); // action, only kept for diagnostics
+            lastTime = payload.getLong();
+            apply(payload, state.getPet());
+        }
+        continueSequence(saveName, lastSequence);
+        if (lastSequence > 0) {
+            state.setSavedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(lastTime), ZoneId.systemDefault()));
+            long replayed = lastSequence;
+            LOG.debug(() -> "Replayed " + saveName + " journal through record " + replayed);
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Gets the size of a save's journal on disk.
+     *
+     * @param saveName The name of the save (without extension).
+     * @return The size in bytes, 0 if there is no journal.
+     * @throws IOException if the size cannot be read.
+     */
+    public long size(String saveName) throws IOException {
+        Path path = pathOf(saveName);
+        return Files.exists(path) ? Files.size(path) : 0;
+    }
+
+    /**
+     * Stops the writer thread after the records already queued are written.
+     */
+    public void close() {
+        flush(5000);
+        synchronized (this) {
+            if (writerThread != null) {
+                writerThread.interrupt();
+                writerThread = null;
+            }
+        }
+    }
+
+    private Path pathOf(String saveName) {
+        return directory.resolve(saveName + EXTENSION);
+    }
+
+    // Called with the journals lock held; never touches the file
+    private Journal journal(String saveName) {
+        return journals.computeIfAbsent(saveName, name -> new Journal(name, pathOf(name)));
+    }
+
+    // Numbers the next records after the last one read from the file, unless this run already numbered some
+    private void continueSequence(String saveName, long lastSequence) {
+        synchronized (journals) {
+            Journal journal = journal(saveName);
+            if (!journal.sequenceKnown) {
+                journal.sequenceKnown = true;
+                journal.lastSequence = lastSequence;
+            }
+        }
+    }
+
+    private void submit(Command command) {
+        synchronized (this) {
+            if (writerThread == null) {
+                writerThread = new Thread(this::run, "journal-writer");
+                writerThread.setDaemon(true);
+                writerThread.start();
+            }
+        }
+        commands.add(command);
+    }
+
+    /**
+     * Writer thread: takes every command queued since the last pass and writes the appends of each journal
+     * with one write and one force. Other commands are processed in queue order between appends.
+     */
+    private void run() {
+        List<Command> batch = new ArrayList<>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(commands.take());
+                commands.drainTo(batch);
+                process(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (journals) {
+                for (Journal journal : journals.values()) {
+                    closeChannel(journal);
+                }
+            }
+        }
+    }
+
+    private void process(List<Command> batch) {
+        Map<Journal, ByteArrayOutputStream> group = new LinkedHashMap<>();
+        for (Command command : batch) {
+            if (command.type() == CommandType.APPEND) {
+                group.computeIfAbsent(command.journal(), journal -> new ByteArrayOutputStream())
+                        .writeBytes(command.record());
+                continue;
+            }
+            commit(group);
+            try {
+                if (command.type() == CommandType.TRUNCATE) {
+                    truncateNow(command.journal(), command.through());
+                } else if (command.type() == CommandType.DELETE) {
+                    closeChannel(command.journal());
+                    AtomicFileWriter.delete(command.journal().path);
+                }
+                command.done().complete(null);
+            } catch (IOException e) {
+                LOG.error("Failed to rewrite journal " + command.journal().path + ": " + e.getMessage());
+                command.done().completeExceptionally(e);
+            }
+        }
+        commit(group);
+    }
+
+    // Group commit: one write and one force per journal for all the records of the pass
+    private void commit(Map<Journal, ByteArrayOutputStream> group) {
+        for (Map.Entry<Journal, ByteArrayOutputStream> entry : group.entrySet()) {
+            Journal journal = entry.getKey();
+            try {
+                FileChannel channel = channel(journal);
+                ByteBuffer buffer = ByteBuffer.wrap(entry.getValue().toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+                journal.size = channel.position();
+            } catch (IOException e) {
+                // The next append reopens the file and cuts off whatever part of this write reached it
+                LOG.error("Failed to append to journal " + journal.path + ": " + e.getMessage());
+                closeChannel(journal);
+                continue;
+            }
+            if (journal.size > compactThreshold && !journal.compacting) {
+                journal.compacting = true;
+                compactor.apply(journal.saveName).whenComplete((ignored, error) -> journal.compacting = false);
+            }
+        }
+        group.clear();
+    }
+
+    // Opens the journal for appending, dropping a torn tail left by an interrupted write, or the whole
+    // file if it was not loaded before the first append
+    private FileChannel channel(Journal journal) throws IOException {
+        if (journal.channel == null) {
+            boolean discard;
+            synchronized (journals) {
+                discard = journal.discardOnOpen;
+                journal.discardOnOpen = false;
+            }
+            Files.createDirectories(directory);
+            FileChannel channel = FileChannel.open(journal.path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long validBytes = 0;
+            if (discard) {
+                if (channel.size() > 0) {
+                    LOG.debug(() -> "Dropping the records of " + journal.saveName + " older than its new state");
+                }
+            } else {
+                ByteBuffer data = ByteBuffer.allocate((int) channel.size());
+                while (data.hasRemaining() && channel.read(data, data.position()) > 0) {
+                    // read the whole file
+                }
+                data.flip();
+                validBytes = validLength(data);
+            }
+            channel.truncate(validBytes);
+            channel.position(validBytes);
+            journal.channel = channel;
+            journal.size = validBytes;
+        }
+        return journal.channel;
+    }
+
+    private void truncateNow(Journal journal, long through) throws IOException {
+        closeChannel(journal);
+        if (!Files.exists(journal.path)) {
+            return;
+        }
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(journal.path));
+        ByteArrayOutputStream kept = new ByteArrayOutputStream();
+        int start = data.position();
+        ByteBuffer payload;
+        while ((payload = nextPayload(data)) != null) {
+            if (payload.getLong() > through) {
+                kept.write(data.array(), start, data.position() - start);
+            }
+            start = data.position();
+        }
+        if (kept.size() == 0) {
+            AtomicFileWriter.delete(journal.path);
+        } else {
+            AtomicFileWriter.write(journal.path, kept.toByteArray());
+        }
+    }
+
+    private static void closeChannel(Journal journal) {
+        if (journal.channel != null) {
+            try {
+                journal.channel.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close journal " + journal.path + ": " + e.getMessage());
+            }
+            journal.channel = null;
+        }
+    }
+
+    /**
+     * Encodes a record: payload length, CRC32 of the payload, then the payload.
+     */
+    static byte[] encode(long sequence, Action action, long timeMillis, Pet pet) {
+        VitalStats stats = pet.getStats();
+        Inventory inventory = pet.getInventory();
+        int[] state = stats.getState();
+        int criticalFlags = 0;
+        for (int i = 0; i < state.length; i++) {
+            criticalFlags |= (state[i] & 1) << i;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        buffer.putInt(PAYLOAD_BYTES);
+        buffer.putInt(0); // CRC, filled in below
+        buffer.putLong(sequence);
+        buffer.put((byte) action.ordinal());
+        buffer.putLong(timeMillis);
+        buffer.put((byte) stats.getHunger());
+        buffer.put((byte) stats.getHappiness());
+        buffer.put((byte) stats.getEnergy());
+        buffer.put((byte) stats.getHealth());
+        buffer.put((byte) stats.getHungerMod());
+        buffer.put((byte) stats.getHappinessMod());
+        buffer.put((byte) stats.getEnergyMod());
+        buffer.put((byte) stats.getHealthMod());
+        buffer.put((byte) criticalFlags);
+        buffer.putInt(inventory.getItem1());
+        buffer.putInt(inventory.getItem2());
+        buffer.putInt(inventory.getItem3());
+        buffer.putInt(inventory.getItem4());
+        buffer.putInt(pet.getScore());
+        buffer.putLong(pet.getTotalTimeSpent());
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 8, PAYLOAD_BYTES);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    // Reads the fields after the sequence, action and time of a payload into the pet
+    private static void apply(ByteBuffer payload, Pet pet) {
+        int hunger = payload.get();
+        int happiness = payload.get();
+        int energy = payload.get();
+        int health = payload.get();
+        int hungerMod = payload.get();
+        int happinessMod = payload.get();
+        int energyMod = payload.get();
+        int healthMod = payload.get();
+        int criticalFlags = payload.get() & 0xFF;
+        pet.getStats().restore(hunger, happiness, energy, health,
+                hungerMod, happinessMod, energyMod, healthMod, criticalFlags);
+        Inventory inventory = pet.getInventory();
+        inventory.setItem1(payload.getInt());
+        inventory.setItem2(payload.getInt());
+        inventory.setItem3(payload.getInt());
+        inventory.setItem4(payload.getInt());
+        pet.setScore(payload.getInt());
+        pet.resetTotalTimeSpent();
+        pet.addTimeSpent(payload.getLong());
+    }
+
+    /**
+     * Reads the next valid record and moves past it.
+     *
+     * @return A view of its payload, or {@code null} at the end of the data or at a torn or corrupt record.
+     */
+    private static ByteBuffer nextPayload(ByteBuffer data) {
+        if (data.remaining() < 8) {
+            return null;
+        }
+        int start = data.position();
+        int length = data.getInt(start);
+        int crcValue = data.getInt(start + 4);
+        if (length < PAYLOAD_BYTES || length > data.remaining() - 8) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data.array(), data.arrayOffset() + start + 8, length);
+        if ((int) crc.getValue() != crcValue) {
+            return null;
+        }
+        data.position(start + 8 + length);
+        // Fields added by later versions follow the known ones and are skipped
+        return data.slice(start + 8, length);
+    }
+
+    /**
+     * Finds the end of the last valid record.
+     *
+     * @return The number of bytes up to the end of the last valid record, 0 if there is none.
+     */
+    private static long validLength(ByteBuffer data) {
+        while (nextPayload(data) != null) {
+            // skip to the first torn or corrupt record
+        }
+        return data.position();
+    }
+}
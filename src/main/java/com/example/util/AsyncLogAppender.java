@@ -0,0 +1,116 @@
+package com.example.util;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes log messages on a background thread.
+ * Callers only enqueue a small record; formatting and console output happen on the
+ * {@code log-writer} thread, which writes messages in batches. When the queue is full,
+ * new messages are dropped and the number of dropped messages is reported later.
+ */
+class AsyncLogAppender {
+
+    // Maximum number of messages waiting to be written
+    private static final int CAPACITY = 4096;
+
+    // Maximum number of messages written per batch
+    private static final int BATCH_SIZE = 256;
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    /**
+     * A message waiting to be written.
+     */
+    private record Entry(long timestamp, Log.Level level, String thread, String logger, String message, Throwable error) {
+    }
+
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private final PrintStream out;
+    private final PrintStream err;
+
+    // Messages dropped because the queue was full
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Messages enqueued and written so far, used by flush()
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+
+    /**
+     * Creates an appender writing INFO and below to {@code out}, WARN and above to {@code err}.
+     */
+    AsyncLogAppender(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+        Thread writer = new Thread(this::run, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "log-flush"));
+    }
+
+    /**
+     * Queues a message. Never blocks.
+     */
+    void append(Log.Level level, String logger, String message, Throwable error) {
+        Entry entry = new Entry(System.currentTimeMillis(), level, Thread.currentThread().getName(), logger, message, error);
+        if (queue.offer(entry)) {
+            enqueued.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits, up to one second, until every message queued so far has been written.
+     */
+    void flush() {
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (written.get() < target && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                err.println(TIME_FORMAT.format(Instant.now()) + " WARN  [log-writer] Log - " + lost + " log messages dropped");
+            }
+            for (Entry entry : batch) {
+                write(entry);
+            }
+            out.flush();
+            err.flush();
+            written.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+
+    private void write(Entry entry) {
+        PrintStream target = entry.level().compareTo(Log.Level.WARN) >= 0 ? err : out;
+        target.println(TIME_FORMAT.format(Instant.ofEpochMilli(entry.timestamp())) + " "
+                + String.format("%-5s", entry.level()) + " [" + entry.thread() + "] "
+                + entry.logger() + " - " + entry.message());
+        if (entry.error() != null) {
+            entry.error().printStackTrace(target);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utility class for crash-safe file replacement.
+ * Data is written to a temporary file, forced to disk, and atomically moved over the target,
+ * so a reader only ever sees the old or the new content. The previous content is kept as a
+ * {@code .bak} generation for rollback.
+ * <p>
+ * The new content is always forced to disk before the rename, so a crash never leaves a renamed but
+ * unflushed file behind. Only the sync of the directory entry is coalesced: repeated writes of the same
+ * file within {@link #SYNC_WINDOW_MILLIS} share one, made immediately for the first write and once at
+ * the end of the window for the later ones.
+ */
+public final class AtomicFileWriter {
+
+    // Writes to the same file closer together than this share one directory sync
+    static final long SYNC_WINDOW_MILLIS = 1000;
+
+    // Suffixes of the temporary file and the previous generation
+    static final String TEMP_SUFFIX = ".tmp";
+    static final String BACKUP_SUFFIX = ".bak";
+
+    // Time of the last directory sync per target file, in System.nanoTime() units
+    private static final Map<Path, Long> lastSyncNanos = new ConcurrentHashMap<>();
+
+    // Targets waiting for a deferred directory sync
+    private static final Map<Path, Boolean> pendingSyncs = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private AtomicFileWriter() {
+    }
+
+    /**
+     * Atomically replaces the target file with the given bytes.
+     *
+     * @param target The file to write.
+     * @param data   The complete new content.
+     * @return The time the write took, in nanoseconds.
+     * @throws IOException if the data could not be written or moved into place.
+     */
+    public static long write(Path target, byte[] data) throws IOException {
+        long start = System.nanoTime();
+        Path absolute = target.toAbsolutePath();
+        Path temp = siblingWithSuffix(absolute, TEMP_SUFFIX);
+        boolean syncNow = claimSync(absolute, start);
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        keepPreviousGeneration(absolute);
+        try {
+            Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        if (syncNow) {
+            syncDirectory(absolute.getParent());
+        } else {
+            scheduleSync(absolute);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Returns the previous generation of a file written by {@link #write(Path, byte[])}.
+     *
+     * @param target The file.
+     * @return The path of its backup, which may not exist.
+     */
+    public static Path backupOf(Path target) {
+        return siblingWithSuffix(target, BACKUP_SUFFIX);
+    }
+
+    /**
+     * Deletes a file together with its backup and any leftover temporary file.
+     *
+     * @param target The file to delete.
+     * @throws IOException if a file could not be deleted.
+     */
+    public static void delete(Path target) throws IOException {
+        Files.deleteIfExists(target);
+        Files.deleteIfExists(backupOf(target));
+        Files.deleteIfExists(siblingWithSuffix(target, TEMP_SUFFIX));
+        lastSyncNanos.remove(target.toAbsolutePath());
+        pendingSyncs.remove(target.toAbsolutePath());
+    }
+
+    /**
+     * Checks whether a directory sync is still scheduled for a file.
+     */
+    static boolean isSyncPending(Path target) {
+        return pendingSyncs.containsKey(target.toAbsolutePath());
+    }
+
+    /**
+     * Decides whether this write syncs the directory immediately, i.e. no sync happened for the target
+     * within the coalescing window.
+     */
+    private static boolean claimSync(Path target, long now) {
+        Long last = lastSyncNanos.get(target);
+        if (last != null && now - last < TimeUnit.MILLISECONDS.toNanos(SYNC_WINDOW_MILLIS)) {
+            return false;
+        }
+        lastSyncNanos.put(target, now);
+        return true;
+    }
+
+    /**
+     * Schedules one directory sync at the end of the current window; later writes in the same window
+     * are covered by it. The content of each write is already on disk.
+     */
+    private static void scheduleSync(Path target) {
+        if (pendingSyncs.putIfAbsent(target, Boolean.TRUE) != null) {
+            return;
+        }
+        syncScheduler.schedule(() -> {
+            if (pendingSyncs.remove(target) == null) {
+                return; // Deleted in the meantime
+            }
+            lastSyncNanos.put(target, System.nanoTime());
+            syncDirectory(target.getParent());
+        }, SYNC_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Keeps the current content of the target as its backup, using a hard link when possible.
+     */
+    private static void keepPreviousGeneration(Path target) throws IOException {
+        if (!Files.exists(target)) {
+            return;
+        }
+        Path backup = backupOf(target);
+        Files.deleteIfExists(backup);
+        try {
+            Files.createLink(backup, target);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(target, backup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry changes (the rename) to disk where the platform supports it.
+     */
+    private static void syncDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException ignored) {
+            // Not supported on every platform (e.g. Windows); the file itself is already synced
+        }
+    }
+
+    private static Path siblingWithSuffix(Path target, String suffix) {
+        return target.resolveSibling(target.getFileName() + suffix);
+    }
+}
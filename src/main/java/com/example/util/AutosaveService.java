@@ -0,0 +1,229 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Inventory;
+import com.example.model.Pet;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Saves the game state being played in the background, but only when the pet was cared for since the last save.
+ * The edits of the stats and the inventory of the pet are observed and bump a version counter; the decay of the
+ * stats, the score and the play time only grow with time, so they do not make the state dirty. A {@link GameClock}
+ * subsystem checks the state every {@link #getIntervalSeconds()} seconds and queues a snapshot on the
+ * {@link SaveService} if it is dirty. Nothing is written while the pet is idle or the game is paused, so the data
+ * lost on a crash is bounded by the interval without writing the same state over and over.
+ * <p>
+ * These snapshots are what bounds the progress lost on a crash: the {@link ActionJournal} only records the
+ * care actions taken between two of them, and decay is caught up from the time of the last one on load.
+ * Leaving the game {@link #flush() flushes} the time-driven progress too, so score and play time are only
+ * lost on a crash.
+ * <p>
+ * Used from the JavaFX application thread only. Implements the Singleton pattern so every scene
+ * flushes the same state.
+ */
+public final class AutosaveService {
+
+    private static final Log LOG = Log.getLog(AutosaveService.class);
+
+    /** Default time between two autosaves of a changing game, in seconds. */
+    public static final int DEFAULT_INTERVAL_SECONDS = 30;
+
+    private static AutosaveService instance;
+
+    private final SaveService saveService;
+    private final GameClock clock;
+
+    private int intervalSeconds = DEFAULT_INTERVAL_SECONDS;
+
+    // The watched game, null while none is
+    private String saveName;
+    private GameState state;
+    private Pet pet;
+
+    // Bumped by every observed change; dirty while it differs from the version last saved
+    private long version;
+    private long savedVersion;
+    // Time-driven progress last saved, written by flush() but not by the periodic check
+    private int savedRevision;
+    private int savedScore;
+    private long savedTimeSpent;
+
+    // Set by the save thread when a queued save failed, so the next check retries
+    private volatile boolean saveFailed;
+
+    private GameClock.Registration registration;
+
+    private final ChangeListener<Number> onChange = (observable, oldValue, newValue) -> version++;
+
+    /**
+     * Constructs an autosave service.
+     *
+     * @param saveService The service writing the snapshots.
+     * @param clock       The clock driving the periodic checks.
+     */
+    AutosaveService(SaveService saveService, GameClock clock) {
+        this.saveService = saveService;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the shared autosave service, creating it on first use.
+     *
+     * @return The shared {@code AutosaveService}.
+     */
+    public static synchronized AutosaveService getInstance() {
+        if (instance == null) {
+            instance = new AutosaveService(SaveService.getInstance(), GameClock.getInstance());
+        }
+        return instance;
+    }
+
+    /**
+     * Starts autosaving a game state. The state as it is now counts as saved.
+     * If the same pet is already watched, only the clock subsystem is registered again,
+     * so changes made while the clock was reset still count.
+     *
+     * @param saveName The name of the save (without extension).
+     * @param state    The game state being played.
+     */
+    public void start(String saveName, GameState state) {
+        Pet statePet = state.getPet();
+        if (statePet == null) {
+            return;
+        }
+        if (statePet != pet || !saveName.equals(this.saveName)) {
+            stop();
+            watch(saveName, state, statePet);
+        }
+        if (registration == null || registration.isCancelled()) {
+            registration = clock.register("autosave", intervalSeconds, false, this::saveIfDirty);
+        }
+    }
+
+    /**
+     * Saves the watched state if it changed, then stops watching it.
+     */
+    public void stop() {
+        flush();
+        if (registration != null) {
+            registration.cancel();
+            registration = null;
+        }
+        if (pet != null) {
+            for (ObservableValue<Number> observed : observed(pet)) {
+                observed.removeListener(onChange);
+            }
+        }
+        saveName = null;
+        state = null;
+        pet = null;
+    }
+
+    /**
+     * Saves the watched state now if it changed since the last save, e.g. before leaving a scene.
+     * Unlike the periodic check, decay, score and play time count as changes.
+     *
+     * @return A future completed when the save is written, already completed if nothing changed.
+     */
+    public CompletableFuture<Void> flush() {
+        return isDirty() || hasProgressed() ? save() : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Records that the watched state was just saved by someone else, such as a manual save.
+     */
+    public void markSaved() {
+        if (pet != null) {
+            savedVersion = version;
+            savedRevision = pet.getStats().revisionProperty().get();
+            savedScore = pet.getScore();
+            savedTimeSpent = pet.getTotalTimeSpent();
+            saveFailed = false;
+        }
+    }
+
+    /**
+     * Checks whether the pet was cared for since the watched state was last saved.
+     * Decay, score and play time alone do not make the state dirty.
+     *
+     * @return {@code true} if a save is due.
+     */
+    public boolean isDirty() {
+        return pet != null && (saveFailed || version != savedVersion);
+    }
+
+    /**
+     * Gets the time between two autosaves.
+     *
+     * @return The interval in seconds.
+     */
+    public int getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    /**
+     * Sets the time between two autosaves, applied from the next {@link #start(String, GameState)}.
+     *
+     * @param intervalSeconds The interval in seconds.
+     * @throws IllegalArgumentException if the interval is not positive.
+     */
+    public void setIntervalSeconds(int intervalSeconds) {
+        if (intervalSeconds < 1) {
+            throw new IllegalArgumentException("Autosave interval must be at least 1 second: " + intervalSeconds);
+        }
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    /**
+     * Clock subsystem: queues a save if the state changed.
+     *
+     * @return {@code true} if a save was queued.
+     */
+    boolean saveIfDirty() {
+        if (!isDirty()) {
+            return false;
+        }
+        save();
+        return true;
+    }
+
+    // Whether time moved the state on since it was last saved
+    private boolean hasProgressed() {
+        return pet != null && (pet.getStats().revisionProperty().get() != savedRevision
+                || pet.getScore() != savedScore || pet.getTotalTimeSpent() != savedTimeSpent);
+    }
+
+    private void watch(String saveName, GameState state, Pet pet) {
+        this.saveName = saveName;
+        this.state = state;
+        this.pet = pet;
+        for (ObservableValue<Number> observed : observed(pet)) {
+            observed.addListener(onChange);
+        }
+        markSaved();
+    }
+
+    private static List<ObservableValue<Number>> observed(Pet pet) {
+        Inventory inventory = pet.getInventory();
+        return List.of(pet.getStats().editsProperty(),
+                inventory.item1Property(), inventory.item2Property(),
+                inventory.item3Property(), inventory.item4Property());
+    }
+
+    private CompletableFuture<Void> save() {
+        markSaved();
+        String name = saveName;
+        return saveService.save(name, state).whenComplete((ignored, error) -> {
+            if (error != null) {
+                saveFailed = true;
+                LOG.error("Autosave of " + name + " failed: " + error.getMessage());
+            } else {
+                LOG.debug(() -> "Autosaved " + name);
+            }
+        });
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Inventory;
+import com.example.model.Pet;
+import com.example.model.VitalStats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Compact, versioned binary encoding of a {@link GameState}.
+ * Carries the same fields as the JSON save, written with {@link DataOutputStream} in a fixed order:
+ * <pre>
+ * magic "PHSV" | version (byte) | flags (byte) | [savedAt] | [pet] | [stats]
+ * </pre>
+ * Readers recognize a binary save by its magic header, so JSON saves keep loading unchanged.
+ */
+public final class BinarySaveCodec {
+
+    // First bytes of every binary save; JSON saves always start with '{' or whitespace
+    private static final byte[] MAGIC = {'P', 'H', 'S', 'V'};
+
+    // Current format version, bumped whenever the field layout changes
+    static final int VERSION = 1;
+
+    // Game state flags
+    private static final int PARENT_CONTROLS_ENABLED = 1;
+    private static final int CONTROL_PARENT = 1 << 1;
+    private static final int HAS_SAVED_AT = 1 << 2;
+    private static final int HAS_PET = 1 << 3;
+    private static final int HAS_STATS = 1 << 4;
+
+    // Marks a missing LocalTime, which is otherwise stored as its nano-of-day
+    private static final long NO_TIME = -1;
+
+    private BinarySaveCodec() {
+    }
+
+    /**
+     * Checks whether the given data starts with the binary save header.
+     *
+     * @param data The raw content of a save file.
+     * @return {@code true} if the data is a binary save, {@code false} if it should be read as JSON.
+     */
+    public static boolean isBinary(byte[] data) {
+        if (data.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encodes a game state.
+     *
+     * @param state The {@link GameState} to encode.
+     * @return The encoded bytes, starting with the magic header.
+     * @throws IOException if the state cannot be encoded.
+     */
+    public static byte[] encode(GameState state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+
+        int flags = 0;
+        if (state.isParentControlsEnabled()) flags |= PARENT_CONTROLS_ENABLED;
+        if (state.getControlParent()) flags |= CONTROL_PARENT;
+        if (state.getSavedAt() != null) flags |= HAS_SAVED_AT;
+        if (state.getPet() != null) flags |= HAS_PET;
+        if (state.getStats() != null) flags |= HAS_STATS;
+        out.writeByte(flags);
+
+        if (state.getSavedAt() != null) {
+            out.writeLong(state.getSavedAt().toLocalDate().toEpochDay());
+            out.writeLong(state.getSavedAt().toLocalTime().toNanoOfDay());
+        }
+        if (state.getPet() != null) {
+            writePet(out, state.getPet());
+        }
+        if (state.getStats() != null) {
+            writeStats(out, state.getStats());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a game state written by {@link #encode(GameState)}.
+     *
+     * @param data The encoded bytes.
+     * @return The decoded {@link GameState}.
+     * @throws IOException if the data is not a binary save, has an unknown version, or is truncated.
+     */
+    public static GameState decode(byte[] data) throws IOException {
+        if (!isBinary(data)) {
+            throw new IOException("Not a binary save");
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, MAGIC.length, data.length - MAGIC.length));
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary save version " + version);
+        }
+
+        int flags = in.readUnsignedByte();
+        GameState state = new GameState();
+        state.setParentControlsEnabled((flags & PARENT_CONTROLS_ENABLED) != 0);
+        state.setControlParent((flags & CONTROL_PARENT) != 0);
+        state.setSavedAt(null);
+        if ((flags & HAS_SAVED_AT) != 0) {
+            LocalDate date = LocalDate.ofEpochDay(in.readLong());
+            state.setSavedAt(LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong())));
+        }
+        if ((flags & HAS_PET) != 0) {
+            state.setPet(readPet(in));
+        }
+        if ((flags & HAS_STATS) != 0) {
+            VitalStats stats = new VitalStats();
+            readStats(in, stats);
+            state.setStats(stats);
+        }
+        return state;
+    }
+
+    private static void writePet(DataOutputStream out, Pet pet) throws IOException {
+        writeString(out, pet.getName());
+        writeString(out, pet.getSpecies());
+        out.writeInt(pet.getSaveID());
+        writeStats(out, pet.getStats());
+        writeInventory(out, pet.getInventory());
+        out.writeInt(pet.getDefaultItem12());
+        out.writeInt(pet.getDefaultItem34());
+        out.writeInt(pet.getScore());
+        out.writeLong(pet.getTotalTimeSpent());
+        out.writeLong(pet.getTimeLimit());
+        out.writeLong(pet.getCurrentPlayTime());
+        out.writeLong(pet.getStartTime() != null ? pet.getStartTime().toNanoOfDay() : NO_TIME);
+        out.writeLong(pet.getEndTime() != null ? pet.getEndTime().toNanoOfDay() : NO_TIME);
+    }
+
+    private static Pet readPet(DataInputStream in) throws IOException {
+        String name = readString(in);
+        String species = readString(in);
+        Pet pet = new Pet(name, species, in.readInt());
+        readStats(in, pet.getStats());
+        readInventory(in, pet.getInventory());
+        pet.setDefaultItem12(in.readInt());
+        pet.setDefaultItem34(in.readInt());
+        pet.setScore(in.readInt());
+        pet.addTimeSpent(in.readLong());
+        pet.setTimeLimit(in.readLong());
+        pet.setCurrentPlayTime(in.readLong());
+        long startTime = in.readLong();
+        if (startTime != NO_TIME) {
+            pet.saveStartTime(LocalTime.ofNanoOfDay(startTime));
+        }
+        long endTime = in.readLong();
+        if (endTime != NO_TIME) {
+            pet.saveEndTime(LocalTime.ofNanoOfDay(endTime));
+        }
+        return pet;
+    }
+
+    private static void writeStats(DataOutputStream out, VitalStats stats) throws IOException {
+        out.writeByte(stats.getHunger());
+        out.writeByte(stats.getHappiness());
+        out.writeByte(stats.getEnergy());
+        out.writeByte(stats.getHealth());
+        out.writeByte(stats.getHungerMod());
+        out.writeByte(stats.getHappinessMod());
+        out.writeByte(stats.getEnergyMod());
+        out.writeByte(stats.getHealthMod());
+        int criticalFlags = 0;
+        int[] state = stats.getState();
+        for (int i = 0; i < state.length; i++) {
+            criticalFlags |= (state[i] & 1) << i;
+        }
+        out.writeByte(criticalFlags);
+        out.writeBoolean(stats.isAlive());
+    }
+
+    private static void readStats(DataInputStream in, VitalStats stats) throws IOException {
+        int hunger = in.readUnsignedByte();
+        int happiness = in.readUnsignedByte();
+        int energy = in.readUnsignedByte();
+        int health = in.readUnsignedByte();
+        int hungerMod = in.readByte();
+        int happinessMod = in.readByte();
+        int energyMod = in.readByte();
+        int healthMod = in.readByte();
+        int criticalFlags = in.readUnsignedByte();
+        stats.restore(hunger, happiness, energy, health, hungerMod, happinessMod, energyMod, healthMod, criticalFlags);
+        stats.setAlive(in.readBoolean());
+    }
+
+    private static void writeInventory(DataOutputStream out, Inventory inventory) throws IOException {
+        out.writeInt(inventory.getItem1());
+        out.writeInt(inventory.getItem2());
+        out.writeInt(inventory.getItem3());
+        out.writeInt(inventory.getItem4());
+    }
+
+    private static void readInventory(DataInputStream in, Inventory inventory) throws IOException {
+        inventory.setItem1(in.readInt());
+        inventory.setItem2(in.readInt());
+        inventory.setItem3(in.readInt());
+        inventory.setItem4(in.readInt());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
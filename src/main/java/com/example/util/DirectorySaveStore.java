@@ -0,0 +1,95 @@
+package com.example.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * {@link SaveStore} keeping one {@code <name>.json} file per save in a directory, the layout of earlier
+ * versions. Files are replaced through {@link AtomicFileWriter}, whose backup is the previous generation.
+ * Simple and easy to inspect, but listing needs a directory scan and every access opens a file;
+ * see {@link MappedSaveStore} for large numbers of saves.
+ */
+public final class DirectorySaveStore implements SaveStore {
+
+    // Extension of save files, whatever their encoding
+    static final String EXTENSION = ".json";
+
+    // Preferences share the saves directory but are not a save
+    private static final String PREFS_FILE = "preferences.json";
+
+    private final Path directory;
+
+    /**
+     * Constructs a store over a directory.
+     *
+     * @param directory The directory holding the save files.
+     */
+    public DirectorySaveStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the file holding a save.
+     *
+     * @param saveName The name of the save (without extension).
+     * @return The path of its file, which may not exist.
+     */
+    public Path pathOf(String saveName) {
+        return directory.resolve(saveName + EXTENSION);
+    }
+
+    @Override
+    public byte[] read(String saveName) throws IOException {
+        return Files.readAllBytes(pathOf(saveName));
+    }
+
+    @Override
+    public byte[] readPrevious(String saveName) throws IOException {
+        Path backupPath = AtomicFileWriter.backupOf(pathOf(saveName));
+        return Files.exists(backupPath) ? Files.readAllBytes(backupPath) : null;
+    }
+
+    @Override
+    public void write(String saveName, byte[] data) throws IOException {
+        AtomicFileWriter.write(pathOf(saveName), data);
+    }
+
+    @Override
+    public void delete(String saveName) throws IOException {
+        AtomicFileWriter.delete(pathOf(saveName));
+    }
+
+    @Override
+    public SortedSet<String> list() {
+        SortedSet<String> names = new TreeSet<>();
+        File[] files = directory.toFile().listFiles((dir, name) -> saveNameOf(name) != null);
+        if (files != null) {
+            for (File file : files) {
+                names.add(saveNameOf(file.getName()));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Gets the save held by a file of the saves directory.
+     *
+     * @param fileName The name of the file.
+     * @return The name of the save (without extension), or {@code null} if the file is not a save.
+     */
+    static String saveNameOf(String fileName) {
+        if (!fileName.endsWith(EXTENSION) || fileName.equals(PREFS_FILE)) {
+            return null;
+        }
+        return fileName.substring(0, fileName.length() - EXTENSION.length());
+    }
+
+    @Override
+    public void close() {
+        // Nothing is kept open
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.util;
+
+import javax.sound.sampled.AudioFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Software mixer for short sound effects.
+ * Each triggered effect becomes a voice reading from its pre-decoded samples; voices are summed,
+ * scaled by their gain and clamped into one 16-bit output buffer. When all voices are busy the
+ * oldest one is dropped, so rapid triggers never cut off the newest sound.
+ * <p>
+ * Not thread-safe: used only by the sound effect thread of {@link SoundEffects}.
+ */
+final class EffectMixer {
+
+    // Output format: 16-bit signed little-endian stereo at 44.1 kHz
+    static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+
+    /**
+     * A playing effect.
+     */
+    private static final class Voice {
+        private final short[] samples;
+        private final float gain;
+        private int position;
+
+        private Voice(short[] samples, float gain) {
+            this.samples = samples;
+            this.gain = gain;
+        }
+    }
+
+    private final int maxVoices;
+
+    // Playing voices, oldest first
+    private final List<Voice> voices = new ArrayList<>();
+
+    // Mix buffer, reused between renders
+    private int[] mix = new int[0];
+
+    /**
+     * Constructs a mixer.
+     *
+     * @param maxVoices The maximum number of effects playing at once.
+     */
+    EffectMixer(int maxVoices) {
+        if (maxVoices < 1) {
+            throw new IllegalArgumentException("At least one voice is required: " + maxVoices);
+        }
+        this.maxVoices = maxVoices;
+    }
+
+    /**
+     * Starts playing an effect.
+     *
+     * @param samples The interleaved samples of the effect, in {@link #FORMAT}.
+     * @param gain    The linear gain, from 0.0 (mute) to 1.0.
+     */
+    void trigger(short[] samples, float gain) {
+        if (voices.size() == maxVoices) {
+            voices.remove(0);
+        }
+        voices.add(new Voice(samples, gain));
+    }
+
+    /**
+     * Checks whether no effect is playing.
+     *
+     * @return {@code true} if there are no voices.
+     */
+    boolean isIdle() {
+        return voices.isEmpty();
+    }
+
+    /**
+     * Gets the number of effects playing.
+     *
+     * @return The number of voices.
+     */
+    int getActiveVoices() {
+        return voices.size();
+    }
+
+    /**
+     * Mixes the next frames of every voice into an output buffer and drops the voices that ended.
+     *
+     * @param out    The buffer receiving the mixed frames in {@link #FORMAT}.
+     * @param frames The number of frames to render; {@code out} must hold at least that many.
+     * @return The number of bytes written.
+     */
+    int render(byte[] out, int frames) {
+        int sampleCount = frames * FORMAT.getChannels();
+        if (mix.length < sampleCount) {
+            mix = new int[sampleCount];
+        }
+        Arrays.fill(mix, 0, sampleCount, 0);
+
+        for (int v = voices.size() - 1; v >= 0; v--) {
+            Voice voice = voices.get(v);
+            int count = Math.min(sampleCount, voice.samples.length - voice.position);
+            for (int i = 0; i < count; i++) {
+                mix[i] += (int) (voice.samples[voice.position + i] * voice.gain);
+            }
+            voice.position += count;
+            if (voice.position >= voice.samples.length) {
+                voices.remove(v);
+            }
+        }
+
+        for (int i = 0; i < sampleCount; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+            out[2 * i] = (byte) sample;
+            out[2 * i + 1] = (byte) (sample >> 8);
+        }
+        return sampleCount * 2;
+    }
+}
@@ -1,9 +1,8 @@
 package com.example.util;
 
 import com.example.model.GameState;
+import com.example.model.SlotSummary;
 import com.example.model.UserPreferences;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import java.io.File;
 import java.io.IOException;
@@ -11,92 +10,399 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 /**
  * Utility class for managing game save files and user preferences.
  * Handles JSON serialization and deserialization for game state and preferences.
+ * Handlers are cheap to create: JSON saves are streamed by {@link JsonSaveCodec} and the other
+ * JSON readers and writers are shared through {@link SerializationContext}.
+ * <p>
+ * Game saves are written as JSON, readable by earlier versions and by any JSON tool. The compact
+ * {@link BinarySaveCodec} format is opt-in, through {@link #setSaveFormat} or the {@value #FORMAT_PROPERTY}
+ * system property set to {@code binary}. Slot files keep their {@code .json} names either way and are told
+ * apart by content, so saves load whatever format wrote them.
+ * The {@link ActionJournal} of a slot is replayed on top of its snapshot when it is loaded.
+ * <p>
+ * The encoded saves are kept in a {@link SaveStore}: one file per slot by default, or a single
+ * {@link MappedSaveStore} file when the {@value #STORE_PROPERTY} system property is {@code mapped}.
+ * The one-file-per-slot JSON layout stays available through {@link #exportSave} and {@link #importSave}.
+ * <p>
+ * The menus list the saves from a {@link SlotCatalog} shared by every handler, kept in memory and
+ * updated by the saves and deletes of the handlers and by changes made to the saves directory outside the game.
+ * A handler created over another directory keeps its saves, preferences, slot index and journals there, with a
+ * catalog and journal of its own.
  */
 public class FileHandler {
 
+    private static final Log LOG = Log.getLog(FileHandler.class);
+
+    /**
+     * Encoding used when writing game saves.
+     */
+    public enum SaveFormat {
+        /** Compact binary encoding, see {@link BinarySaveCodec}. */
+        BINARY,
+        /** Human-readable JSON, as written by earlier versions. */
+        JSON
+    }
+
     // Directory where all save files will be stored
-    private static final String SAVES_DIR = "saves";
+    static final String SAVES_DIR = "saves";
 
     // File name for user preferences
     private static final String PREFS_FILE = "preferences.json";
 
-    // ObjectMapper instance for JSON serialization/deserialization
-    private final ObjectMapper objectMapper;
+    /** System property selecting the save store: {@code mapped} for {@link MappedSaveStore}, else one file per slot. */
+    public static final String STORE_PROPERTY = "saves.store";
+
+    /** System property selecting the format of new saves: {@code binary} for {@link SaveFormat#BINARY}, else JSON. */
+    public static final String FORMAT_PROPERTY = "saves.format";
+
+    // File name of the mapped save store
+    private static final String STORE_FILE = "slots.store";
+
+    // Store shared by the handlers created without one
+    private static SaveStore defaultStore;
+
+    // Summaries of the saves listed by the menus, loaded on first use
+    private static SlotCatalog catalog;
+
+    // Set once the shared saves directory is known to exist
+    private static volatile boolean savesDirectoryChecked = false;
+
+    // Directory holding the preferences, the slot index and the journals
+    private final Path directory;
+
+    // Whether this handler uses the shared catalog and journal of the saves directory
+    private final boolean shared;
+
+    // Catalog and compacting save service of a handler over its own directory, created on first use
+    private SlotCatalog ownCatalog;
+    private SaveService ownSaveService;
+
+    // Duration of the last save written by this handler, in nanoseconds
+    private long lastSaveNanos;
+
+    // Encoding used for new game saves
+    private SaveFormat saveFormat = "binary".equals(System.getProperty(FORMAT_PROPERTY))
+            ? SaveFormat.BINARY
+            : SaveFormat.JSON;
+
+    // Actions recorded since the last snapshot of each slot, replayed on load
+    private final ActionJournal journal;
+
+    // Where the encoded saves are kept
+    private final SaveStore store;
 
     /**
-     * Constructs a new {@code FileHandler} and ensures the saves directory exists.
-     * Registers the {@link JavaTimeModule} to handle {@link java.time.LocalDateTime} serialization.
+     * Constructs a new {@code FileHandler} over the shared save store and ensures the saves directory exists.
+     * The directory is only checked by the first handler created in the process.
      */
     public FileHandler() {
-        objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        createSavesDirectory();
+        this.directory = Paths.get(SAVES_DIR);
+        if (!savesDirectoryChecked) {
+            savesDirectoryChecked = createDirectory(directory);
+        }
+        this.store = defaultStore();
+        this.journal = ActionJournal.getInstance();
+        this.shared = true;
+    }
+
+    /**
+     * Constructs a new {@code FileHandler} keeping its saves in the given store.
+     * Preferences and the slot index stay in the saves directory.
+     *
+     * @param store The store of the encoded saves.
+     */
+    public FileHandler(SaveStore store) {
+        this.directory = Paths.get(SAVES_DIR);
+        if (!savesDirectoryChecked) {
+            savesDirectoryChecked = createDirectory(directory);
+        }
+        this.store = store;
+        this.journal = ActionJournal.getInstance();
+        this.shared = true;
+    }
+
+    /**
+     * Constructs a new {@code FileHandler} keeping everything in the given directory, one file per slot.
+     *
+     * @param directory The directory of the saves, preferences, slot index and journals; created if missing.
+     */
+    FileHandler(Path directory) {
+        this(directory, new DirectorySaveStore(directory));
+    }
+
+    /**
+     * Constructs a new {@code FileHandler} keeping its saves in the given store and everything else in the
+     * given directory. The handler has its own slot catalog and journal, released by {@link #close()}.
+     *
+     * @param directory The directory of the preferences, slot index and journals; created if missing.
+     * @param store     The store of the encoded saves.
+     */
+    FileHandler(Path directory, SaveStore store) {
+        this.directory = directory;
+        createDirectory(directory);
+        this.store = store;
+        this.journal = new ActionJournal(directory, ActionJournal.COMPACT_THRESHOLD_BYTES,
+                saveName -> ownSaveService().compact(saveName));
+        this.shared = false;
+    }
+
+    /**
+     * Gets the store shared by handlers created without one, opening it on first use.
+     * A new mapped store imports the saves found in the saves directory, which are left in place.
+     */
+    private static synchronized SaveStore defaultStore() {
+        if (defaultStore == null) {
+            DirectorySaveStore directory = new DirectorySaveStore(Paths.get(SAVES_DIR));
+            defaultStore = directory;
+            if ("mapped".equals(System.getProperty(STORE_PROPERTY))) {
+                Path storePath = Paths.get(SAVES_DIR, STORE_FILE);
+                try {
+                    boolean created = !Files.exists(storePath);
+                    MappedSaveStore mapped = MappedSaveStore.open(storePath);
+                    if (created) {
+                        for (String saveName : directory.list()) {
+                            mapped.write(saveName, directory.read(saveName));
+                        }
+                        LOG.info("Imported " + mapped.list().size() + " saves into " + storePath);
+                    }
+                    defaultStore = mapped;
+                } catch (IOException e) {
+                    LOG.error("Failed to open save store " + storePath + ", using one file per slot: " + e.getMessage());
+                }
+            }
+        }
+        return defaultStore;
+    }
+
+    /**
+     * Gets the slot catalog of this handler's directory, loading it on first use.
+     */
+    private SlotCatalog catalog() {
+        if (shared) {
+            return sharedCatalog();
+        }
+        synchronized (this) {
+            if (ownCatalog == null) {
+                ownCatalog = new SlotCatalog(directory, store, saveName -> SlotSummary.of(loadGame(saveName)));
+                ownCatalog.open();
+            }
+            return ownCatalog;
+        }
+    }
+
+    // Compacts the journal of a handler over its own directory
+    private synchronized SaveService ownSaveService() {
+        if (ownSaveService == null) {
+            ownSaveService = new SaveService(this);
+        }
+        return ownSaveService;
     }
 
     /**
-     * Creates the saves directory if it does not already exist.
+     * Gets the slot catalog shared by every handler of the saves directory, loading it on first use.
+     * Saves changed outside the game are read back through the shared store.
+     */
+    private static synchronized SlotCatalog sharedCatalog() {
+        if (catalog == null) {
+            SaveStore shared = defaultStore();
+            FileHandler reader = new FileHandler(shared);
+            catalog = new SlotCatalog(Paths.get(SAVES_DIR), shared, saveName -> SlotSummary.of(reader.loadGame(saveName)));
+            catalog.open();
+        }
+        return catalog;
+    }
+
+    /**
+     * Creates a saves directory if it does not already exist.
      * Ensures the file structure required for saving and loading files is present.
+     *
+     * @return {@code true} if the directory exists.
      */
-    private void createSavesDirectory() {
-        File savesDir = new File(SAVES_DIR);
+    private static boolean createDirectory(Path directory) {
+        File savesDir = directory.toFile();
         if (!savesDir.exists()) {
             boolean created = savesDir.mkdirs();
             if (created) {
-                System.out.println("Created saves directory: " + savesDir.getAbsolutePath());
+                LOG.info("Created saves directory: " + savesDir.getAbsolutePath());
             } else {
-                System.err.println("Failed to create saves directory: " + savesDir.getAbsolutePath());
+                LOG.error("Failed to create saves directory: " + savesDir.getAbsolutePath());
+                return false;
             }
         }
+        return true;
     }
 
     /**
-     * Saves a game state to a JSON file in the saves directory.
+     * Releases the slot catalog and journal of a handler created over its own directory, writing what is
+     * still pending. Handlers over the shared saves directory have nothing of their own to release.
+     *
+     * @throws IOException if the slot catalog cannot be closed.
+     */
+    void close() throws IOException {
+        if (shared) {
+            return;
+        }
+        journal.close();
+        synchronized (this) {
+            if (ownCatalog != null) {
+                ownCatalog.close();
+            }
+        }
+    }
+
+    /**
+     * Sets the encoding used for game saves written by this handler.
+     * Loading always accepts both formats.
+     *
+     * @param saveFormat The {@link SaveFormat} for new saves.
+     */
+    public void setSaveFormat(SaveFormat saveFormat) {
+        this.saveFormat = saveFormat;
+    }
+
+    /**
+     * Saves a game state to the save store, encoded in the current {@link SaveFormat}.
+     * The save is replaced atomically, so an interrupted save never leaves a truncated
+     * slot behind, and the previous save is kept for rollback.
      *
      * @param saveName The name of the save file (without extension).
      * @param state    The {@link GameState} object to save.
      * @throws IOException if the save operation fails.
      */
     public void saveGame(String saveName, GameState state) throws IOException {
-        Path savePath = Paths.get(SAVES_DIR, saveName + ".json");
-        objectMapper.writeValue(savePath.toFile(), state);
+        byte[] data = saveFormat == SaveFormat.BINARY
+                ? BinarySaveCodec.encode(state)
+                : JsonSaveCodec.encode(state);
+        lastSaveNanos = catalog().write(store, saveName, data, SlotSummary.of(state));
+        LOG.debug(() -> String.format("Saved %s in %.2f ms", saveName, lastSaveNanos / 1_000_000.0));
+    }
+
+    /**
+     * Gets the time the last {@link #saveGame(String, GameState)} call on this handler spent writing the file.
+     *
+     * @return The latency in nanoseconds, or 0 if nothing was saved yet.
+     */
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
     }
 
     /**
-     * Loads a game state from a JSON file in the saves directory.
+     * Loads a game state from a file in the saves directory, detecting binary or JSON content,
+     * then replays the actions journaled since that snapshot was written.
+     * Falls back to the previous generation if the file is missing or unreadable.
      *
      * @param saveName The name of the save file (without extension).
      * @return The loaded {@link GameState} object.
-     * @throws IOException if the load operation fails.
+     * @throws IOException if neither the save nor its previous generation can be loaded.
      */
     public GameState loadGame(String saveName) throws IOException {
-        Path savePath = Paths.get(SAVES_DIR, saveName + ".json");
-        return objectMapper.readValue(savePath.toFile(), GameState.class);
+        GameState state = loadSnapshot(saveName);
+        try {
+            journal.replay(saveName, state);
+        } catch (IOException e) {
+            LOG.warn("Failed to replay the journal of " + saveName + ": " + e.getMessage());
+        }
+        return state;
     }
 
     /**
-     * Deletes a save file from the saves directory if it exists.
+     * Loads the last snapshot of a save without its journal.
+     * Falls back to the previous generation if the file is missing or unreadable.
+     */
+    GameState loadSnapshot(String saveName) throws IOException {
+        try {
+            return decode(store.read(saveName));
+        } catch (IOException e) {
+            byte[] previous = store.readPrevious(saveName);
+            if (previous == null) {
+                throw e;
+            }
+            LOG.warn("Failed to load " + saveName + ", rolling back to previous save: " + e.getMessage());
+            return decode(previous);
+        }
+    }
+
+    /**
+     * Gets the journal replayed by {@link #loadGame(String)}.
+     */
+    ActionJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Decodes a save in either format, using the magic header of {@link BinarySaveCodec}.
+     */
+    private static GameState decode(byte[] data) throws IOException {
+        if (BinarySaveCodec.isBinary(data)) {
+            return BinarySaveCodec.decode(data);
+        }
+        return JsonSaveCodec.decode(data);
+    }
+
+    /**
+     * Deletes a save and its journal if they exist.
      *
      * @param saveName The name of the save file (without extension).
      * @throws IOException if the delete operation fails.
      */
     public void deleteSave(String saveName) throws IOException {
-        Path savePath = Paths.get(SAVES_DIR, saveName + ".json");
-        Files.deleteIfExists(savePath);
+        catalog().delete(store, saveName);
+        try {
+            journal.delete(saveName).join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to delete the journal of " + saveName, e.getCause());
+        }
+    }
+
+    /**
+     * Retrieves the metadata of every save, keyed by save name (without extension).
+     * Served from the shared {@link SlotCatalog}: only its first use reads the slot index,
+     * and the saves directory is only read again when files in it change.
+     *
+     * @return A sorted, read-only and live view of the save names and their {@link SlotSummary}.
+     */
+    public Map<String, SlotSummary> getSlotIndex() {
+        return catalog().entries();
+    }
+
+    /**
+     * Exports a save, with its journal replayed, as a JSON file in the layout of earlier versions.
+     *
+     * @param saveName The name of the save (without extension).
+     * @param target   The JSON file to write.
+     * @throws IOException if the save cannot be loaded or the file cannot be written.
+     */
+    public void exportSave(String saveName, Path target) throws IOException {
+        GameState state = loadGame(saveName);
+        AtomicFileWriter.write(target, JsonSaveCodec.encode(state));
+    }
+
+    /**
+     * Imports a save file, JSON or binary, into the save store.
+     *
+     * @param source   The save file to read.
+     * @param saveName The name to save it under (without extension).
+     * @throws IOException if the file cannot be read or decoded, or the save cannot be written.
+     */
+    public void importSave(Path source, String saveName) throws IOException {
+        saveGame(saveName, decode(Files.readAllBytes(source)));
     }
 
     /**
-     * Retrieves an array of all save files in the saves directory.
+     * Retrieves an array of all save files in the saves directory, in the one-file-per-slot layout.
+     * Lists the directory on every call; menus use {@link #getSlotIndex()} instead.
      *
      * @return An array of {@link File} objects representing save files, or {@code null} if the directory is empty.
      */
     public File[] getSaveFiles() {
-        File savesDir = new File(SAVES_DIR);
+        File savesDir = directory.toFile();
         File[] files = savesDir.listFiles((dir, name) -> name.endsWith(".json"));
-        System.out.println("Found save files: " + (files != null ? Arrays.toString(files) : "null"));
+        LOG.trace(() -> "Found save files: " + (files != null ? Arrays.toString(files) : "null"));
         return files;
     }
 
@@ -107,8 +413,8 @@ public class FileHandler {
      * @throws IOException if the save operation fails.
      */
     public void savePreferences(UserPreferences preferences) throws IOException {
-        File preferencesFile = new File(SAVES_DIR, PREFS_FILE);
-        objectMapper.writeValue(preferencesFile, preferences);
+        File preferencesFile = directory.resolve(PREFS_FILE).toFile();
+        SerializationContext.preferencesWriter().writeValue(preferencesFile, preferences);
     }
 
     /**
@@ -119,15 +425,15 @@ public class FileHandler {
      * @throws IOException if an error occurs during loading.
      */
     public UserPreferences loadPreferences() throws IOException {
-        File preferencesFile = new File(SAVES_DIR, PREFS_FILE);
+        File preferencesFile = directory.resolve(PREFS_FILE).toFile();
         if (!preferencesFile.exists()) {
             return new UserPreferences(); // Return default preferences if file does not exist
         }
 
         try {
-            return objectMapper.readValue(preferencesFile, UserPreferences.class);
+            return SerializationContext.preferencesReader().readValue(preferencesFile);
         } catch (IOException e) {
-            System.err.println("Error loading preferences: " + e.getMessage());
+            LOG.warn("Error loading preferences: " + e.getMessage());
             preferencesFile.delete(); // Delete corrupted file
             return new UserPreferences();
         }
@@ -0,0 +1,247 @@
+package com.example.util;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Central fixed-step game clock.
+ * Subsystems register an action with a period in ticks of {@link #STEP_NANOS}; the clock is driven
+ * by a single {@link AnimationTimer} on the JavaFX pulse and runs every due action on the JavaFX
+ * application thread. Time is measured against the pulse timestamps, so a late pulse runs the
+ * missed ticks instead of drifting; after long stalls at most {@link #MAX_CATCH_UP_TICKS} are replayed.
+ * <p>
+ * Implements the Singleton pattern so a reloaded scene replaces, rather than duplicates, the running subsystems.
+ */
+public final class GameClock {
+
+    private static final Log LOG = Log.getLog(GameClock.class);
+
+    // Length of one game tick
+    public static final long STEP_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    // Maximum number of ticks replayed in one pulse, e.g. after the window was minimized
+    static final int MAX_CATCH_UP_TICKS = 5;
+
+    private static GameClock instance;
+
+    /**
+     * Handle of a registered subsystem.
+     */
+    public static final class Registration {
+        private final String name;
+        private final long periodTicks;
+        private final boolean runsWhilePaused;
+        private final Runnable action;
+        private long nextTick;
+        private boolean cancelled;
+
+        private Registration(String name, long periodTicks, boolean runsWhilePaused, Runnable action, long nextTick) {
+            this.name = name;
+            this.periodTicks = periodTicks;
+            this.runsWhilePaused = runsWhilePaused;
+            this.action = action;
+            this.nextTick = nextTick;
+        }
+
+        /**
+         * Removes the subsystem from the clock. Safe to call from inside its own action.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Checks whether the subsystem has been removed.
+         *
+         * @return {@code true} once {@link #cancel()} was called or the clock was reset.
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final List<Registration> registrations = new ArrayList<>();
+
+    // Pulse source, created on first start since it needs the JavaFX toolkit
+    private AnimationTimer pulse;
+    private boolean running = false;
+    private boolean paused = false;
+
+    // Ticks elapsed since the clock was created, counting paused time
+    private long tick = 0;
+
+    // Time not yet turned into ticks, and the pulse timestamp it was measured up to
+    private long accumulatedNanos = 0;
+    private long lastNanos = -1;
+
+    GameClock() {
+    }
+
+    /**
+     * Gets the shared game clock, creating it on first use.
+     *
+     * @return The shared {@code GameClock}.
+     */
+    public static synchronized GameClock getInstance() {
+        if (instance == null) {
+            instance = new GameClock();
+        }
+        return instance;
+    }
+
+    /**
+     * Registers a subsystem. Its first run is one period from now.
+     *
+     * @param name            Name used in log messages.
+     * @param periodTicks     Number of ticks between runs, at least 1.
+     * @param runsWhilePaused Whether the subsystem keeps running while the game is paused.
+     * @param action          The work to run on the JavaFX application thread.
+     * @return The registration, used to cancel the subsystem.
+     */
+    public Registration register(String name, long periodTicks, boolean runsWhilePaused, Runnable action) {
+        if (periodTicks < 1) {
+            throw new IllegalArgumentException("Period must be at least one tick: " + periodTicks);
+        }
+        Registration registration = new Registration(name, periodTicks, runsWhilePaused, action, tick + periodTicks);
+        registrations.add(registration);
+        LOG.debug(() -> "Registered " + name + " every " + periodTicks + " ticks");
+        return registration;
+    }
+
+    /**
+     * Starts driving the clock from the JavaFX pulse.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        if (pulse == null) {
+            pulse = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    advance(now);
+                }
+            };
+        }
+        lastNanos = -1;
+        running = true;
+        pulse.start();
+    }
+
+    /**
+     * Stops the clock. Registered subsystems are kept.
+     */
+    public void stop() {
+        running = false;
+        if (pulse != null) {
+            pulse.stop();
+        }
+    }
+
+    /**
+     * Cancels every registered subsystem, stops the clock and clears the paused state.
+     * Called when the game scene is left or rebuilt.
+     */
+    public void reset() {
+        stop();
+        for (Registration registration : registrations) {
+            registration.cancel();
+        }
+        registrations.clear();
+        paused = false;
+        accumulatedNanos = 0;
+    }
+
+    /**
+     * Pauses every subsystem that does not run while paused.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Resumes the paused subsystems. Their schedule continues where it stopped.
+     */
+    public void resume() {
+        if (!paused) {
+            return;
+        }
+        paused = false;
+        // Paused subsystems were skipped; move them past the ticks that elapsed meanwhile
+        for (Registration registration : registrations) {
+            if (!registration.runsWhilePaused && registration.nextTick <= tick) {
+                long missed = (tick - registration.nextTick) / registration.periodTicks + 1;
+                registration.nextTick += missed * registration.periodTicks;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the game is paused.
+     *
+     * @return {@code true} if paused.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Gets the number of ticks run so far.
+     *
+     * @return The current tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Advances the clock to the given pulse timestamp and runs every tick that became due.
+     *
+     * @param nowNanos The pulse timestamp, in {@link System#nanoTime()} units.
+     */
+    void advance(long nowNanos) {
+        if (lastNanos < 0) {
+            lastNanos = nowNanos;
+            return;
+        }
+        accumulatedNanos += nowNanos - lastNanos;
+        lastNanos = nowNanos;
+
+        long due = accumulatedNanos / STEP_NANOS;
+        if (due > MAX_CATCH_UP_TICKS) {
+            long dropped = due - MAX_CATCH_UP_TICKS;
+            LOG.debug(() -> "Clock stalled, dropping " + dropped + " ticks");
+            accumulatedNanos -= dropped * STEP_NANOS;
+            due = MAX_CATCH_UP_TICKS;
+        }
+        for (long i = 0; i < due; i++) {
+            accumulatedNanos -= STEP_NANOS;
+            runTick();
+        }
+    }
+
+    /**
+     * Runs one tick: every subsystem whose next run is due.
+     */
+    private void runTick() {
+        tick++;
+        // Copy, since actions may register or cancel subsystems
+        for (Registration registration : new ArrayList<>(registrations)) {
+            if (registration.cancelled || (paused && !registration.runsWhilePaused)) {
+                continue;
+            }
+            if (registration.nextTick <= tick) {
+                registration.nextTick += registration.periodTicks;
+                try {
+                    registration.action.run();
+                } catch (RuntimeException e) {
+                    LOG.error("Subsystem " + registration.name + " failed", e);
+                }
+            }
+        }
+        registrations.removeIf(registration -> registration.cancelled);
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Inventory;
+import com.example.model.Pet;
+import com.example.model.VitalStats;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Hand-written JSON encoding of a {@link GameState}, streamed through {@link JsonGenerator} and
+ * {@link JsonParser} instead of the reflective databind writer and reader.
+ * The output is byte for byte what {@link SerializationContext#gameStateWriter()} writes:
+ * the same fields in the same order, with dates and times as arrays
+ * ({@code [year,month,day,hour,minute,second,nano]}, trailing zero seconds and nanos left out).
+ * Reading applies each field through the same setter databind would, in the order the fields appear,
+ * so existing saves load to the same state. Unknown fields are skipped and dates may also be ISO strings.
+ * <p>
+ * Any change to the saved getters of the model must be mirrored here; the tests compare both encodings.
+ */
+public final class JsonSaveCodec {
+
+    private JsonSaveCodec() {
+    }
+
+    /**
+     * Encodes a game state as JSON.
+     *
+     * @param state The {@link GameState} to encode.
+     * @return The UTF-8 encoded JSON.
+     * @throws IOException if the state cannot be encoded.
+     */
+    public static byte[] encode(GameState state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (JsonGenerator out = SerializationContext.jsonFactory().createGenerator(bytes, JsonEncoding.UTF8)) {
+            out.writeStartObject();
+            out.writeBooleanField("parentControlsEnabled", state.isParentControlsEnabled());
+            out.writeFieldName("savedAt");
+            writeDateTime(out, state.getSavedAt());
+            out.writeFieldName("pet");
+            writePet(out, state.getPet());
+            out.writeFieldName("stats");
+            writeStats(out, state.getStats());
+            out.writeBooleanField("controlParent", state.getControlParent());
+            out.writeEndObject();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a game state written by {@link #encode(GameState)} or by the databind writer.
+     *
+     * @param data The UTF-8 encoded JSON.
+     * @return The decoded {@link GameState}.
+     * @throws IOException if the data is not a JSON game state.
+     */
+    public static GameState decode(byte[] data) throws IOException {
+        try (JsonParser in = SerializationContext.jsonFactory().createParser(data)) {
+            expect(in, in.nextToken(), JsonToken.START_OBJECT);
+            GameState state = new GameState();
+            while (in.nextToken() == JsonToken.FIELD_NAME) {
+                String field = in.currentName();
+                JsonToken value = in.nextToken();
+                switch (field) {
+                    case "parentControlsEnabled" -> state.setParentControlsEnabled(in.getValueAsBoolean());
+                    case "savedAt" -> state.setSavedAt(readDateTime(in, value));
+                    case "pet" -> state.setPet(value == JsonToken.VALUE_NULL ? null : readPet(in, value));
+                    case "stats" -> state.setStats(value == JsonToken.VALUE_NULL ? null : readStats(in, value, new VitalStats()));
+                    case "controlParent" -> state.setControlParent(in.getValueAsBoolean());
+                    default -> in.skipChildren();
+                }
+            }
+            expect(in, in.currentToken(), JsonToken.END_OBJECT);
+            return state;
+        }
+    }
+
+    private static void writePet(JsonGenerator out, Pet pet) throws IOException {
+        if (pet == null) {
+            out.writeNull();
+            return;
+        }
+        out.writeStartObject();
+        out.writeStringField("name", pet.getName());
+        out.writeStringField("species", pet.getSpecies());
+        out.writeFieldName("stats");
+        writeStats(out, pet.getStats());
+        out.writeFieldName("startTime");
+        writeTime(out, pet.getStartTime());
+        out.writeFieldName("endTime");
+        writeTime(out, pet.getEndTime());
+        out.writeFieldName("inventory");
+        writeInventory(out, pet.getInventory());
+        out.writeNumberField("saveID", pet.getSaveID());
+        out.writeNumberField("defaultItem12", pet.getDefaultItem12());
+        out.writeNumberField("defaultItem34", pet.getDefaultItem34());
+        out.writeNumberField("score", pet.getScore());
+        out.writeNumberField("totalTimeSpent", pet.getTotalTimeSpent());
+        out.writeNumberField("timeLimit", pet.getTimeLimit());
+        out.writeNumberField("currentPlayTime", pet.getCurrentPlayTime());
+        out.writeEndObject();
+    }
+
+    private static Pet readPet(JsonParser in, JsonToken start) throws IOException {
+        expect(in, start, JsonToken.START_OBJECT);
+        Pet pet = new Pet();
+        while (in.nextToken() == JsonToken.FIELD_NAME) {
+            String field = in.currentName();
+            JsonToken value = in.nextToken();
+            switch (field) {
+                case "name" -> pet.setName(in.getValueAsString());
+                case "species" -> pet.setSpecies(in.getValueAsString());
+                case "stats" -> {
+                    if (value != JsonToken.VALUE_NULL) {
+                        readStats(in, value, pet.getStats());
+                    }
+                }
+                case "startTime" -> pet.saveStartTime(readTime(in, value));
+                case "endTime" -> pet.saveEndTime(readTime(in, value));
+                case "inventory" -> {
+                    if (value != JsonToken.VALUE_NULL) {
+                        readInventory(in, value, pet.getInventory());
+                    }
+                }
+                case "saveID" -> pet.setSaveID(in.getValueAsInt());
+                case "defaultItem12" -> pet.setDefaultItem12(in.getValueAsInt());
+                case "defaultItem34" -> pet.setDefaultItem34(in.getValueAsInt());
+                case "score" -> pet.setScore(in.getValueAsInt());
+                case "totalTimeSpent" -> {
+                    pet.resetTotalTimeSpent();
+                    pet.addTimeSpent(in.getValueAsLong());
+                }
+                case "timeLimit" -> pet.setTimeLimit(in.getValueAsLong());
+                case "currentPlayTime" -> pet.setCurrentPlayTime(in.getValueAsLong());
+                default -> in.skipChildren();
+            }
+        }
+        return pet;
+    }
+
+    private static void writeStats(JsonGenerator out, VitalStats stats) throws IOException {
+        if (stats == null) {
+            out.writeNull();
+            return;
+        }
+        out.writeStartObject();
+        out.writeNumberField("health", stats.getHealth());
+        out.writeNumberField("hunger", stats.getHunger());
+        out.writeNumberField("happiness", stats.getHappiness());
+        out.writeNumberField("energy", stats.getEnergy());
+        out.writeNumberField("hungerMod", stats.getHungerMod());
+        out.writeNumberField("happinessMod", stats.getHappinessMod());
+        out.writeNumberField("energyMod", stats.getEnergyMod());
+        out.writeNumberField("healthMod", stats.getHealthMod());
+        out.writeBooleanField("alive", stats.isAlive());
+        out.writeFieldName("state");
+        int[] state = stats.getState();
+        out.writeArray(state, 0, state.length);
+        out.writeEndObject();
+    }
+
+    private static VitalStats readStats(JsonParser in, JsonToken start, VitalStats stats) throws IOException {
+        expect(in, start, JsonToken.START_OBJECT);
+        while (in.nextToken() == JsonToken.FIELD_NAME) {
+            String field = in.currentName();
+            JsonToken value = in.nextToken();
+            switch (field) {
+                case "health" -> stats.setHealth(in.getValueAsInt());
+                case "hunger" -> stats.setHunger(in.getValueAsInt());
+                case "happiness" -> stats.setHappiness(in.getValueAsInt());
+                case "energy" -> stats.setEnergy(in.getValueAsInt());
+                case "hungerMod" -> stats.setHungerMod(in.getValueAsInt());
+                case "happinessMod" -> stats.setHappinessMod(in.getValueAsInt());
+                case "energyMod" -> stats.setEnergyMod(in.getValueAsInt());
+                case "healthMod" -> stats.setHealthMod(in.getValueAsInt());
+                case "alive" -> stats.setAlive(in.getValueAsBoolean());
+                case "state" -> {
+                    if (value != JsonToken.VALUE_NULL) {
+                        stats.setState(readInts(in, value, 4));
+                    }
+                }
+                default -> in.skipChildren();
+            }
+        }
+        return stats;
+    }
+
+    private static void writeInventory(JsonGenerator out, Inventory inventory) throws IOException {
+        if (inventory == null) {
+            out.writeNull();
+            return;
+        }
+        out.writeStartObject();
+        out.writeNumberField("item1", inventory.getItem1());
+        out.writeNumberField("item2", inventory.getItem2());
+        out.writeNumberField("item3", inventory.getItem3());
+        out.writeNumberField("item4", inventory.getItem4());
+        out.writeEndObject();
+    }
+
+    private static void readInventory(JsonParser in, JsonToken start, Inventory inventory) throws IOException {
+        expect(in, start, JsonToken.START_OBJECT);
+        while (in.nextToken() == JsonToken.FIELD_NAME) {
+            String field = in.currentName();
+            in.nextToken();
+            switch (field) {
+                case "item1" -> inventory.setItem1(in.getValueAsInt());
+                case "item2" -> inventory.setItem2(in.getValueAsInt());
+                case "item3" -> inventory.setItem3(in.getValueAsInt());
+                case "item4" -> inventory.setItem4(in.getValueAsInt());
+                default -> in.skipChildren();
+            }
+        }
+    }
+
+    // Same array layout as the JavaTimeModule: seconds and nanos only when needed
+    private static void writeDateTime(JsonGenerator out, LocalDateTime dateTime) throws IOException {
+        if (dateTime == null) {
+            out.writeNull();
+            return;
+        }
+        out.writeStartArray();
+        out.writeNumber(dateTime.getYear());
+        out.writeNumber(dateTime.getMonthValue());
+        out.writeNumber(dateTime.getDayOfMonth());
+        writeTimeOfDay(out, dateTime.toLocalTime());
+        out.writeEndArray();
+    }
+
+    private static void writeTime(JsonGenerator out, LocalTime time) throws IOException {
+        if (time == null) {
+            out.writeNull();
+            return;
+        }
+        out.writeStartArray();
+        writeTimeOfDay(out, time);
+        out.writeEndArray();
+    }
+
+    private static void writeTimeOfDay(JsonGenerator out, LocalTime time) throws IOException {
+        out.writeNumber(time.getHour());
+        out.writeNumber(time.getMinute());
+        if (time.getSecond() > 0 || time.getNano() > 0) {
+            out.writeNumber(time.getSecond());
+            if (time.getNano() > 0) {
+                out.writeNumber(time.getNano());
+            }
+        }
+    }
+
+    private static LocalDateTime readDateTime(JsonParser in, JsonToken start) throws IOException {
+        if (start == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (start == JsonToken.VALUE_STRING) {
+            return LocalDateTime.parse(in.getText());
+        }
+        int[] fields = readInts(in, start, 7);
+        if (fields.length < 5) {
+            throw new JsonParseException(in, "Expected at least year, month, day, hour and minute");
+        }
+        return LocalDateTime.of(fields[0], fields[1], fields[2], fields[3], fields[4],
+                fields.length > 5 ? fields[5] : 0, fields.length > 6 ? fields[6] : 0);
+    }
+
+    private static LocalTime readTime(JsonParser in, JsonToken start) throws IOException {
+        if (start == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (start == JsonToken.VALUE_STRING) {
+            return LocalTime.parse(in.getText());
+        }
+        int[] fields = readInts(in, start, 4);
+        if (fields.length < 2) {
+            throw new JsonParseException(in, "Expected at least hour and minute");
+        }
+        return LocalTime.of(fields[0], fields[1], fields.length > 2 ? fields[2] : 0, fields.length > 3 ? fields[3] : 0);
+    }
+
+    // Reads an array of at most max ints
+    private static int[] readInts(JsonParser in, JsonToken start, int max) throws IOException {
+        expect(in, start, JsonToken.START_ARRAY);
+        int[] values = new int[max];
+        int count = 0;
+        JsonToken token;
+        while ((token = in.nextToken()) != JsonToken.END_ARRAY) {
+            if (count == max) {
+                throw new JsonParseException(in, "Expected at most " + max + " values");
+            }
+            if (token == null || !token.isNumeric()) {
+                throw new JsonParseException(in, "Expected a number but got " + token);
+            }
+            values[count++] = in.getIntValue();
+        }
+        return count == max ? values : Arrays.copyOf(values, count);
+    }
+
+    private static void expect(JsonParser in, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(in, "Expected " + expected + " but got " + actual);
+        }
+    }
+}
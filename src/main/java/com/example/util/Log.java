@@ -0,0 +1,138 @@
+package com.example.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Minimal levelled logging facade.
+ * Messages below the configured level cost a single comparison; messages on hot paths are passed
+ * as a {@link Supplier} so they are only built when enabled. Enabled messages are handed to the
+ * {@link AsyncLogAppender}, so the calling thread never blocks on console I/O.
+ * <p>
+ * The level is read from the {@code pethaven.log.level} system property and defaults to {@link Level#INFO}.
+ */
+public final class Log {
+
+    /**
+     * Log levels in increasing order of severity.
+     */
+    public enum Level {
+        TRACE, DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    // Messages below this level are discarded
+    private static volatile Level threshold = parseLevel(System.getProperty("pethaven.log.level"));
+
+    // Shared appender writing on the background log thread
+    private static volatile AsyncLogAppender appender = new AsyncLogAppender(System.out, System.err);
+
+    // Short name of the class owning this log
+    private final String name;
+
+    private Log(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets a log for the given class.
+     *
+     * @param owner The class writing the messages.
+     * @return A log tagged with the simple name of the class.
+     */
+    public static Log getLog(Class<?> owner) {
+        return new Log(owner.getSimpleName());
+    }
+
+    /**
+     * Sets the minimum level of messages that are written.
+     *
+     * @param level The new threshold.
+     */
+    public static void setLevel(Level level) {
+        threshold = level;
+    }
+
+    /**
+     * Gets the minimum level of messages that are written.
+     *
+     * @return The current threshold.
+     */
+    public static Level getLevel() {
+        return threshold;
+    }
+
+    /**
+     * Waits until all queued messages have been written.
+     */
+    public static void flush() {
+        appender.flush();
+    }
+
+    /**
+     * Replaces the appender, for tests.
+     */
+    static void setAppender(AsyncLogAppender newAppender) {
+        appender = newAppender;
+    }
+
+    /**
+     * Checks whether messages of the given level are written.
+     *
+     * @param level The level to check.
+     * @return {@code true} if such messages are written.
+     */
+    public boolean isEnabled(Level level) {
+        return level.compareTo(threshold) >= 0 && level != Level.OFF;
+    }
+
+    public void trace(Supplier<String> message) {
+        if (isEnabled(Level.TRACE)) {
+            appender.append(Level.TRACE, name, message.get(), null);
+        }
+    }
+
+    public void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG)) {
+            appender.append(Level.DEBUG, name, message.get(), null);
+        }
+    }
+
+    public void info(String message) {
+        if (isEnabled(Level.INFO)) {
+            appender.append(Level.INFO, name, message, null);
+        }
+    }
+
+    public void info(Supplier<String> message) {
+        if (isEnabled(Level.INFO)) {
+            appender.append(Level.INFO, name, message.get(), null);
+        }
+    }
+
+    public void warn(String message) {
+        if (isEnabled(Level.WARN)) {
+            appender.append(Level.WARN, name, message, null);
+        }
+    }
+
+    public void error(String message) {
+        error(message, null);
+    }
+
+    public void error(String message, Throwable error) {
+        if (isEnabled(Level.ERROR)) {
+            appender.append(Level.ERROR, name, message, error);
+        }
+    }
+
+    private static Level parseLevel(String value) {
+        if (value == null) {
+            return Level.INFO;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown log level '" + value + "', using INFO");
+            return Level.INFO;
+        }
+    }
+}
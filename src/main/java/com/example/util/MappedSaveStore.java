@@ -0,0 +1,451 @@
+package com.example.util;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * {@link SaveStore} keeping every save in one memory-mapped file, for machines with thousands of pet profiles.
+ * Listing, reading and replacing a save are memory accesses: no directory scan and no file opened per save.
+ * <p>
+ * The file starts with a small header, followed by a chain of pages of fixed-size slot headers. Each slot
+ * header holds the save name and two generations, each the offset, length, CRC32 and sequence number of a
+ * payload block. A write puts the payload into a new block, forces it, then overwrites the header of the older
+ * generation; a crash at any point leaves the other generation intact. The newest generation whose CRC matches
+ * is the current save and the other one is its previous generation.
+ * <p>
+ * Payload blocks are variable-length, rounded to {@link #BLOCK_BYTES}, and allocated first-fit from an
+ * in-memory free list of the gaps between used blocks, merged as blocks are released. The free list is
+ * rebuilt from the slot headers when the file is opened, so it can never disagree with them.
+ * The file grows by doubling.
+ */
+public final class MappedSaveStore implements SaveStore {
+
+    private static final Log LOG = Log.getLog(MappedSaveStore.class);
+
+    // "PETSTORE"
+    private static final long MAGIC = 0x504554_53544F5245L;
+    private static final int VERSION = 1;
+
+    // magic, version, first page offset
+    static final int FILE_HEADER_BYTES = 64;
+    private static final int FIRST_PAGE_OFFSET = 16;
+
+    static final int PAGE_BYTES = 16 * 1024;
+    // next page offset, then padding up to the first slot
+    private static final int PAGE_HEADER_BYTES = 64;
+
+    // name length, name, then two generations of offset, length, crc and sequence
+    static final int SLOT_BYTES = 96;
+    static final int MAX_NAME_BYTES = 47;
+    private static final int GENERATIONS_OFFSET = 1 + MAX_NAME_BYTES;
+    private static final int GENERATION_BYTES = 8 + 4 + 4 + 8;
+
+    static final int SLOTS_PER_PAGE = (PAGE_BYTES - PAGE_HEADER_BYTES) / SLOT_BYTES;
+
+    // Allocation granularity of payload blocks
+    static final int BLOCK_BYTES = 64;
+
+    private static final int INITIAL_BYTES = 1024 * 1024;
+
+    // Source of the zeroes written over cleared headers and new pages
+    private static final byte[] ZEROS = new byte[PAGE_BYTES];
+
+    private final Path path;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    // Position of the slot header of every save
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    // Positions of unused slot headers
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    // Free blocks, offset to size; adjacent blocks are always merged
+    private final TreeMap<Integer, Integer> freeBlocks = new TreeMap<>();
+
+    // Offset of the last page, where a new page is linked
+    private int lastPage;
+
+    /**
+     * One generation of a slot, as read from its header.
+     */
+    private record Generation(int offset, int length, int crc, long sequence) {
+        boolean present() {
+            return offset > 0;
+        }
+    }
+
+    private MappedSaveStore(Path path, FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a store file, creating it if needed.
+     *
+     * @param path The store file.
+     * @return The open store.
+     * @throws IOException if the file cannot be opened or is not a store.
+     */
+    public static MappedSaveStore open(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedSaveStore store = new MappedSaveStore(path, channel);
+        try {
+            if (channel.size() == 0) {
+                store.create();
+            } else {
+                store.load();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    private void create() throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, INITIAL_BYTES);
+        buffer.putLong(0, MAGIC);
+        buffer.putInt(8, VERSION);
+        buffer.putLong(FIRST_PAGE_OFFSET, FILE_HEADER_BYTES);
+        clear(FILE_HEADER_BYTES, PAGE_BYTES);
+        addPageSlots(FILE_HEADER_BYTES);
+        lastPage = FILE_HEADER_BYTES;
+        int dataStart = FILE_HEADER_BYTES + PAGE_BYTES;
+        freeBlocks.put(dataStart, INITIAL_BYTES - dataStart);
+        buffer.force();
+    }
+
+    private void load() throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE || size < FILE_HEADER_BYTES + PAGE_BYTES) {
+            throw new IOException("Not a save store: " + path);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (buffer.getLong(0) != MAGIC) {
+            throw new IOException("Not a save store: " + path);
+        }
+        if (buffer.getInt(8) != VERSION) {
+            throw new IOException("Unsupported save store version " + buffer.getInt(8) + ": " + path);
+        }
+
+        // Used ranges, offset to size; every other byte is free
+        TreeMap<Integer, Integer> used = new TreeMap<>();
+        used.put(0, FILE_HEADER_BYTES);
+        long page = buffer.getLong(FIRST_PAGE_OFFSET);
+        while (page > 0) {
+            if (page + PAGE_BYTES > size || used.containsKey((int) page)) {
+                throw new IOException("Corrupt page chain in save store: " + path);
+            }
+            int pageOffset = (int) page;
+            used.put(pageOffset, PAGE_BYTES);
+            lastPage = pageOffset;
+            for (int i = 0; i < SLOTS_PER_PAGE; i++) {
+                loadSlot(slotPosition(pageOffset, i), used);
+            }
+            page = buffer.getLong(pageOffset);
+        }
+
+        int position = 0;
+        for (Map.Entry<Integer, Integer> range : used.entrySet()) {
+            if (range.getKey() > position) {
+                release(position, range.getKey() - position);
+            }
+            position = Math.max(position, range.getKey() + range.getValue());
+        }
+        if (position < size) {
+            release(position, (int) size - position);
+        }
+        LOG.debug(() -> "Opened save store " + path + " with " + slots.size() + " saves");
+    }
+
+    private void loadSlot(int slot, TreeMap<Integer, Integer> used) {
+        int nameLength = buffer.get(slot) & 0xFF;
+        boolean live = false;
+        for (int g = 0; g < 2; g++) {
+            Generation generation = generation(slot, g);
+            if (!generation.present()) {
+                continue;
+            }
+            int blockSize = blockSize(generation.length());
+            if ((long) generation.offset() + blockSize > buffer.capacity() || overlaps(used, generation.offset(), blockSize)) {
+                // Left by a torn header write; the other generation is still there
+                clearGeneration(slot, g);
+                continue;
+            }
+            used.put(generation.offset(), blockSize);
+            live = true;
+        }
+        if (nameLength == 0 || nameLength > MAX_NAME_BYTES || !live) {
+            clear(slot, SLOT_BYTES);
+            freeSlots.add(slot);
+        } else {
+            slots.put(nameAt(slot, nameLength), slot);
+        }
+    }
+
+    @Override
+    public synchronized byte[] read(String saveName) throws IOException {
+        int slot = slotOf(saveName);
+        Generation current = current(slot);
+        byte[] data = payload(current);
+        if (data == null) {
+            throw new IOException("Corrupt save " + saveName + " in " + path);
+        }
+        return data;
+    }
+
+    @Override
+    public synchronized byte[] readPrevious(String saveName) throws IOException {
+        Integer slot = slots.get(saveName);
+        if (slot == null) {
+            return null;
+        }
+        Generation current = current(slot);
+        Generation previous = generation(slot, generation(slot, 0).equals(current) ? 1 : 0);
+        return previous.present() ? payload(previous) : null;
+    }
+
+    @Override
+    public synchronized void write(String saveName, byte[] data) throws IOException {
+        Integer existing = slots.get(saveName);
+        int slot = existing != null ? existing : newSlot(saveName);
+
+        // Overwrite the older generation, keeping the current one as the previous generation
+        Generation first = generation(slot, 0);
+        Generation second = generation(slot, 1);
+        int target = !first.present() ? 0 : !second.present() ? 1 : first.sequence() <= second.sequence() ? 0 : 1;
+        Generation replaced = target == 0 ? first : second;
+        long sequence = Math.max(first.sequence(), second.sequence()) + 1;
+
+        if (replaced.present()) {
+            clearGeneration(slot, target);
+            buffer.force(slot, SLOT_BYTES);
+            release(replaced.offset(), blockSize(replaced.length()));
+        }
+        int offset = allocate(blockSize(data.length));
+        buffer.put(offset, data);
+        buffer.force(offset, Math.max(data.length, 1));
+
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        int position = slot + GENERATIONS_OFFSET + target * GENERATION_BYTES;
+        buffer.putInt(position + 8, data.length);
+        buffer.putInt(position + 12, (int) crc.getValue());
+        buffer.putLong(position + 16, sequence);
+        buffer.putLong(position, offset);
+        buffer.force(slot, SLOT_BYTES);
+    }
+
+    @Override
+    public synchronized void delete(String saveName) throws IOException {
+        Integer slot = slots.remove(saveName);
+        if (slot == null) {
+            return;
+        }
+        Generation first = generation(slot, 0);
+        Generation second = generation(slot, 1);
+        clear(slot, SLOT_BYTES);
+        buffer.force(slot, SLOT_BYTES);
+        for (Generation generation : List.of(first, second)) {
+            if (generation.present()) {
+                release(generation.offset(), blockSize(generation.length()));
+            }
+        }
+        freeSlots.add(slot);
+    }
+
+    @Override
+    public synchronized SortedSet<String> list() {
+        return new TreeSet<>(slots.keySet());
+    }
+
+    /**
+     * Gets the size of the store file.
+     *
+     * @return The mapped size in bytes.
+     */
+    public synchronized long size() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Gets the total size of the free blocks.
+     *
+     * @return The number of bytes available without growing the file.
+     */
+    synchronized long freeBytes() {
+        long free = 0;
+        for (int size : freeBlocks.values()) {
+            free += size;
+        }
+        return free;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            buffer.force();
+            channel.close();
+        }
+    }
+
+    private int slotOf(String saveName) throws NoSuchFileException {
+        Integer slot = slots.get(saveName);
+        if (slot == null) {
+            throw new NoSuchFileException(saveName, null, "No such save in " + path);
+        }
+        return slot;
+    }
+
+    // Claims a free slot header for a new save, linking a new page when all are used
+    private int newSlot(String saveName) throws IOException {
+        byte[] name = saveName.getBytes(StandardCharsets.UTF_8);
+        if (name.length == 0 || name.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Save name must be 1 to " + MAX_NAME_BYTES + " bytes: " + saveName);
+        }
+        if (freeSlots.isEmpty()) {
+            int page = allocate(PAGE_BYTES);
+            clear(page, PAGE_BYTES);
+            buffer.force(page, PAGE_BYTES);
+            buffer.putLong(lastPage, page);
+            buffer.force(lastPage, 8);
+            lastPage = page;
+            addPageSlots(page);
+        }
+        int slot = freeSlots.poll();
+        buffer.put(slot, (byte) name.length);
+        buffer.put(slot + 1, name);
+        slots.put(saveName, slot);
+        return slot;
+    }
+
+    private void addPageSlots(int page) {
+        for (int i = 0; i < SLOTS_PER_PAGE; i++) {
+            freeSlots.add(slotPosition(page, i));
+        }
+    }
+
+    private static int slotPosition(int page, int index) {
+        return page + PAGE_HEADER_BYTES + index * SLOT_BYTES;
+    }
+
+    private String nameAt(int slot, int nameLength) {
+        byte[] name = new byte[nameLength];
+        buffer.get(slot + 1, name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private Generation generation(int slot, int index) {
+        int position = slot + GENERATIONS_OFFSET + index * GENERATION_BYTES;
+        long offset = buffer.getLong(position);
+        int length = buffer.getInt(position + 8);
+        if (offset <= 0 || offset > Integer.MAX_VALUE || length < 0) {
+            return new Generation(0, 0, 0, 0);
+        }
+        return new Generation((int) offset, length, buffer.getInt(position + 12), buffer.getLong(position + 16));
+    }
+
+    private void clearGeneration(int slot, int index) {
+        clear(slot + GENERATIONS_OFFSET + index * GENERATION_BYTES, GENERATION_BYTES);
+    }
+
+    // The generation with the highest sequence number
+    private Generation current(int slot) {
+        Generation first = generation(slot, 0);
+        Generation second = generation(slot, 1);
+        if (!second.present()) {
+            return first;
+        }
+        return !first.present() || second.sequence() > first.sequence() ? second : first;
+    }
+
+    // The payload of a generation, or null if it fails its checksum
+    private byte[] payload(Generation generation) {
+        if (!generation.present() || (long) generation.offset() + generation.length() > buffer.capacity()) {
+            return null;
+        }
+        byte[] data = new byte[generation.length()];
+        buffer.get(generation.offset(), data);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue() == generation.crc() ? data : null;
+    }
+
+    private static int blockSize(int length) {
+        return Math.max(BLOCK_BYTES, (length + BLOCK_BYTES - 1) / BLOCK_BYTES * BLOCK_BYTES);
+    }
+
+    private static boolean overlaps(TreeMap<Integer, Integer> used, int offset, int size) {
+        Map.Entry<Integer, Integer> before = used.floorEntry(offset + size - 1);
+        return before != null && before.getKey() + before.getValue() > offset;
+    }
+
+    // First fit from the free list, growing the file when no block is large enough
+    private int allocate(int size) throws IOException {
+        while (true) {
+            for (Map.Entry<Integer, Integer> block : freeBlocks.entrySet()) {
+                if (block.getValue() >= size) {
+                    int offset = block.getKey();
+                    freeBlocks.remove(offset);
+                    if (block.getValue() > size) {
+                        freeBlocks.put(offset + size, block.getValue() - size);
+                    }
+                    return offset;
+                }
+            }
+            grow(size);
+        }
+    }
+
+    // Returns a block to the free list, merging it with its free neighbours
+    private void release(int offset, int size) {
+        Map.Entry<Integer, Integer> before = freeBlocks.floorEntry(offset);
+        if (before != null && before.getKey() + before.getValue() == offset) {
+            freeBlocks.remove(before.getKey());
+            offset = before.getKey();
+            size += before.getValue();
+        }
+        Integer after = freeBlocks.remove(offset + size);
+        if (after != null) {
+            size += after;
+        }
+        freeBlocks.put(offset, size);
+    }
+
+    private void grow(int needed) throws IOException {
+        long oldSize = buffer.capacity();
+        long newSize = Math.max(oldSize * 2, oldSize + needed);
+        if (newSize > Integer.MAX_VALUE) {
+            throw new IOException("Save store is full: " + path);
+        }
+        buffer.force();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+        release((int) oldSize, (int) (newSize - oldSize));
+        LOG.debug(() -> "Grew save store " + path + " to " + newSize + " bytes");
+    }
+
+    private void clear(int offset, int length) {
+        buffer.put(offset, ZEROS, 0, length);
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.util;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Streaming background music player.
+ * A decoder thread reads the track in small chunks into a {@link PcmRingBuffer}, and an output thread
+ * feeds the buffer to a {@link SourceDataLine}. Only the ring buffer is held in memory, however long the
+ * track is. When looping, the decoder reopens the track as soon as it ends while the buffered audio keeps
+ * playing, so the restart is gapless. The volume is applied in software on the output thread, so
+ * {@link #setVolume(float)} never touches {@code javax.sound}.
+ */
+public final class MusicPlayer {
+
+    private static final Log LOG = Log.getLog(MusicPlayer.class);
+
+    // About 0.37 s of 16-bit stereo audio at 44.1 kHz
+    static final int RING_BUFFER_BYTES = 64 * 1024;
+
+    // Bytes decoded or written per step
+    private static final int CHUNK_BYTES = 4096;
+
+    private final URL track;
+
+    private volatile float volume = 1f;
+    private volatile boolean looping = false;
+
+    // Current playback, null while stopped
+    private Playback playback;
+
+    /**
+     * One run of the decoder and output threads, from play to stop or the end of the track.
+     */
+    private final class Playback {
+        private final PcmRingBuffer ring = new PcmRingBuffer(RING_BUFFER_BYTES);
+        private final Thread decoder = new Thread(this::decode, "music-decoder");
+        private final Thread output = new Thread(this::output, "music-output");
+        private volatile AudioFormat format;
+        private volatile boolean stopped = false;
+
+        private void start() {
+            decoder.setDaemon(true);
+            output.setDaemon(true);
+            decoder.start();
+            output.start();
+        }
+
+        private void stop() {
+            stopped = true;
+            ring.close();
+            decoder.interrupt();
+            output.interrupt();
+        }
+
+        /**
+         * Decoder thread: reads the track into the ring buffer, reopening it while looping.
+         */
+        private void decode() {
+            byte[] chunk = new byte[CHUNK_BYTES];
+            try {
+                long passBytes;
+                do {
+                    passBytes = 0;
+                    try (AudioInputStream stream = openPcm(track)) {
+                        synchronized (this) {
+                            format = stream.getFormat();
+                            notifyAll();
+                        }
+                        int read;
+                        while (!stopped && (read = stream.read(chunk)) > 0) {
+                            if (!ring.write(chunk, 0, read)) {
+                                return;
+                            }
+                            passBytes += read;
+                        }
+                    }
+                    // An empty track would otherwise be reopened in a busy loop
+                } while (looping && !stopped && passBytes > 0);
+            } catch (IOException e) {
+                LOG.warn("Failed to stream music: " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                ring.endInput();
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+
+        /**
+         * Output thread: opens the line once the format is known and feeds it from the ring buffer.
+         */
+        private void output() {
+            SourceDataLine line = null;
+            try {
+                synchronized (this) {
+                    while (format == null && decoder.isAlive() && !stopped) {
+                        wait(100);
+                    }
+                }
+                if (format == null || stopped) {
+                    return;
+                }
+                line = AudioSystem.getSourceDataLine(format);
+                line.open(format, CHUNK_BYTES * 4);
+                line.start();
+
+                byte[] chunk = new byte[CHUNK_BYTES];
+                int read;
+                while ((read = ring.read(chunk, 0, chunk.length)) > 0) {
+                    applyVolume(chunk, read - read % 2, volume);
+                    line.write(chunk, 0, read);
+                }
+                if (!stopped) {
+                    line.drain();
+                }
+            } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+                LOG.warn("No audio line for music: " + e.getMessage());
+                ring.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (line != null) {
+                    line.stop();
+                    line.flush();
+                    line.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructs a player for a track. Nothing is read until {@link #play()} or {@link #loop()}.
+     *
+     * @param track The audio file to stream; {@code null} makes a silent player.
+     */
+    public MusicPlayer(URL track) {
+        this.track = track;
+        if (track == null) {
+            LOG.warn("Music track not found; playing without music");
+        }
+    }
+
+    /**
+     * Plays the track once from the start, stopping any current playback.
+     */
+    public void play() {
+        looping = false;
+        restart();
+    }
+
+    /**
+     * Plays the track from the start and repeats it without a gap until stopped.
+     */
+    public void loop() {
+        looping = true;
+        restart();
+    }
+
+    /**
+     * Stops the playback.
+     */
+    public synchronized void stop() {
+        if (playback != null) {
+            playback.stop();
+            playback = null;
+        }
+    }
+
+    /**
+     * Stops the playback and releases the audio line.
+     */
+    public void close() {
+        stop();
+    }
+
+    /**
+     * Checks whether the track is playing.
+     *
+     * @return {@code true} while the decoder or output thread is running.
+     */
+    public synchronized boolean isPlaying() {
+        return playback != null && (playback.decoder.isAlive() || playback.output.isAlive());
+    }
+
+    /**
+     * Retrieves the current volume level.
+     *
+     * @return The volume level as a float, ranging from 0.0 to 1.0.
+     */
+    public float getVolume() {
+        return volume;
+    }
+
+    /**
+     * Sets the volume level, applied from the next chunk on.
+     *
+     * @param volume The desired volume level, ranging from 0.0 (mute) to 1.0 (maximum).
+     * @throws IllegalArgumentException if the volume is not within the range [0.0, 1.0].
+     */
+    public void setVolume(float volume) {
+        if (volume < 0f || volume > 1f) {
+            throw new IllegalArgumentException("Volume not valid: " + volume);
+        }
+        this.volume = volume;
+    }
+
+    private synchronized void restart() {
+        stop();
+        if (track == null) {
+            return;
+        }
+        playback = new Playback();
+        playback.start();
+    }
+
+    /**
+     * Opens a track as 16-bit signed little-endian PCM, keeping its sample rate and channels.
+     */
+    static AudioInputStream openPcm(URL track) throws IOException {
+        try {
+            AudioInputStream source = AudioSystem.getAudioInputStream(track);
+            AudioFormat sourceFormat = source.getFormat();
+            AudioFormat pcm = new AudioFormat(sourceFormat.getSampleRate(), 16, sourceFormat.getChannels(), true, false);
+            return sourceFormat.matches(pcm) ? source : AudioSystem.getAudioInputStream(pcm, source);
+        } catch (UnsupportedAudioFileException | IllegalArgumentException e) {
+            throw new IOException("Unsupported music track " + track + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scales 16-bit little-endian samples in place.
+     *
+     * @param data   The samples.
+     * @param length The number of bytes to scale; must be even.
+     * @param volume The linear gain, from 0.0 to 1.0.
+     */
+    static void applyVolume(byte[] data, int length, float volume) {
+        if (volume >= 1f) {
+            return;
+        }
+        for (int i = 0; i < length; i += 2) {
+            int sample = (short) ((data[i] & 0xFF) | (data[i + 1] << 8));
+            sample = (int) (sample * volume);
+            data[i] = (byte) sample;
+            data[i + 1] = (byte) (sample >> 8);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.util;
+
+/**
+ * Fixed-size byte ring buffer between the music decoder thread and the output thread.
+ * Writes block while the buffer is full and reads block while it is empty, so the decoder stays a
+ * bounded distance ahead of playback and memory use does not depend on the length of the track.
+ */
+final class PcmRingBuffer {
+
+    private final byte[] buffer;
+    private int readPosition = 0;
+    private int size = 0;
+
+    // Set once the writer has no more data; readers drain what is left and then see the end
+    private boolean endOfInput = false;
+
+    // Set when playback stops; both sides return immediately
+    private boolean closed = false;
+
+    /**
+     * Constructs a ring buffer.
+     *
+     * @param capacity The capacity in bytes.
+     */
+    PcmRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        this.buffer = new byte[capacity];
+    }
+
+    /**
+     * Writes all the given bytes, waiting for free space as needed.
+     *
+     * @param data   The source array.
+     * @param offset The offset of the first byte to write.
+     * @param length The number of bytes to write.
+     * @return {@code false} if the buffer was closed before all bytes were written.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    synchronized boolean write(byte[] data, int offset, int length) throws InterruptedException {
+        while (length > 0) {
+            while (size == buffer.length && !closed) {
+                wait();
+            }
+            if (closed) {
+                return false;
+            }
+            int writePosition = (readPosition + size) % buffer.length;
+            int count = Math.min(length, Math.min(buffer.length - size, buffer.length - writePosition));
+            System.arraycopy(data, offset, buffer, writePosition, count);
+            size += count;
+            offset += count;
+            length -= count;
+            notifyAll();
+        }
+        return true;
+    }
+
+    /**
+     * Reads up to {@code length} bytes, waiting until at least one is available.
+     *
+     * @param data   The destination array.
+     * @param offset The offset of the first byte to read into.
+     * @param length The maximum number of bytes to read.
+     * @return The number of bytes read, or -1 once the input has ended and the buffer is empty, or it was closed.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    synchronized int read(byte[] data, int offset, int length) throws InterruptedException {
+        while (size == 0 && !endOfInput && !closed) {
+            wait();
+        }
+        if (closed || size == 0) {
+            return -1;
+        }
+        int count = Math.min(length, Math.min(size, buffer.length - readPosition));
+        System.arraycopy(buffer, readPosition, data, offset, count);
+        readPosition = (readPosition + count) % buffer.length;
+        size -= count;
+        notifyAll();
+        return count;
+    }
+
+    /**
+     * Marks the end of the input; readers get the remaining bytes, then -1.
+     */
+    synchronized void endInput() {
+        endOfInput = true;
+        notifyAll();
+    }
+
+    /**
+     * Closes the buffer, discarding its content and releasing every waiting thread.
+     */
+    synchronized void close() {
+        closed = true;
+        size = 0;
+        notifyAll();
+    }
+
+    /**
+     * Gets the number of buffered bytes.
+     *
+     * @return The number of bytes waiting to be read.
+     */
+    synchronized int available() {
+        return size;
+    }
+}
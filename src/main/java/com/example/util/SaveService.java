@@ -0,0 +1,191 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes game saves on a background thread so the JavaFX application thread never blocks on disk I/O.
+ * The game state is snapshotted on the calling thread and serialized on a single writer thread.
+ * Saves to a slot that is still waiting to be written are collapsed into one write of the latest snapshot.
+ * <p>
+ * Each save appends a checkpoint of the snapshot to the slot's {@link ActionJournal} and drops the records
+ * up to it once the snapshot is on disk. Journal compactions run on the same writer thread, so they never
+ * overlap with a save of the same slot.
+ */
+public class SaveService {
+
+    private static final Log LOG = Log.getLog(SaveService.class);
+
+    // Lazily created shared instance (Singleton pattern)
+    private static SaveService instance;
+
+    // Handler performing the actual writes, only used from the writer thread
+    private final FileHandler fileHandler;
+
+    // Journal of the actions between two snapshots
+    private final ActionJournal journal;
+
+    // Single writer thread, so writes to the same slot never overlap
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Saves queued but not yet started, keyed by save name
+    private final Map<String, PendingSave> pending = new HashMap<>();
+
+    /**
+     * A snapshot waiting to be written and the future completed once it is on disk.
+     */
+    private static final class PendingSave {
+        private GameState snapshot;
+        // Journal record holding the snapshot's pet, 0 if it has none
+        private long checkpoint;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingSave(GameState snapshot, long checkpoint) {
+            this.snapshot = snapshot;
+            this.checkpoint = checkpoint;
+        }
+    }
+
+    /**
+     * Constructs a {@code SaveService} writing through the given handler.
+     *
+     * @param fileHandler The handler used to write the save files.
+     */
+    public SaveService(FileHandler fileHandler) {
+        this.fileHandler = fileHandler;
+        this.journal = fileHandler.getJournal();
+    }
+
+    /**
+     * Gets the shared save service instance, creating it on first use.
+     *
+     * @return The shared {@code SaveService}.
+     */
+    public static synchronized SaveService getInstance() {
+        if (instance == null) {
+            instance = new SaveService(new FileHandler());
+        }
+        return instance;
+    }
+
+    /**
+     * Queues a save of the given game state, stamping it as saved now: the saved stats are current, so
+     * loading the save only catches up on the time after this call.
+     * The state is copied before this method returns, so the caller may keep modifying it.
+     * If a save to the same slot is still queued, its snapshot is replaced and its future is returned.
+     *
+     * @param saveName The name of the save file (without extension).
+     * @param state    The {@link GameState} to save.
+     * @return A future completed when the save is written, or completed exceptionally if the write failed.
+     */
+    public CompletableFuture<Void> save(String saveName, GameState state) {
+        state.setSavedAt(LocalDateTime.now());
+        GameState snapshot = state.snapshot();
+        Pet pet = snapshot.getPet();
+        synchronized (pending) {
+            // Under the lock, so a compaction never reads the journal between this checkpoint and the queueing
+            long checkpoint = pet != null ? journal.append(saveName, ActionJournal.Action.CHECKPOINT, pet) : 0;
+            PendingSave queued = pending.get(saveName);
+            if (queued != null) {
+                queued.snapshot = snapshot;
+                queued.checkpoint = checkpoint;
+                return queued.future;
+            }
+            PendingSave save = new PendingSave(snapshot, checkpoint);
+            pending.put(saveName, save);
+            writer.execute(() -> write(saveName));
+            return save.future;
+        }
+    }
+
+    /**
+     * Queues a compaction of a slot's journal: the journal is replayed on top of the snapshot on disk, the
+     * result is written as the new snapshot and the replayed records are dropped.
+     * Skipped if a save of the slot is queued, as that save drops the records anyway.
+     *
+     * @param saveName The name of the save file (without extension).
+     * @return A future completed when the compaction is done or skipped.
+     */
+    public CompletableFuture<Void> compact(String saveName) {
+        return CompletableFuture.runAsync(() -> compactNow(saveName), writer);
+    }
+
+    /**
+     * Waits until every queued save has been written.
+     *
+     * @param timeoutMillis The maximum time to wait, in milliseconds.
+     * @return {@code true} if all saves were written in time, {@code false} otherwise.
+     */
+    public boolean flush(long timeoutMillis) {
+        CompletableFuture<Void> barrier = CompletableFuture.runAsync(() -> { }, writer);
+        try {
+            barrier.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (Exception e) {
+            LOG.warn("Pending saves were not flushed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes the latest snapshot queued for a slot. Runs on the writer thread.
+     */
+    private void write(String saveName) {
+        PendingSave save;
+        synchronized (pending) {
+            save = pending.remove(saveName);
+        }
+        if (save == null) {
+            return;
+        }
+        try {
+            fileHandler.saveGame(saveName, save.snapshot);
+            if (save.checkpoint > 0) {
+                journal.truncate(saveName, save.checkpoint);
+            }
+            save.future.complete(null);
+        } catch (Exception e) {
+            LOG.error("Failed to save " + saveName + ": " + e.getMessage());
+            save.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Folds a slot's journal into its snapshot. Runs on the writer thread.
+     */
+    private void compactNow(String saveName) {
+        try {
+            GameState state = fileHandler.loadSnapshot(saveName);
+            long through;
+            synchronized (pending) {
+                // A queued save was snapshotted later than any record read now, and would overwrite the result
+                if (pending.containsKey(saveName)) {
+                    return;
+                }
+                through = journal.replay(saveName, state);
+            }
+            if (through > 0) {
+                fileHandler.saveGame(saveName, state);
+                journal.truncate(saveName, through);
+                LOG.debug(() -> "Compacted the journal of " + saveName + " through record " + through);
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to compact the journal of " + saveName + ": " + e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.SortedSet;
+
+/**
+ * Storage of the encoded game saves, keyed by save name.
+ * A store keeps the previous generation of every save next to the current one, so a save that cannot be
+ * decoded can be rolled back. {@link FileHandler} encodes and decodes the saves; stores only move bytes.
+ */
+public interface SaveStore extends Closeable {
+
+    /**
+     * Reads the current generation of a save.
+     *
+     * @param saveName The name of the save (without extension).
+     * @return The encoded save.
+     * @throws java.nio.file.NoSuchFileException if there is no such save.
+     * @throws IOException if the save cannot be read.
+     */
+    byte[] read(String saveName) throws IOException;
+
+    /**
+     * Reads the generation written before the current one.
+     *
+     * @param saveName The name of the save (without extension).
+     * @return The encoded previous save, or {@code null} if there is none.
+     * @throws IOException if the store cannot be read.
+     */
+    byte[] readPrevious(String saveName) throws IOException;
+
+    /**
+     * Replaces a save; the replaced content becomes the previous generation.
+     * A write interrupted by a crash leaves the replaced content readable.
+     *
+     * @param saveName The name of the save (without extension).
+     * @param data     The encoded save.
+     * @throws IOException if the save cannot be written.
+     */
+    void write(String saveName, byte[] data) throws IOException;
+
+    /**
+     * Deletes a save and its previous generation if they exist.
+     *
+     * @param saveName The name of the save (without extension).
+     * @throws IOException if the save cannot be deleted.
+     */
+    void delete(String saveName) throws IOException;
+
+    /**
+     * Lists the saves in the store.
+     *
+     * @return The save names, sorted.
+     * @throws IOException if the store cannot be read.
+     */
+    SortedSet<String> list() throws IOException;
+}
@@ -0,0 +1,149 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+import com.example.model.SlotSummary;
+import com.example.model.UserPreferences;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.TreeMap;
+
+/**
+ * Process-wide JSON serialization context shared by every {@link FileHandler}.
+ * Holds one configured {@link ObjectMapper} and pre-built readers and writers for the saved types,
+ * so the module registration and class introspection happen once instead of on every handler.
+ * Readers and writers are immutable and safe to use from any thread.
+ */
+public final class SerializationContext {
+
+    private static final Log LOG = Log.getLog(SerializationContext.class);
+
+    // The single configured mapper; only used to derive the readers and writers below
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private static final ObjectReader GAME_STATE_READER = MAPPER.readerFor(GameState.class);
+    private static final ObjectWriter GAME_STATE_WRITER = MAPPER.writerFor(GameState.class);
+
+    private static final ObjectReader PREFERENCES_READER = MAPPER.readerFor(UserPreferences.class);
+    private static final ObjectWriter PREFERENCES_WRITER = MAPPER.writerFor(UserPreferences.class);
+
+    private static final TypeReference<TreeMap<String, SlotSummary>> SLOT_INDEX_TYPE = new TypeReference<>() {};
+    private static final ObjectReader SLOT_INDEX_READER = MAPPER.readerFor(SLOT_INDEX_TYPE);
+    private static final ObjectWriter SLOT_INDEX_WRITER = MAPPER.writerFor(SLOT_INDEX_TYPE);
+
+    // Set once the warm-up round trip has run
+    private static volatile boolean warmedUp = false;
+
+    private SerializationContext() {
+    }
+
+    /**
+     * Gets the factory of the shared mapper, for code streaming JSON without databind
+     * such as {@link JsonSaveCodec}.
+     *
+     * @return The shared factory.
+     */
+    public static JsonFactory jsonFactory() {
+        return MAPPER.getFactory();
+    }
+
+    /**
+     * Gets the reader for {@link GameState} saves.
+     *
+     * @return The shared reader.
+     */
+    public static ObjectReader gameStateReader() {
+        return GAME_STATE_READER;
+    }
+
+    /**
+     * Gets the writer for {@link GameState} saves.
+     *
+     * @return The shared writer.
+     */
+    public static ObjectWriter gameStateWriter() {
+        return GAME_STATE_WRITER;
+    }
+
+    /**
+     * Gets the reader for {@link UserPreferences}.
+     *
+     * @return The shared reader.
+     */
+    public static ObjectReader preferencesReader() {
+        return PREFERENCES_READER;
+    }
+
+    /**
+     * Gets the writer for {@link UserPreferences}.
+     *
+     * @return The shared writer.
+     */
+    public static ObjectWriter preferencesWriter() {
+        return PREFERENCES_WRITER;
+    }
+
+    /**
+     * Gets the reader for the save slot index.
+     *
+     * @return The shared reader, producing a sorted map of save names to summaries.
+     */
+    public static ObjectReader slotIndexReader() {
+        return SLOT_INDEX_READER;
+    }
+
+    /**
+     * Gets the writer for the save slot index.
+     *
+     * @return The shared writer.
+     */
+    public static ObjectWriter slotIndexWriter() {
+        return SLOT_INDEX_WRITER;
+    }
+
+    /**
+     * Runs one in-memory round trip of every saved type so the serializers and deserializers
+     * are built before the first real save or load. Only the first call does any work.
+     *
+     * @return The time spent warming up, in nanoseconds; 0 if already warmed up.
+     */
+    public static synchronized long warmUp() {
+        if (warmedUp) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try {
+            GameState state = new GameState();
+            state.setPet(new Pet("WarmUp", "Cat", 0));
+            state.setSavedAt(LocalDateTime.now());
+            GAME_STATE_READER.readValue(GAME_STATE_WRITER.writeValueAsBytes(state));
+
+            PREFERENCES_READER.readValue(PREFERENCES_WRITER.writeValueAsBytes(new UserPreferences()));
+
+            TreeMap<String, SlotSummary> index = new TreeMap<>();
+            index.put("slot0", SlotSummary.of(state));
+            SLOT_INDEX_READER.readValue(SLOT_INDEX_WRITER.writeValueAsBytes(index));
+        } catch (IOException e) {
+            // Not fatal: the serializers are then built lazily on first use
+            LOG.warn("Serialization warm-up failed: " + e.getMessage());
+        }
+        warmedUp = true;
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Checks whether {@link #warmUp()} has run.
+     *
+     * @return {@code true} if the context is warmed up.
+     */
+    public static boolean isWarmedUp() {
+        return warmedUp;
+    }
+}
@@ -0,0 +1,400 @@
+package com.example.util;
+
+import com.example.model.SlotSummary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory catalog of the save slots listed by the menus, keyed by save name (without extension).
+ * It is loaded once from the slot index file and checked against the saves directory, then kept current:
+ * the game's own saves and deletes go through {@link #write} and {@link #delete}, and a {@link WatchService}
+ * thread picks up saves edited, copied in or deleted outside the game. Only a save whose file really changed
+ * is read again, so menus query the catalog without any directory I/O.
+ * <p>
+ * Changes are written back to the slot index file, so the next start does not load every save. The index is
+ * rewritten at most once per {@link #PERSIST_DELAY_MILLIS}, covering every change made in that time, and
+ * on {@link #close()}.
+ * Saves kept in a {@link MappedSaveStore} are not watched; they only change through the game.
+ */
+public final class SlotCatalog implements Closeable {
+
+    /**
+     * Reads the summary of one save when it changed outside the game.
+     */
+    @FunctionalInterface
+    interface SummaryReader {
+        /**
+         * @param saveName The name of the save (without extension).
+         * @return Its summary, or {@code null} if it has no pet.
+         * @throws IOException if the save cannot be read.
+         */
+        SlotSummary read(String saveName) throws IOException;
+    }
+
+    private static final Log LOG = Log.getLog(SlotCatalog.class);
+
+    // File name of the slot index (not a .json name, so it is never listed as a save)
+    static final String INDEX_FILE = "slots.index";
+
+    // Changes closer together than this are written to the index once
+    static final long PERSIST_DELAY_MILLIS = 1000;
+
+    private static final ScheduledExecutorService indexWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "slot-index-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Identity of a save file as last seen, to tell outside changes from the game's own writes
+    private record Stamp(FileTime modified, long size, Object fileKey) {
+    }
+
+    private final Path directory;
+    private final Path indexFile;
+    private final SaveStore store;
+    private final SummaryReader reader;
+
+    private final ConcurrentSkipListMap<String, SlotSummary> summaries = new ConcurrentSkipListMap<>();
+    private final SortedMap<String, SlotSummary> view = Collections.unmodifiableSortedMap(summaries);
+    private final Map<String, Stamp> stamps = new ConcurrentHashMap<>();
+
+    private WatchService watchService;
+
+    // Set while a write of the index is scheduled
+    private final AtomicBoolean persistPending = new AtomicBoolean();
+
+    // Saves read since the catalog was opened
+    private volatile long readCount;
+
+    /**
+     * Constructs a catalog; nothing is read until {@link #open()}.
+     *
+     * @param directory The saves directory, holding the slot index file.
+     * @param store     The store of the encoded saves; watched when it is a {@link DirectorySaveStore} over the directory.
+     * @param reader    Reads the summary of a save that changed outside the game.
+     */
+    SlotCatalog(Path directory, SaveStore store, SummaryReader reader) {
+        this.directory = directory;
+        this.indexFile = directory.resolve(INDEX_FILE);
+        this.store = store;
+        this.reader = reader;
+    }
+
+    /**
+     * Loads the catalog from the slot index and starts watching the saves directory.
+     * Save files newer than the index, or missing from it, are read; the others are trusted.
+     * The index is rebuilt from the store if it is missing or unreadable.
+     */
+    synchronized void open() {
+        boolean watching = store instanceof DirectorySaveStore && startWatching();
+        FileTime indexedAt = readIndex();
+        boolean changed;
+        if (watching) {
+            changed = rescan(indexedAt) || indexedAt == null;
+        } else {
+            changed = indexedAt == null && rebuild();
+        }
+        if (changed) {
+            persist();
+        }
+        LOG.debug(() -> "Slot catalog loaded with " + summaries.size() + " saves, " + readCount + " read");
+    }
+
+    /**
+     * Gets every save with a pet, in save name order.
+     *
+     * @return A read-only, live view of the catalog; iterating it never blocks on a concurrent change.
+     */
+    public SortedMap<String, SlotSummary> entries() {
+        return view;
+    }
+
+    /**
+     * Gets the summary of one save.
+     *
+     * @param saveName The name of the save (without extension).
+     * @return Its summary, or {@code null} if there is no such save or it has no pet.
+     */
+    public SlotSummary get(String saveName) {
+        return summaries.get(saveName);
+    }
+
+    /**
+     * Writes a save through a store and records its summary. The watcher recognizes the resulting
+     * file change as the game's own and does not read the save again.
+     *
+     * @param store    The store to write to.
+     * @param saveName The name of the save (without extension).
+     * @param data     The encoded save.
+     * @param summary  Its summary, or {@code null} if it has no pet.
+     * @return The time the store took to write the save, in nanoseconds.
+     * @throws IOException if the store cannot write the save.
+     */
+    synchronized long write(SaveStore store, String saveName, byte[] data, SlotSummary summary) throws IOException {
+        long start = System.nanoTime();
+        store.write(saveName, data);
+        long nanos = System.nanoTime() - start;
+        remember(saveName);
+        put(saveName, summary);
+        persistLater();
+        return nanos;
+    }
+
+    /**
+     * Deletes a save through a store and drops it from the catalog.
+     *
+     * @param store    The store to delete from.
+     * @param saveName The name of the save (without extension).
+     * @throws IOException if the store cannot delete the save.
+     */
+    synchronized void delete(SaveStore store, String saveName) throws IOException {
+        store.delete(saveName);
+        stamps.remove(saveName);
+        if (summaries.remove(saveName) != null) {
+            persistLater();
+        }
+    }
+
+    /**
+     * Gets the number of saves read since the catalog was opened, i.e. initial loads and outside changes.
+     */
+    long getReadCount() {
+        return readCount;
+    }
+
+    /**
+     * Stops watching the saves directory and writes the index if a write is still scheduled.
+     * The catalog keeps its entries but no longer sees outside changes.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+        if (persistPending.getAndSet(false)) {
+            persist();
+        }
+    }
+
+    private boolean startWatching() {
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.warn("Cannot watch " + directory + ", outside changes to saves will not be seen: " + e.getMessage());
+            watchService = null;
+            return false;
+        }
+        Thread watcher = new Thread(() -> watch(watchService), "slot-catalog-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        return true;
+    }
+
+    /**
+     * Reads the slot index into the catalog.
+     *
+     * @return The time the index was written, or {@code null} if it is missing or unreadable.
+     */
+    private FileTime readIndex() {
+        if (!Files.exists(indexFile)) {
+            return null;
+        }
+        try {
+            FileTime indexedAt = Files.getLastModifiedTime(indexFile);
+            Map<String, SlotSummary> index = SerializationContext.slotIndexReader().readValue(indexFile.toFile());
+            summaries.putAll(index);
+            return indexedAt;
+        } catch (IOException e) {
+            LOG.warn("Error loading slot index, rebuilding: " + e.getMessage());
+            summaries.clear();
+            return null;
+        }
+    }
+
+    // Reads every save listed by the store; used when the store is not watched
+    private boolean rebuild() {
+        try {
+            for (String saveName : store.list()) {
+                put(saveName, read(saveName));
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to list saves: " + e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Brings the catalog in line with the save files in the directory.
+     *
+     * @param trustedUntil Files in the catalog modified at or before this time are not read; {@code null} for none.
+     * @return {@code true} if the catalog changed.
+     */
+    private synchronized boolean rescan(FileTime trustedUntil) {
+        Set<String> seen = new HashSet<>();
+        boolean changed = false;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + DirectorySaveStore.EXTENSION)) {
+            for (Path file : files) {
+                String saveName = DirectorySaveStore.saveNameOf(file.getFileName().toString());
+                if (saveName != null) {
+                    seen.add(saveName);
+                    changed |= reconcile(saveName, trustedUntil);
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to list saves in " + directory + ": " + e.getMessage());
+            return false;
+        }
+        stamps.keySet().retainAll(seen);
+        changed |= summaries.keySet().retainAll(seen);
+        return changed;
+    }
+
+    /**
+     * Reads a save again if its file changed since it was last seen, or drops it if the file is gone.
+     *
+     * @return {@code true} if the catalog changed.
+     */
+    private synchronized boolean reconcile(String saveName, FileTime trustedUntil) {
+        Stamp stamp = stampOf(saveName);
+        if (stamp == null) {
+            stamps.remove(saveName);
+            return summaries.remove(saveName) != null;
+        }
+        if (stamp.equals(stamps.put(saveName, stamp))) {
+            return false;
+        }
+        if (trustedUntil != null && summaries.containsKey(saveName) && stamp.modified().compareTo(trustedUntil) <= 0) {
+            return false;
+        }
+        return put(saveName, read(saveName));
+    }
+
+    private SlotSummary read(String saveName) {
+        readCount++;
+        try {
+            return reader.read(saveName);
+        } catch (IOException e) {
+            // Possibly caught mid-write; the next change of the file reads it again
+            LOG.warn("Skipping unreadable save " + saveName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean put(String saveName, SlotSummary summary) {
+        if (summary == null) {
+            return summaries.remove(saveName) != null;
+        }
+        summaries.put(saveName, summary);
+        return true;
+    }
+
+    // Records the file of a save as the game just wrote it
+    private void remember(String saveName) {
+        Stamp stamp = watchService != null ? stampOf(saveName) : null;
+        if (stamp != null) {
+            stamps.put(saveName, stamp);
+        } else {
+            stamps.remove(saveName);
+        }
+    }
+
+    private Stamp stampOf(String saveName) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(
+                    directory.resolve(saveName + DirectorySaveStore.EXTENSION), BasicFileAttributes.class);
+            return new Stamp(attributes.lastModifiedTime(), attributes.size(), attributes.fileKey());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            LOG.warn("Cannot read the attributes of save " + saveName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Schedules one write of the index at the end of the delay; later changes in the same delay are covered by it.
+     */
+    private void persistLater() {
+        if (persistPending.compareAndSet(false, true)) {
+            indexWriter.schedule(() -> {
+                if (persistPending.getAndSet(false)) {
+                    persist();
+                }
+            }, PERSIST_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void persist() {
+        try {
+            AtomicFileWriter.write(indexFile, SerializationContext.slotIndexWriter().writeValueAsBytes(new TreeMap<>(summaries)));
+        } catch (IOException e) {
+            LOG.error("Failed to write slot index: " + e.getMessage());
+        }
+    }
+
+    // Watcher thread: reconciles the saves named by each batch of events, then schedules one write of the index
+    private void watch(WatchService watchService) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        changed |= rescan(null);
+                        continue;
+                    }
+                    String fileName = event.context().toString();
+                    if (fileName.endsWith(AtomicFileWriter.TEMP_SUFFIX) || fileName.endsWith(AtomicFileWriter.BACKUP_SUFFIX)) {
+                        // Temporary files and previous generations left by atomic writes, the index's included
+                        continue;
+                    }
+                    if (fileName.equals(INDEX_FILE)) {
+                        // Write back an index deleted from outside
+                        changed |= event.kind() == StandardWatchEventKinds.ENTRY_DELETE;
+                        continue;
+                    }
+                    String saveName = DirectorySaveStore.saveNameOf(fileName);
+                    if (saveName != null) {
+                        changed |= reconcile(saveName, null);
+                    }
+                }
+                if (changed) {
+                    persistLater();
+                }
+                if (!key.reset()) {
+                    LOG.warn("Stopped watching " + directory + ": it is no longer accessible");
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+}
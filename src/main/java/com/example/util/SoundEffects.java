@@ -0,0 +1,215 @@
+package com.example.util;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Polyphonic sound effect player.
+ * Effects are decoded once into PCM samples. Playing one only queues a trigger; a dedicated audio thread
+ * owns a single pre-opened output line and mixes every playing effect with an {@link EffectMixer}, so
+ * overlapping effects do not cut each other off and callers never touch {@code javax.sound}.
+ * <p>
+ * Implements the Singleton pattern so every screen shares the output line.
+ */
+public final class SoundEffects {
+
+    private static final Log LOG = Log.getLog(SoundEffects.class);
+
+    // Name of the button click effect
+    public static final String BUTTON = "button";
+
+    // Effects playing at once before the oldest is dropped
+    static final int MAX_VOICES = 8;
+
+    // Frames mixed per write, about 6 ms at 44.1 kHz
+    static final int CHUNK_FRAMES = 256;
+
+    // Output line buffer, about 46 ms: small enough to keep the latency low
+    private static final int LINE_BUFFER_FRAMES = 2048;
+
+    // Triggers waiting for the audio thread; further triggers are dropped when full
+    private static final int MAX_PENDING_TRIGGERS = 32;
+
+    private static SoundEffects instance;
+
+    /**
+     * A queued request to play an effect.
+     */
+    private record Trigger(short[] samples, float gain) {
+    }
+
+    // Decoded effects by name
+    private final Map<String, short[]> effects = new ConcurrentHashMap<>();
+
+    private final BlockingQueue<Trigger> triggers = new ArrayBlockingQueue<>(MAX_PENDING_TRIGGERS);
+
+    private final EffectMixer mixer = new EffectMixer(MAX_VOICES);
+
+    private volatile float volume = 0.5f;
+
+    // Cleared when no output line could be opened, so triggers are not queued for nothing
+    private volatile boolean available = true;
+
+    private volatile boolean closed = false;
+
+    // Audio thread, started with the first loaded effect
+    private Thread audioThread;
+
+    SoundEffects() {
+    }
+
+    /**
+     * Gets the shared sound effect player, creating it on first use.
+     *
+     * @return The shared {@code SoundEffects}.
+     */
+    public static synchronized SoundEffects getInstance() {
+        if (instance == null) {
+            instance = new SoundEffects();
+        }
+        return instance;
+    }
+
+    /**
+     * Decodes an effect and starts the audio thread if needed, so the output line is open before
+     * the first effect is played. Call from a background thread; decoding may take a while.
+     *
+     * @param name     The name the effect is played by.
+     * @param resource The audio file of the effect.
+     * @throws IOException if the file cannot be read or decoded.
+     */
+    public void load(String name, URL resource) throws IOException {
+        effects.put(name, decode(resource));
+        startAudioThread();
+    }
+
+    /**
+     * Plays an effect. Never blocks: the effect is queued for the audio thread, or dropped if the
+     * effect is unknown, no output line is available or too many effects are already queued.
+     *
+     * @param name The name of a loaded effect.
+     * @return {@code true} if the effect was queued.
+     */
+    public boolean play(String name) {
+        short[] samples = effects.get(name);
+        if (samples == null || !available || closed) {
+            return false;
+        }
+        return triggers.offer(new Trigger(samples, volume));
+    }
+
+    /**
+     * Sets the volume of the effects played from now on.
+     *
+     * @param volume The volume, from 0.0 (mute) to 1.0 (maximum).
+     * @throws IllegalArgumentException if the volume is not within the range [0.0, 1.0].
+     */
+    public void setVolume(float volume) {
+        if (volume < 0f || volume > 1f) {
+            throw new IllegalArgumentException("Volume not valid: " + volume);
+        }
+        this.volume = volume;
+    }
+
+    /**
+     * Gets the volume of the effects.
+     *
+     * @return The volume, from 0.0 to 1.0.
+     */
+    public float getVolume() {
+        return volume;
+    }
+
+    /**
+     * Stops the audio thread and releases the output line. Later effects are ignored.
+     */
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            if (audioThread != null) {
+                audioThread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Decodes an audio file into interleaved 16-bit samples in the {@link EffectMixer#FORMAT}.
+     *
+     * @param resource The audio file.
+     * @return The decoded samples.
+     * @throws IOException if the file cannot be read or converted.
+     */
+    static short[] decode(URL resource) throws IOException {
+        if (resource == null) {
+            throw new IOException("Missing sound effect");
+        }
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(resource)) {
+            AudioInputStream pcm = source.getFormat().matches(EffectMixer.FORMAT)
+                    ? source
+                    : AudioSystem.getAudioInputStream(EffectMixer.FORMAT, source);
+            byte[] bytes = pcm.readAllBytes();
+            short[] samples = new short[bytes.length / 2];
+            for (int i = 0; i < samples.length; i++) {
+                samples[i] = (short) ((bytes[2 * i] & 0xFF) | (bytes[2 * i + 1] << 8));
+            }
+            return samples;
+        } catch (UnsupportedAudioFileException | IllegalArgumentException e) {
+            throw new IOException("Unsupported sound effect " + resource + ": " + e.getMessage(), e);
+        }
+    }
+
+    private synchronized void startAudioThread() {
+        if (audioThread != null || closed) {
+            return;
+        }
+        audioThread = new Thread(this::run, "sound-effects");
+        audioThread.setDaemon(true);
+        audioThread.start();
+    }
+
+    /**
+     * Audio thread: opens the output line once, then mixes queued effects until closed.
+     */
+    private void run() {
+        AudioFormat format = EffectMixer.FORMAT;
+        SourceDataLine line;
+        try {
+            line = AudioSystem.getSourceDataLine(format);
+            line.open(format, LINE_BUFFER_FRAMES * format.getFrameSize());
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            available = false;
+            LOG.warn("No audio line for sound effects: " + e.getMessage());
+            return;
+        }
+
+        byte[] chunk = new byte[CHUNK_FRAMES * format.getFrameSize()];
+        try {
+            while (!closed) {
+                // Sleep until an effect is played; while effects play, pick up new ones between chunks
+                Trigger trigger = mixer.isIdle() ? triggers.take() : triggers.poll();
+                while (trigger != null) {
+                    mixer.trigger(trigger.samples(), trigger.gain());
+                    trigger = triggers.poll();
+                }
+                int bytes = mixer.render(chunk, CHUNK_FRAMES);
+                line.write(chunk, 0, bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            line.stop();
+            line.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.util;
+
+import javafx.geometry.Rectangle2D;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Index of a packed species atlas: the region of the atlas image holding each pet state.
+ * Atlases are produced at build time by {@link SpriteAtlasPacker} as {@code <species>.png} plus a
+ * {@code <species>.atlas} properties file mapping each state to {@code x,y,width,height}.
+ */
+public final class SpriteAtlas {
+
+    // Classpath directory of the packed atlases
+    public static final String ATLAS_DIR = "/images/atlas/";
+
+    // Index key of the plain species sprite
+    public static final String DEFAULT_STATE = "default";
+
+    // Index key of the cell size the sprites were scaled to
+    static final String CELL_SIZE_KEY = "cellSize";
+
+    private final Map<String, Rectangle2D> regions;
+
+    private SpriteAtlas(Map<String, Rectangle2D> regions) {
+        this.regions = Collections.unmodifiableMap(regions);
+    }
+
+    /**
+     * Parses an atlas index.
+     *
+     * @param index The index properties written by {@link SpriteAtlasPacker}.
+     * @return The parsed atlas.
+     * @throws IllegalArgumentException if a region is malformed.
+     */
+    public static SpriteAtlas parse(Properties index) {
+        Map<String, Rectangle2D> regions = new HashMap<>();
+        for (String state : index.stringPropertyNames()) {
+            if (state.equals(CELL_SIZE_KEY)) {
+                continue;
+            }
+            String[] parts = index.getProperty(state).split(",");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Malformed atlas region for " + state + ": " + index.getProperty(state));
+            }
+            regions.put(state, new Rectangle2D(
+                    Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim()),
+                    Double.parseDouble(parts[2].trim()), Double.parseDouble(parts[3].trim())));
+        }
+        return new SpriteAtlas(regions);
+    }
+
+    /**
+     * Gets the region holding a pet state.
+     * A {@code null}, "normal" or "happy" state maps to the default species sprite.
+     *
+     * @param petState The pet state, e.g. "hungry".
+     * @return The region, or {@code null} if the atlas has no sprite for the state.
+     */
+    public Rectangle2D region(String petState) {
+        return regions.get(stateKey(petState));
+    }
+
+    /**
+     * Gets the number of states in the atlas.
+     *
+     * @return The number of regions.
+     */
+    public int size() {
+        return regions.size();
+    }
+
+    /**
+     * Gets the classpath path of a species' atlas image.
+     */
+    static String imagePath(String species) {
+        return ATLAS_DIR + species.toLowerCase() + ".png";
+    }
+
+    /**
+     * Gets the classpath path of a species' atlas index.
+     */
+    static String indexPath(String species) {
+        return ATLAS_DIR + species.toLowerCase() + ".atlas";
+    }
+
+    /**
+     * Maps a pet state to its index key.
+     */
+    static String stateKey(String petState) {
+        if (petState == null || petState.equalsIgnoreCase("normal") || petState.equalsIgnoreCase("happy")) {
+            return DEFAULT_STATE;
+        }
+        return petState.toLowerCase();
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.util;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Build-time tool packing each species' state sprites into one atlas image plus an index.
+ * Sprites are found by name: {@code <species>.png} is the default sprite and every
+ * {@code <species>_<state>.png} next to it is a state. Images without states (e.g. items) are skipped.
+ * Each sprite is scaled to a square cell and the cells are laid out in a near-square grid.
+ * <p>
+ * Run in the {@code process-classes} phase by the {@code atlas} build profile ({@code mvn -P atlas ...}):
+ * {@code SpriteAtlasPacker <source dir> <output dir> [cell size]}. Up-to-date atlases are not rewritten.
+ */
+public final class SpriteAtlasPacker {
+
+    // Sprites are shown at 300px; cells keep twice that for HiDPI screens
+    static final int DEFAULT_CELL_SIZE = 600;
+
+    private SpriteAtlasPacker() {
+    }
+
+    /**
+     * Packs the atlases of every species found in a directory.
+     *
+     * @param args The source directory, the output directory and optionally the cell size in pixels.
+     * @throws IOException if a sprite cannot be read or an atlas cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SpriteAtlasPacker <source dir> <output dir> [cell size]");
+            System.exit(1);
+        }
+        int cellSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CELL_SIZE;
+        int packed = pack(Path.of(args[0]), Path.of(args[1]), cellSize);
+        System.out.println("Packed " + packed + " sprite atlases into " + args[1]);
+    }
+
+    /**
+     * Packs the atlases of every species found in a directory.
+     *
+     * @param sourceDir The directory holding the individual sprites.
+     * @param outputDir The directory the atlases are written to.
+     * @param cellSize  The size, in pixels, each sprite is scaled to.
+     * @return The number of atlases written; up-to-date atlases are not counted.
+     * @throws IOException if a sprite cannot be read or an atlas cannot be written.
+     */
+    public static int pack(Path sourceDir, Path outputDir, int cellSize) throws IOException {
+        if (cellSize < 1) {
+            throw new IllegalArgumentException("Cell size must be at least 1: " + cellSize);
+        }
+        Files.createDirectories(outputDir);
+        int packed = 0;
+        for (Map.Entry<String, Map<String, Path>> species : findSpecies(sourceDir).entrySet()) {
+            if (packSpecies(species.getKey(), species.getValue(), outputDir, cellSize)) {
+                packed++;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Groups the sprites of a directory by species, keyed by state.
+     * Only species with a default sprite and at least one state sprite are returned.
+     */
+    static Map<String, Map<String, Path>> findSpecies(Path sourceDir) throws IOException {
+        Map<String, Path> defaults = new TreeMap<>();
+        Map<String, Map<String, Path>> states = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(sourceDir, "*.png")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                name = name.substring(0, name.length() - ".png".length()).toLowerCase();
+                int separator = name.indexOf('_');
+                if (separator < 0) {
+                    defaults.put(name, file);
+                } else {
+                    states.computeIfAbsent(name.substring(0, separator), species -> new TreeMap<>())
+                            .put(name.substring(separator + 1), file);
+                }
+            }
+        }
+
+        Map<String, Map<String, Path>> species = new TreeMap<>();
+        for (Map.Entry<String, Map<String, Path>> entry : states.entrySet()) {
+            Path defaultSprite = defaults.get(entry.getKey());
+            if (defaultSprite == null) {
+                continue;
+            }
+            // Default first, then the states in name order, so the layout is stable between builds
+            Map<String, Path> sprites = new TreeMap<>((a, b) -> a.equals(b) ? 0
+                    : a.equals(SpriteAtlas.DEFAULT_STATE) ? -1
+                    : b.equals(SpriteAtlas.DEFAULT_STATE) ? 1
+                    : a.compareTo(b));
+            sprites.put(SpriteAtlas.DEFAULT_STATE, defaultSprite);
+            sprites.putAll(entry.getValue());
+            species.put(entry.getKey(), sprites);
+        }
+        return species;
+    }
+
+    /**
+     * Packs one species, unless its atlas is newer than all of its sprites and uses the same cell size.
+     *
+     * @return {@code true} if the atlas was written.
+     */
+    private static boolean packSpecies(String species, Map<String, Path> sprites, Path outputDir, int cellSize)
+            throws IOException {
+        Path imageFile = outputDir.resolve(species + ".png");
+        Path indexFile = outputDir.resolve(species + ".atlas");
+        if (isUpToDate(sprites, imageFile, indexFile, cellSize)) {
+            return false;
+        }
+
+        int columns = (int) Math.ceil(Math.sqrt(sprites.size()));
+        int rows = (sprites.size() + columns - 1) / columns;
+        BufferedImage atlas = new BufferedImage(columns * cellSize, rows * cellSize, BufferedImage.TYPE_INT_ARGB);
+        Properties index = new Properties();
+        index.setProperty(SpriteAtlas.CELL_SIZE_KEY, Integer.toString(cellSize));
+
+        Graphics2D graphics = atlas.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            int cell = 0;
+            for (Map.Entry<String, Path> sprite : sprites.entrySet()) {
+                BufferedImage image = ImageIO.read(sprite.getValue().toFile());
+                if (image == null) {
+                    throw new IOException("Unreadable sprite " + sprite.getValue());
+                }
+                int x = (cell % columns) * cellSize;
+                int y = (cell / columns) * cellSize;
+                graphics.drawImage(image, x, y, cellSize, cellSize, null);
+                index.setProperty(sprite.getKey(), x + "," + y + "," + cellSize + "," + cellSize);
+                cell++;
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        try (OutputStream out = Files.newOutputStream(imageFile)) {
+            ImageIO.write(atlas, "png", out);
+        }
+        try (Writer out = Files.newBufferedWriter(indexFile, StandardCharsets.ISO_8859_1)) {
+            index.store(out, "Sprite atlas for " + species);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether an existing atlas still matches its sprites.
+     */
+    private static boolean isUpToDate(Map<String, Path> sprites, Path imageFile, Path indexFile, int cellSize)
+            throws IOException {
+        if (!Files.exists(imageFile) || !Files.exists(indexFile)) {
+            return false;
+        }
+        Properties index = new Properties();
+        try (Reader in = Files.newBufferedReader(indexFile, StandardCharsets.ISO_8859_1)) {
+            index.load(in);
+        }
+        if (!Integer.toString(cellSize).equals(index.getProperty(SpriteAtlas.CELL_SIZE_KEY))
+                || !index.stringPropertyNames().containsAll(sprites.keySet())
+                || index.size() != sprites.size() + 1) {
+            return false;
+        }
+        FileTime packedAt = Files.getLastModifiedTime(imageFile);
+        for (Path sprite : sprites.values()) {
+            if (Files.getLastModifiedTime(sprite).compareTo(packedAt) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.util;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of decoded pet sprites, keyed by species and state.
+ * When the build packed a {@link SpriteAtlas} for the species, every state is a region of one atlas image,
+ * so the species costs one decode and switching state only moves the viewport. Otherwise each state is
+ * read from its own PNG. Each image is decoded once; the least recently used images are evicted once the
+ * cache is full.
+ * <p>
+ * Implements the Singleton pattern so every game scene shares the decoded sprites.
+ */
+public final class SpriteCache {
+
+    private static final Log LOG = Log.getLog(SpriteCache.class);
+
+    // Every pet state with its own sprite; the default state is the plain species image
+    static final List<String> STATES = List.of("eating", "sleeping", "hungry", "angry", "sleepy", "dead");
+
+    // Room for the unpacked sprites of every species currently shipped (3 species x 7 sprites)
+    static final int DEFAULT_CAPACITY = 24;
+
+    /**
+     * A sprite: the image holding it and, for atlases, the region of the image to show.
+     *
+     * @param image    The decoded image.
+     * @param viewport The region of the image holding the sprite, or {@code null} for the whole image.
+     */
+    public record Sprite(Image image, Rectangle2D viewport) {
+
+        /**
+         * Shows the sprite in an image view. The image is only replaced if it differs.
+         *
+         * @param view The view to update.
+         */
+        public void applyTo(ImageView view) {
+            if (view.getImage() != image) {
+                view.setImage(image);
+            }
+            view.setViewport(viewport);
+        }
+    }
+
+    private static SpriteCache instance;
+
+    private final int capacity;
+
+    // Loads and decodes the image at a resource path; returns null if it does not exist
+    private final Function<String, Image> loader;
+
+    // Loads the atlas index at a resource path; returns null if the species was not packed
+    private final Function<String, Properties> indexLoader;
+
+    // Decoded images by resource path, access-ordered so iteration starts at the least recently used
+    private final Map<String, Image> sprites;
+
+    // Atlas index per species, empty if the species has no atlas
+    private final Map<String, Optional<SpriteAtlas>> atlases = new HashMap<>();
+
+    // Background thread preloading a species' sprites
+    private final ExecutorService preloader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sprite-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Constructs a cache holding at most {@code capacity} sprites.
+     *
+     * @param capacity    The maximum number of cached images.
+     * @param loader      Loads the image at a resource path, or returns {@code null} if it is missing.
+     * @param indexLoader Loads the atlas index at a resource path, or returns {@code null} if it is missing.
+     */
+    SpriteCache(int capacity, Function<String, Image> loader, Function<String, Properties> indexLoader) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        this.capacity = capacity;
+        this.loader = loader;
+        this.indexLoader = indexLoader;
+        this.sprites = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+                return size() > SpriteCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the shared sprite cache, creating it on first use.
+     *
+     * @return The shared {@code SpriteCache}.
+     */
+    public static synchronized SpriteCache getInstance() {
+        if (instance == null) {
+            instance = new SpriteCache(DEFAULT_CAPACITY, SpriteCache::loadResource, SpriteCache::loadIndex);
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the sprite for a species in the given state, loading it on first use.
+     * A {@code null}, "normal" or "happy" state maps to the default species sprite.
+     *
+     * @param species  The pet species, e.g. "Cat".
+     * @param petState The pet state, e.g. "hungry".
+     * @return The sprite, or {@code null} if it cannot be loaded.
+     */
+    public Sprite get(String species, String petState) {
+        SpriteAtlas atlas = atlas(species);
+        if (atlas != null) {
+            Rectangle2D region = atlas.region(petState);
+            Image sheet = region != null ? image(SpriteAtlas.imagePath(species)) : null;
+            if (sheet != null) {
+                return new Sprite(sheet, region);
+            }
+        }
+        // Not packed: fall back to the individual sprite
+        Image image = image(resourcePath(species, petState));
+        return image != null ? new Sprite(image, null) : null;
+    }
+
+    /**
+     * Gets the atlas index of a species, loading it on first use.
+     *
+     * @return The atlas, or {@code null} if the species was not packed.
+     */
+    private SpriteAtlas atlas(String species) {
+        String key = species.toLowerCase();
+        synchronized (atlases) {
+            Optional<SpriteAtlas> atlas = atlases.get(key);
+            if (atlas == null) {
+                atlas = Optional.empty();
+                Properties index = indexLoader.apply(SpriteAtlas.indexPath(species));
+                if (index != null) {
+                    try {
+                        atlas = Optional.of(SpriteAtlas.parse(index));
+                    } catch (IllegalArgumentException e) {
+                        LOG.warn("Ignoring sprite atlas of " + species + ": " + e.getMessage());
+                    }
+                }
+                atlases.put(key, atlas);
+            }
+            return atlas.orElse(null);
+        }
+    }
+
+    /**
+     * Gets the image at a resource path, decoding it on first use.
+     *
+     * @return The image, or {@code null} if it cannot be loaded.
+     */
+    private Image image(String path) {
+        synchronized (sprites) {
+            Image cached = sprites.get(path);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // Decode outside the lock so a preload in progress does not block the caller
+        Image image = loader.apply(path);
+        if (image == null) {
+            return null;
+        }
+        synchronized (sprites) {
+            Image raced = sprites.putIfAbsent(path, image);
+            return raced != null ? raced : image;
+        }
+    }
+
+    /**
+     * Loads every sprite of a species on a background thread: its atlas if packed, its PNGs otherwise.
+     *
+     * @param species The pet species to preload.
+     * @return A future completed once all sprites of the species are cached.
+     */
+    public Future<?> preload(String species) {
+        return preloader.submit(() -> {
+            long start = System.nanoTime();
+            get(species, null);
+            if (atlas(species) == null) {
+                for (String petState : STATES) {
+                    get(species, petState);
+                }
+            }
+            LOG.debug(() -> "Preloaded " + species + " sprites in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        });
+    }
+
+    /**
+     * Gets the number of cached images.
+     *
+     * @return The number of decoded images currently held.
+     */
+    public int size() {
+        synchronized (sprites) {
+            return sprites.size();
+        }
+    }
+
+    /**
+     * Removes every cached sprite.
+     */
+    public void clear() {
+        synchronized (sprites) {
+            sprites.clear();
+        }
+        synchronized (atlases) {
+            atlases.clear();
+        }
+    }
+
+    /**
+     * Builds the resource path of a sprite.
+     */
+    static String resourcePath(String species, String petState) {
+        String base = "/images/" + species.toLowerCase();
+        if (petState == null || petState.equalsIgnoreCase("normal") || petState.equalsIgnoreCase("happy")) {
+            return base + ".png";
+        }
+        return base + "_" + petState.toLowerCase() + ".png";
+    }
+
+    /**
+     * Reads an atlas index from the classpath.
+     */
+    private static Properties loadIndex(String path) {
+        try (InputStream stream = SpriteCache.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                return null;
+            }
+            Properties index = new Properties();
+            index.load(stream);
+            return index;
+        } catch (IOException e) {
+            LOG.warn("Error loading sprite atlas " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Decodes a sprite from the classpath.
+     */
+    private static Image loadResource(String path) {
+        try (InputStream stream = SpriteCache.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                LOG.warn("Missing sprite " + path);
+                return null;
+            }
+            Image image = new Image(stream);
+            if (image.isError()) {
+                LOG.warn("Error loading sprite " + path + ": " + image.getException());
+                return null;
+            }
+            return image;
+        } catch (IOException e) {
+            LOG.warn("Error loading sprite " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the independent startup phases concurrently on background threads and records their timings.
+ * Each phase reports how long it ran; milestones such as the first frame report the time since the
+ * pipeline was created. Once every phase has finished, {@link #finish()} logs the report and records
+ * the "interactive" milestone.
+ */
+public final class StartupPipeline {
+
+    private static final Log LOG = Log.getLog(StartupPipeline.class);
+
+    // Milestone recorded once every phase has finished
+    public static final String INTERACTIVE = "interactive";
+
+    private final long startNanos;
+
+    // Phases are mostly I/O bound, so a few threads are enough to overlap them
+    private final ExecutorService executor;
+
+    // Phase durations and milestone offsets in nanoseconds, in the order they were recorded
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private final Map<String, Long> milestoneNanos = new LinkedHashMap<>();
+
+    private final List<CompletableFuture<?>> phases = new ArrayList<>();
+
+    /**
+     * Constructs a pipeline; its clock starts now.
+     *
+     * @param threads The number of background threads running the phases.
+     */
+    public StartupPipeline(int threads) {
+        this(System.nanoTime(), threads);
+    }
+
+    /**
+     * Constructs a pipeline whose clock started at the given time.
+     *
+     * @param startNanos The {@link System#nanoTime()} at which startup began.
+     * @param threads    The number of background threads running the phases.
+     */
+    public StartupPipeline(long startNanos, int threads) {
+        this.startNanos = startNanos;
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts a phase on a background thread.
+     *
+     * @param name The phase name used in the report.
+     * @param work The work of the phase.
+     * @param <T>  The result type of the phase.
+     * @return A future completed with the result of the phase, or exceptionally if it failed.
+     */
+    public <T> CompletableFuture<T> phase(String name, Callable<T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        synchronized (phases) {
+            phases.add(future);
+        }
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                T result = work.call();
+                record(phaseNanos, name, System.nanoTime() - start);
+                future.complete(result);
+            } catch (Exception e) {
+                record(phaseNanos, name, System.nanoTime() - start);
+                LOG.warn("Startup phase " + name + " failed: " + e.getMessage());
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Records a milestone at the current time. Only the first record of a milestone is kept.
+     *
+     * @param name The milestone name, e.g. "first-frame".
+     */
+    public void mark(String name) {
+        long elapsed = System.nanoTime() - startNanos;
+        synchronized (milestoneNanos) {
+            milestoneNanos.putIfAbsent(name, elapsed);
+        }
+    }
+
+    /**
+     * Waits, without blocking, for every phase started so far; then records the
+     * {@link #INTERACTIVE} milestone, logs the report and releases the background threads.
+     * Failed phases do not fail the returned future.
+     *
+     * @return A future completed once every phase has finished.
+     */
+    public CompletableFuture<Void> finish() {
+        CompletableFuture<?>[] started;
+        synchronized (phases) {
+            started = phases.toArray(new CompletableFuture<?>[0]);
+        }
+        return CompletableFuture.allOf(started)
+                .handle((ignored, error) -> {
+                    mark(INTERACTIVE);
+                    LOG.info(this::report);
+                    executor.shutdown();
+                    return null;
+                });
+    }
+
+    /**
+     * Gets the recorded phase durations.
+     *
+     * @return A copy of the phase durations in nanoseconds, keyed by phase name.
+     */
+    public Map<String, Long> getPhaseNanos() {
+        synchronized (phaseNanos) {
+            return new LinkedHashMap<>(phaseNanos);
+        }
+    }
+
+    /**
+     * Gets the recorded milestones.
+     *
+     * @return A copy of the milestone offsets from the start in nanoseconds, keyed by milestone name.
+     */
+    public Map<String, Long> getMilestoneNanos() {
+        synchronized (milestoneNanos) {
+            return new LinkedHashMap<>(milestoneNanos);
+        }
+    }
+
+    /**
+     * Formats the recorded timings on one line, e.g.
+     * {@code Startup: first-frame 212.4 ms, interactive 388.0 ms | audio 301.2 ms, preferences 3.1 ms}.
+     *
+     * @return The report.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Startup:");
+        appendTimings(report, getMilestoneNanos());
+        report.append(" |");
+        appendTimings(report, getPhaseNanos());
+        return report.toString();
+    }
+
+    private static void appendTimings(StringBuilder report, Map<String, Long> timings) {
+        String separator = " ";
+        for (Map.Entry<String, Long> timing : timings.entrySet()) {
+            report.append(separator).append(timing.getKey())
+                    .append(String.format(" %.1f ms", timing.getValue() / 1_000_000.0));
+            separator = ", ";
+        }
+    }
+
+    private static void record(Map<String, Long> timings, String name, long nanos) {
+        synchronized (timings) {
+            timings.put(name, nanos);
+        }
+    }
+}
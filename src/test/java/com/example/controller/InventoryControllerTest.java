@@ -114,6 +114,22 @@ public class InventoryControllerTest {
         assertEquals("Currently Selected: Ball", inventoryController.selectedItem34Label.getText());
     }
 
+    @Test
+    void testOnShowRefreshesReusedScreen() {
+        when(mockPet.getScore()).thenReturn(50);
+        when(mockPet.getDefaultItem12()).thenReturn(1);
+        inventoryController.initialize();
+
+        // Points and selection changed while the cached screen was hidden
+        when(mockPet.getScore()).thenReturn(80);
+        when(mockPet.getDefaultItem12()).thenReturn(2);
+        inventoryController.onShow();
+
+        assertEquals("Points: 80", inventoryController.pointsLabel.getText());
+        assertEquals("Currently Selected: Apple", inventoryController.selectedItem12Label.getText());
+        assertFalse(inventoryController.defaultItem1.getStyleClass().contains("selected"));
+    }
+
     @Test
     void testGoBack() {
         inventoryController.goBack();
@@ -3,11 +3,18 @@ package com.example.controller;
 import com.example.App;
 import com.example.components.CustomButton;
 import com.example.controller.SceneController;
+import com.example.util.MusicPlayer;
+import com.example.util.SoundEffects;
 import javafx.application.Platform;
 import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
@@ -17,6 +24,15 @@ class MainMenuControllerTest {
     private MainMenuController controller;
     private SceneController mockSceneController;
 
+    @BeforeAll
+    static void setupClass() {
+        try {
+            Platform.startup(() -> {}); // Initialize JavaFX toolkit
+        } catch (IllegalStateException e) {
+            // Already started by another test class
+        }
+    }
+
     @BeforeEach
     void setUp() {
         controller = new MainMenuController();
@@ -56,16 +72,37 @@ class MainMenuControllerTest {
     }
 
     @Test
-    void testConfirmExit() {
-        Platform.runLater(() -> {
-            controller.confirmExit();
-
-            // Verify the sound players are stopped and closed
-            verify(App.getButtonSound()).stop();
-            verify(App.getSoundPlayer()).stop();
-            verify(App.getButtonSound()).close();
-            verify(App.getSoundPlayer()).close();
-        });
+    void testConfirmExit() throws Exception {
+        try {
+            // Run on the FX thread and wait, so a failed verify fails the test
+            WaitForAsyncUtils.asyncFx(() -> {
+                SoundEffects mockSoundEffects = mock(SoundEffects.class);
+                MusicPlayer mockMusicPlayer = mock(MusicPlayer.class);
+                try (MockedStatic<SoundEffects> soundEffects = mockStatic(SoundEffects.class);
+                     MockedStatic<App> app = mockStatic(App.class);
+                     MockedStatic<Platform> platform = mockStatic(Platform.class)) {
+                    soundEffects.when(SoundEffects::getInstance).thenReturn(mockSoundEffects);
+                    app.when(App::getSoundPlayer).thenReturn(mockMusicPlayer);
+
+                    controller.confirmExit();
+
+                    // Verify the effect mixer's audio thread is shut down
+                    verify(mockSoundEffects).close();
+
+                    // Verify the music player is stopped and closed
+                    verify(mockMusicPlayer).stop();
+                    verify(mockMusicPlayer).close();
+
+                    // Verify the application exits
+                    platform.verify(Platform::exit);
+                }
+            }).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
     }
 
     @Test
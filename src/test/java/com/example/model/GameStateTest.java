@@ -54,6 +54,21 @@ class GameStateTest {
         assertEquals("Dog", gameState.getPet().getSpecies(), "The pet's species should match the value set.");
     }
 
+    @Test
+    void testReplacedPetLeavesHousehold() {
+        GameState gameState = new GameState();
+        Pet first = new Pet("First", "mole", 0);
+        gameState.setPet(first);
+        Household household = gameState.getHousehold();
+
+        Pet second = new Pet("Second", "mole", 1);
+        gameState.setPet(second);
+
+        assertEquals(1, household.size(), "Only the new pet should be in the household.");
+        assertSame(second, household.getActive());
+        assertFalse(household.getPets().contains(first), "The replaced pet should no longer decay with the household.");
+    }
+
     @Test
     void testSetAndGetStats() {
         GameState gameState = GameState.getCurrentState();
@@ -91,4 +106,20 @@ class GameStateTest {
 
         assertFalse(gameState.getControlParent(), "ControlParent flag should be false when set to false.");
     }
+
+    @Test
+    void testCatchUpAppliesOfflineDecay() {
+        GameState gameState = GameState.getCurrentState();
+        Pet pet = new Pet("Buddy", "mole", 0);
+        gameState.setPet(pet);
+        LocalDateTime savedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        gameState.setSavedAt(savedAt);
+
+        long simulated = gameState.catchUp(savedAt.plusSeconds(10));
+
+        assertEquals(10, simulated, "Ten seconds away should simulate ten ticks.");
+        assertEquals(70, pet.getStats().getHunger(), "Hunger should have decayed while away.");
+        assertEquals(savedAt.plusSeconds(10), gameState.getSavedAt(), "savedAt should move to the catch-up time.");
+        assertEquals(0, gameState.catchUp(savedAt.plusSeconds(10)), "The same interval should not be replayed twice.");
+    }
 }
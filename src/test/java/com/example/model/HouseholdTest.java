@@ -0,0 +1,151 @@
+package com.example.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HouseholdTest {
+
+    private static final String[] SPECIES = {"mole", "cat", "Bear"};
+
+    private static Pet randomPet(Random random, int saveID) {
+        Pet pet = new Pet("Pet" + saveID, SPECIES[saveID % SPECIES.length], saveID);
+        VitalStats stats = pet.getStats();
+        stats.setHunger(random.nextInt(101));
+        stats.setHappiness(random.nextInt(101));
+        stats.setEnergy(random.nextInt(101));
+        stats.setHealth(1 + random.nextInt(100));
+        return pet;
+    }
+
+    private static void assertSameStats(SimulationEngine expected, VitalStats actual, String message) {
+        assertEquals(expected.getHunger(), actual.getHunger(), message + " hunger");
+        assertEquals(expected.getHappiness(), actual.getHappiness(), message + " happiness");
+        assertEquals(expected.getEnergy(), actual.getEnergy(), message + " energy");
+        assertEquals(expected.getHealth(), actual.getHealth(), message + " health");
+        assertEquals(expected.getHungerMod(), actual.getHungerMod(), message + " hungerMod");
+        assertEquals(expected.getHappinessMod(), actual.getHappinessMod(), message + " happinessMod");
+        assertEquals(expected.getEnergyMod(), actual.getEnergyMod(), message + " energyMod");
+        assertEquals(expected.getHealthMod(), actual.getHealthMod(), message + " healthMod");
+        for (int i = 0; i < 4; i++) {
+            assertEquals(expected.isCritical(i), actual.getVitalState(i) == 1, message + " state " + i);
+        }
+    }
+
+    @Test
+    void testTickMatchesSimulationEngineForEveryPet() {
+        Random random = new Random(11);
+        Household household = new Household();
+        List<SimulationEngine> engines = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Pet pet = randomPet(random, i);
+            SimulationEngine engine = new SimulationEngine();
+            engine.load(pet);
+            engines.add(engine);
+            household.add(pet);
+        }
+
+        for (int tick = 0; tick < 400; tick++) {
+            household.tick();
+            for (int i = 0; i < engines.size(); i++) {
+                engines.get(i).tick(1);
+                assertEquals(engines.get(i).isGameOver(), household.isGameOver(i), "pet " + i + " tick " + tick);
+            }
+        }
+
+        for (int i = 0; i < engines.size(); i++) {
+            assertSameStats(engines.get(i), household.getPets().get(i).getStats(), "pet " + i);
+        }
+    }
+
+    @Test
+    void testOnlyActivePetIsNotifiedEveryTick() {
+        Household household = new Household();
+        Pet background = new Pet("Rex", "mole", 0);
+        Pet onScreen = new Pet("Buddy", "cat", 1);
+        int[] backgroundEvents = {0};
+        background.getStats().hungerProperty().addListener((observable, oldValue, newValue) -> backgroundEvents[0]++);
+        household.add(background);
+        household.setActive(onScreen);
+
+        household.tick();
+
+        assertEquals(78, onScreen.getStats().hungerProperty().get(), "Active pet should see the tick.");
+        assertEquals(79, background.getStats().getHunger(), "Background pet stats are read from the table.");
+        assertEquals(0, backgroundEvents[0], "Background pet observers should not be notified.");
+
+        household.setActive(background);
+        assertEquals(79, background.getStats().hungerProperty().get(), "Showing a pet refreshes its properties.");
+    }
+
+    @Test
+    void testChangesToActivePetGoToTheTable() {
+        Household household = new Household();
+        Pet pet = new Pet("Buddy", "mole", 0);
+        household.setActive(pet);
+        household.tick();
+
+        // The player feeds the pet between two ticks
+        pet.getStats().setHunger(100);
+        household.tick();
+
+        assertEquals(99, pet.getStats().getHunger());
+        assertEquals(99, household.getTable().get(0, SimulationEngine.HUNGER));
+    }
+
+    @Test
+    void testRemoveMovesLastPetIntoTheGap() {
+        Household household = new Household();
+        Pet first = new Pet("A", "mole", 0);
+        Pet second = new Pet("B", "mole", 1);
+        Pet third = new Pet("C", "Bear", 2);
+        household.add(first);
+        household.add(second);
+        household.setActive(third);
+        third.getStats().setHunger(50);
+        household.tick();
+
+        assertTrue(household.remove(first));
+
+        assertEquals(List.of(third, second), household.getPets());
+        assertSame(third, household.getActive());
+        assertEquals(0, household.getActiveIndex());
+        assertEquals(third.getStats().getHunger(), household.getTable().get(0, SimulationEngine.HUNGER));
+        assertEquals(79, first.getStats().getHunger(), "Removed pet keeps its simulated stats.");
+
+        household.tick();
+        assertEquals(79, first.getStats().getHunger(), "Removed pet is no longer simulated.");
+        assertFalse(household.remove(first));
+    }
+
+    @Test
+    void testDeadPetStopsDecaying() {
+        Household household = new Household();
+        Pet pet = new Pet("Buddy", "mole", 0);
+        pet.getStats().setHealth(1);
+        household.setActive(pet);
+
+        household.tick();
+        int hunger = pet.getStats().getHunger();
+        household.tick();
+
+        assertTrue(household.isGameOver(0));
+        assertEquals(hunger, pet.getStats().getHunger());
+    }
+
+    @Test
+    void testGrowsPastInitialCapacity() {
+        Household household = new Household();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, household.add(new Pet("Pet" + i, "mole", i)));
+        }
+        household.tick();
+
+        assertEquals(100, household.size());
+        assertEquals(99, household.getPets().get(99).getStats().getEnergy());
+    }
+}
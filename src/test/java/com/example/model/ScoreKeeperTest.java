@@ -59,4 +59,19 @@ class ScoreKeeperTest {
         scoreKeeper.setScore(75);
         assertEquals("ScoreKeeper{score=75}", scoreKeeper.toString(), "toString should return the correct representation.");
     }
+
+    @Test
+    void testTickOnlyCountsWhileRunning() {
+        scoreKeeper.tick();
+        assertEquals(0, scoreKeeper.getScore(), "Stopped score keeper should not add points.");
+
+        scoreKeeper.start();
+        scoreKeeper.tick();
+        scoreKeeper.tick();
+        assertEquals(20, scoreKeeper.getScore(), "Each tick should add the points per second.");
+
+        scoreKeeper.stop();
+        scoreKeeper.tick();
+        assertEquals(20, scoreKeeper.getScore(), "Stopped score keeper should keep its score.");
+    }
 }
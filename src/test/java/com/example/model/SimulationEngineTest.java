@@ -0,0 +1,214 @@
+package com.example.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEngineTest {
+
+    private static final String[] SPECIES = {"mole", "cat", "Bear", "Mole", "Cat"};
+
+    /**
+     * Reference tick: the decay logic as it ran in the game scene Timeline, on {@link VitalStats}.
+     * Returns false when the pet died.
+     */
+    private static boolean referenceTick(VitalStats stats, String species) {
+        int speciesHungerMod = 0;
+        int speciesHappinessMod = 0;
+        int speciesEnergyMod = 0;
+        int speciesHealthMod = 0;
+        switch (species) {
+            case "cat":
+                speciesHungerMod = 1;
+                speciesEnergyMod = -1;
+                break;
+            case "Bear":
+                speciesHungerMod = 2;
+                speciesHappinessMod = 2;
+                speciesEnergyMod = 2;
+                speciesHealthMod = -1;
+                break;
+        }
+
+        stats.decreaseEnergy(1 + speciesEnergyMod + stats.getEnergyMod());
+        stats.decreaseHealth(1 + speciesHealthMod + stats.getHealthMod());
+        stats.decreaseHunger(1 + speciesHungerMod + stats.getHungerMod());
+        stats.decreaseHappiness(1 + speciesHappinessMod + stats.getHappinessMod());
+
+        int[] petState = stats.getState();
+        if (petState[3] == 1) {
+            if (stats.getHealth() <= 0) {
+                return false;
+            }
+            stats.setEnergyMod(2);
+            stats.setHappinessMod(1);
+            return true;
+        }
+        for (int i = 0; i < petState.length - 1; i++) {
+            if (petState[i] == 1) {
+                switch (i) {
+                    case 0:
+                        stats.setHealthMod(1);
+                        stats.setEnergyMod(1);
+                        stats.setHappinessMod(1);
+                        break;
+                    case 1:
+                        stats.setHealthMod(1);
+                        stats.setEnergyMod(1);
+                        break;
+                    case 2:
+                        stats.setHealthMod(1);
+                        stats.setHungerMod(1);
+                        stats.setHappinessMod(1);
+                        stats.setEnergyMod(-7);
+                        if (stats.getEnergy() >= 100) {
+                            stats.setHealthMod(0);
+                            stats.setHungerMod(0);
+                            stats.setHappinessMod(0);
+                        }
+                        break;
+                }
+            } else {
+                switch (i) {
+                    case 0:
+                        stats.setHealthMod(0);
+                        stats.setEnergyMod(0);
+                        stats.setHappinessMod(0);
+                        break;
+                    case 1:
+                        stats.setHealthMod(0);
+                        stats.setEnergyMod(0);
+                        break;
+                    case 2:
+                        stats.setHealthMod(0);
+                        stats.setHungerMod(0);
+                        stats.setHappinessMod(0);
+                        break;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void assertSameStats(VitalStats expected, SimulationEngine engine, String message) {
+        assertEquals(expected.getHunger(), engine.getHunger(), message + " hunger");
+        assertEquals(expected.getHappiness(), engine.getHappiness(), message + " happiness");
+        assertEquals(expected.getEnergy(), engine.getEnergy(), message + " energy");
+        assertEquals(expected.getHealth(), engine.getHealth(), message + " health");
+        assertEquals(expected.getHungerMod(), engine.getHungerMod(), message + " hungerMod");
+        assertEquals(expected.getHappinessMod(), engine.getHappinessMod(), message + " happinessMod");
+        assertEquals(expected.getEnergyMod(), engine.getEnergyMod(), message + " energyMod");
+        assertEquals(expected.getHealthMod(), engine.getHealthMod(), message + " healthMod");
+        for (int i = 0; i < 4; i++) {
+            assertEquals(expected.getVitalState(i) == 1, engine.isCritical(i), message + " state " + i);
+        }
+    }
+
+    @Test
+    void testTickMatchesReferenceForEverySpecies() {
+        Random random = new Random(42);
+        for (String species : SPECIES) {
+            for (int run = 0; run < 20; run++) {
+                VitalStats reference = new VitalStats();
+                reference.setHunger(random.nextInt(101));
+                reference.setHappiness(random.nextInt(101));
+                reference.setEnergy(random.nextInt(101));
+                reference.setHealth(1 + random.nextInt(100));
+
+                SimulationEngine engine = new SimulationEngine();
+                engine.setSpecies(species);
+                engine.load(reference);
+
+                for (int tick = 0; tick < 300; tick++) {
+                    boolean alive = referenceTick(reference, species);
+                    assertEquals(1, engine.tick(1), species + " tick " + tick);
+                    assertEquals(!alive, engine.isGameOver(), species + " game over at tick " + tick);
+                    assertSameStats(reference, engine, species + " run " + run + " tick " + tick);
+                    if (!alive) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTickStopsAtGameOver() {
+        VitalStats stats = new VitalStats();
+        stats.setHealth(1);
+        SimulationEngine engine = new SimulationEngine();
+        engine.setSpecies("mole");
+        engine.load(stats);
+
+        long simulated = engine.tick(1000);
+
+        assertTrue(engine.isGameOver(), "Pet should die once health reaches 0.");
+        assertEquals(1, simulated, "Simulation should stop on the tick that detects death.");
+        assertEquals(0, engine.tick(10), "No ticks should run after game over.");
+    }
+
+    @Test
+    void testStoreWritesBackIntoVitalStats() {
+        Pet pet = new Pet("Buddy", "Bear", 0);
+        SimulationEngine engine = new SimulationEngine();
+        engine.load(pet);
+        engine.tick(30);
+        engine.store(pet.getStats());
+
+        assertSameStats(pet.getStats(), engine, "stored");
+    }
+
+    @Test
+    void testFastForwardMatchesTickBySecond() {
+        long[] durations = {1, 59, 3600, 86_400, 604_800};
+        Random random = new Random(7);
+        for (String species : SPECIES) {
+            for (int run = 0; run < 10; run++) {
+                VitalStats start = new VitalStats();
+                start.setHunger(random.nextInt(101));
+                start.setHappiness(random.nextInt(101));
+                start.setEnergy(random.nextInt(101));
+                start.setHealth(1 + random.nextInt(100));
+
+                for (long duration : durations) {
+                    SimulationEngine stepped = new SimulationEngine();
+                    stepped.setSpecies(species);
+                    stepped.load(start);
+                    SimulationEngine forwarded = new SimulationEngine();
+                    forwarded.setSpecies(species);
+                    forwarded.load(start);
+
+                    long expectedTicks = stepped.tick(duration);
+                    long actualTicks = forwarded.fastForward(duration);
+
+                    String message = species + " run " + run + " after " + duration + "s";
+                    assertEquals(expectedTicks, actualTicks, message + " ticks");
+                    assertEquals(stepped.isGameOver(), forwarded.isGameOver(), message + " game over");
+                    VitalStats expected = new VitalStats();
+                    stepped.store(expected);
+                    assertSameStats(expected, forwarded, message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFastForwardSurvivingBear() {
+        // A bear's health does not decay on its own, so its stats settle into a cycle
+        VitalStats start = new VitalStats();
+        SimulationEngine stepped = new SimulationEngine();
+        stepped.setSpecies("Bear");
+        stepped.load(start);
+        SimulationEngine forwarded = new SimulationEngine();
+        forwarded.setSpecies("Bear");
+        forwarded.load(start);
+
+        long week = 7L * 24 * 60 * 60;
+        assertEquals(stepped.tick(week), forwarded.fastForward(week));
+        VitalStats expected = new VitalStats();
+        stepped.store(expected);
+        assertSameStats(expected, forwarded, "bear after a week");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsTableTest {
+
+    private static final String[] SPECIES = {"mole", "cat", "Bear"};
+
+    @Test
+    void testNewRowHasDefaultStats() {
+        StatsTable table = new StatsTable(1);
+        int row = table.addRow();
+
+        assertEquals(80, table.get(row, SimulationEngine.HUNGER));
+        assertEquals(70, table.get(row, SimulationEngine.HAPPINESS));
+        assertEquals(100, table.get(row, SimulationEngine.ENERGY));
+        assertEquals(100, table.get(row, SimulationEngine.HEALTH));
+        assertEquals(0, table.getCriticalFlags(row));
+    }
+
+    @Test
+    void testTickMatchesSimulationEngine() {
+        Random random = new Random(5);
+        int rows = 200;
+        StatsTable table = new StatsTable(4);
+        SimulationEngine[] engines = new SimulationEngine[rows];
+        for (int i = 0; i < rows; i++) {
+            int row = table.addRow();
+            String species = SPECIES[i % SPECIES.length];
+            table.setSpecies(row, species);
+            for (int stat = SimulationEngine.HUNGER; stat <= SimulationEngine.HEALTH; stat++) {
+                table.set(row, stat, (stat == SimulationEngine.HEALTH ? 1 : 0) + random.nextInt(101));
+            }
+            VitalStats start = new VitalStats();
+            start.restore(table.get(row, 0), table.get(row, 1), table.get(row, 2), table.get(row, 3),
+                    table.getModifier(row, 0), table.getModifier(row, 1), table.getModifier(row, 2),
+                    table.getModifier(row, 3), table.getCriticalFlags(row));
+            engines[i] = new SimulationEngine();
+            engines[i].setSpecies(species);
+            engines[i].load(start);
+        }
+
+        for (int tick = 0; tick < 500; tick++) {
+            table.tick();
+            for (int i = 0; i < rows; i++) {
+                engines[i].tick(1);
+                String message = "row " + i + " tick " + tick;
+                assertEquals(engines[i].isGameOver(), table.isGameOver(i), message + " game over");
+                assertEquals(engines[i].getHunger(), table.get(i, SimulationEngine.HUNGER), message);
+                assertEquals(engines[i].getHappiness(), table.get(i, SimulationEngine.HAPPINESS), message);
+                assertEquals(engines[i].getEnergy(), table.get(i, SimulationEngine.ENERGY), message);
+                assertEquals(engines[i].getHealth(), table.get(i, SimulationEngine.HEALTH), message);
+                assertEquals(engines[i].getHungerMod(), table.getModifier(i, SimulationEngine.HUNGER), message);
+                assertEquals(engines[i].getHappinessMod(), table.getModifier(i, SimulationEngine.HAPPINESS), message);
+                assertEquals(engines[i].getEnergyMod(), table.getModifier(i, SimulationEngine.ENERGY), message);
+                assertEquals(engines[i].getHealthMod(), table.getModifier(i, SimulationEngine.HEALTH), message);
+                for (int stat = 0; stat < 4; stat++) {
+                    assertEquals(engines[i].isCritical(stat), table.isCritical(i, stat), message + " state " + stat);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSetClampsAndTracksCriticalState() {
+        StatsTable table = new StatsTable(1);
+        int row = table.addRow();
+
+        assertTrue(table.set(row, SimulationEngine.HUNGER, -5));
+        assertEquals(0, table.get(row, SimulationEngine.HUNGER));
+        assertTrue(table.isCritical(row, SimulationEngine.HUNGER));
+        assertFalse(table.set(row, SimulationEngine.HUNGER, 0), "An unchanged value is not a change.");
+    }
+
+    @Test
+    void testRemoveRowMovesLastRow() {
+        StatsTable table = new StatsTable(2);
+        table.addRow();
+        table.addRow();
+        int last = table.addRow();
+        table.set(last, SimulationEngine.ENERGY, 42);
+
+        assertEquals(last, table.removeRow(0));
+        assertEquals(2, table.size());
+        assertEquals(42, table.get(0, SimulationEngine.ENERGY));
+        assertEquals(-1, table.removeRow(1));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void testRejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new StatsTable(0));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VectorDecayKernelTest {
+
+    private DecayKernel vector;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            vector = DecayKernel.vector();
+        } catch (UnsupportedOperationException e) {
+            vector = null;
+        }
+        assumeTrue(vector != null, "The vector API is not available on this JVM");
+    }
+
+    @Test
+    void testDecayMatchesScalarKernel() {
+        Random random = new Random(3);
+        // Not a multiple of any vector length, so the scalar tail is exercised too
+        int count = 1037;
+        for (int run = 0; run < 50; run++) {
+            byte[] value = new byte[count];
+            byte[] modifier = new byte[count];
+            byte[] species = new byte[count];
+            byte[] flags = new byte[count];
+            for (int i = 0; i < count; i++) {
+                value[i] = (byte) random.nextInt(101);
+                modifier[i] = (byte) (random.nextInt(16) - 7);
+                species[i] = (byte) (random.nextInt(4) - 1);
+                flags[i] = (byte) random.nextInt(32);
+            }
+            byte[] scalarValue = value.clone();
+            byte[] scalarFlags = flags.clone();
+            byte[] scalarChanged = new byte[count];
+            byte[] vectorChanged = new byte[count];
+
+            for (int stat = SimulationEngine.HUNGER; stat <= SimulationEngine.HEALTH; stat++) {
+                int threshold = SimulationEngine.CRITICAL_THRESHOLD[stat];
+                DecayKernel.scalar().decay(scalarValue, modifier, species, scalarFlags, scalarChanged, count);
+                DecayKernel.scalar().updateCriticalFlags(scalarValue, scalarChanged, scalarFlags, stat, threshold, count);
+                vector.decay(value, modifier, species, flags, vectorChanged, count);
+                vector.updateCriticalFlags(value, vectorChanged, flags, stat, threshold, count);
+
+                assertArrayEquals(scalarValue, value, "values, run " + run + " stat " + stat);
+                assertArrayEquals(scalarChanged, vectorChanged, "changed rows, run " + run + " stat " + stat);
+                assertArrayEquals(scalarFlags, flags, "flags, run " + run + " stat " + stat);
+            }
+        }
+    }
+
+    @Test
+    void testDeadRowsDoNotDecay() {
+        int count = 64;
+        byte[] value = new byte[count];
+        byte[] flags = new byte[count];
+        byte[] changed = new byte[count];
+        Arrays.fill(value, (byte) 50);
+        Arrays.fill(flags, (byte) StatsTable.GAME_OVER);
+
+        vector.decay(value, new byte[count], new byte[count], flags, changed, count);
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(50, value[i]);
+            assertEquals(0, changed[i]);
+        }
+    }
+
+    @Test
+    void testTableTickMatchesWithEitherKernel() {
+        StatsTable scalarTable = new StatsTable(4, DecayKernel.scalar());
+        StatsTable vectorTable = new StatsTable(4, vector);
+        Random random = new Random(9);
+        for (int i = 0; i < 300; i++) {
+            String species = i % 3 == 0 ? "cat" : i % 3 == 1 ? "Bear" : "mole";
+            for (StatsTable table : new StatsTable[]{scalarTable, vectorTable}) {
+                table.addRow();
+                table.setSpecies(i, species);
+            }
+            for (int stat = SimulationEngine.HUNGER; stat <= SimulationEngine.HEALTH; stat++) {
+                int value = 1 + random.nextInt(100);
+                scalarTable.set(i, stat, value);
+                vectorTable.set(i, stat, value);
+            }
+        }
+
+        for (int tick = 0; tick < 300; tick++) {
+            scalarTable.tick();
+            vectorTable.tick();
+        }
+
+        for (int i = 0; i < 300; i++) {
+            for (int stat = SimulationEngine.HUNGER; stat <= SimulationEngine.HEALTH; stat++) {
+                assertEquals(scalarTable.get(i, stat), vectorTable.get(i, stat), "row " + i + " stat " + stat);
+                assertEquals(scalarTable.getModifier(i, stat), vectorTable.getModifier(i, stat), "row " + i);
+            }
+            assertEquals(scalarTable.getCriticalFlags(i), vectorTable.getCriticalFlags(i), "row " + i);
+            assertEquals(scalarTable.isGameOver(i), vectorTable.isGameOver(i), "row " + i);
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.example.model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+import java.util.function.IntConsumer;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class VitalStatsTest {
@@ -133,5 +136,126 @@ class VitalStatsTest {
         stats.setHunger(40);  // Below 50, affects energy and happiness
         assertEquals(3, stats.getHungerMod(), "Hunger modifier should be calculated correctly.");
     }
-}
 
+    @Test
+    void testUpdateMatchesSequentialChanges() {
+        Random random = new Random(11);
+        for (int run = 0; run < 200; run++) {
+            int[] start = {random.nextInt(101), random.nextInt(101), random.nextInt(101), random.nextInt(101)};
+            int[] deltas = {random.nextInt(61) - 30, random.nextInt(61) - 30, random.nextInt(61) - 30, random.nextInt(61) - 30};
+            VitalStats sequential = new VitalStats();
+            VitalStats batched = new VitalStats();
+            for (VitalStats target : new VitalStats[]{sequential, batched}) {
+                target.setHunger(start[0]);
+                target.setHappiness(start[1]);
+                target.setEnergy(start[2]);
+                target.setHealth(start[3]);
+            }
+
+            // Energy first, as the order of the final modifier recompute depends on the last non-energy change
+            applyDelta(sequential::increaseEnergy, sequential::decreaseEnergy, deltas[2]);
+            applyDelta(sequential::increaseHunger, sequential::decreaseHunger, deltas[0]);
+            applyDelta(sequential::increaseHappiness, sequential::decreaseHappiness, deltas[1]);
+            applyDelta(sequential::increaseHealth, sequential::decreaseHealth, deltas[3]);
+            batched.update(s -> {
+                applyDelta(s::increaseEnergy, s::decreaseEnergy, deltas[2]);
+                applyDelta(s::increaseHunger, s::decreaseHunger, deltas[0]);
+                applyDelta(s::increaseHappiness, s::decreaseHappiness, deltas[1]);
+                applyDelta(s::increaseHealth, s::decreaseHealth, deltas[3]);
+            });
+
+            String message = "run " + run;
+            assertEquals(sequential.getHunger(), batched.getHunger(), message);
+            assertEquals(sequential.getHappiness(), batched.getHappiness(), message);
+            assertEquals(sequential.getEnergy(), batched.getEnergy(), message);
+            assertEquals(sequential.getHealth(), batched.getHealth(), message);
+            assertArrayEquals(sequential.getState(), batched.getState(), message);
+            assertEquals(sequential.getHungerMod(), batched.getHungerMod(), message);
+            assertEquals(sequential.getHappinessMod(), batched.getHappinessMod(), message);
+            assertEquals(sequential.getEnergyMod(), batched.getEnergyMod(), message);
+            assertEquals(sequential.getHealthMod(), batched.getHealthMod(), message);
+        }
+    }
+
+    private static void applyDelta(IntConsumer increase, IntConsumer decrease, int delta) {
+        if (delta >= 0) {
+            increase.accept(delta);
+        } else {
+            decrease.accept(-delta);
+        }
+    }
+
+    @Test
+    void testUpdateClampsOnce() {
+        stats.update(s -> {
+            s.setHunger(150);
+            s.setHappiness(-10);
+            s.setHealth(s.getHealth() - 120);
+        });
+
+        assertEquals(100, stats.getHunger(), "Hunger should clamp to 100.");
+        assertEquals(0, stats.getHappiness(), "Happiness should clamp to 0.");
+        assertEquals(0, stats.getHealth(), "Health should clamp to 0.");
+        assertArrayEquals(new int[]{0, 1, 0, 1}, stats.getState(), "Clamped values should drive the critical states.");
+    }
+
+    @Test
+    void testUpdateNotifiesOnce() {
+        int[] hungerEvents = {0};
+        int[] revisions = {0};
+        stats.hungerProperty().addListener((observable, oldValue, newValue) -> hungerEvents[0]++);
+        stats.revisionProperty().addListener((observable, oldValue, newValue) -> revisions[0]++);
+
+        stats.update(s -> {
+            s.decreaseHunger(10);
+            s.decreaseHunger(10);
+            s.decreaseEnergy(5);
+            s.decreaseHappiness(3);
+        });
+
+        assertEquals(60, stats.getHunger());
+        assertEquals(1, hungerEvents[0], "Observers should only see the final hunger value.");
+        assertEquals(1, revisions[0], "A batched update should change the revision once.");
+    }
+
+    @Test
+    void testUpdateWithoutChangesDoesNotNotify() {
+        int[] revisions = {0};
+        stats.revisionProperty().addListener((observable, oldValue, newValue) -> revisions[0]++);
+
+        stats.update(s -> s.increaseEnergy(10));
+
+        assertEquals(100, stats.getEnergy(), "Energy is already full.");
+        assertEquals(0, revisions[0], "An update that changes nothing should not notify.");
+    }
+
+    @Test
+    void testPropertyWritesGoThroughTheSetters() {
+        stats.hungerProperty().set(150);
+
+        assertEquals(100, stats.getHunger(), "Hunger set through the property should clamp.");
+        assertEquals(100, stats.hungerProperty().get(), "The property should show the clamped value.");
+
+        stats.setHunger(15);
+        assertEquals(15, stats.hungerProperty().get(), "The property should follow the setters.");
+        assertEquals(1, stats.getVitalState(0), "Hunger should be critical.");
+    }
+
+    @Test
+    void testViewFollowsItsTableRow() {
+        StatsTable table = new StatsTable(1);
+        stats.setEnergy(60);
+        int row = table.addRow();
+        stats.attach(table, row);
+
+        table.set(row, SimulationEngine.ENERGY, 30);
+        stats.refresh();
+
+        assertEquals(30, stats.getEnergy(), "Stats should read their table row.");
+        assertEquals(30, stats.energyProperty().get());
+
+        stats.detach();
+        table.set(row, SimulationEngine.ENERGY, 10);
+        assertEquals(30, stats.getEnergy(), "Detached stats should no longer follow the table.");
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionJournalTest {
+
+    private static final String SLOT = "slot0";
+
+    private Path directory;
+    private Path journalFile;
+    private List<String> compactions;
+    private ActionJournal journal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("action-journal");
+        journalFile = directory.resolve(SLOT + ActionJournal.EXTENSION);
+        compactions = new ArrayList<>();
+        journal = new ActionJournal(directory, ActionJournal.COMPACT_THRESHOLD_BYTES, saveName -> {
+            synchronized (compactions) {
+                compactions.add(saveName);
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static GameState stateWithPet() {
+        GameState state = new GameState();
+        state.setPet(new Pet("Mole", "mole", 0));
+        return state;
+    }
+
+    @Test
+    void testReplayRestoresLastRecordedState() throws IOException {
+        Pet pet = new Pet("Mole", "mole", 0);
+        pet.getStats().setHunger(55);
+        journal.append(SLOT, ActionJournal.Action.FEED, pet);
+        pet.getStats().setHunger(42);
+        pet.getStats().setEnergyMod(-7);
+        pet.getInventory().setItem3(7);
+        pet.setScore(1234);
+        pet.addTimeSpent(90);
+        long last = journal.append(SLOT, ActionJournal.Action.BUY, pet);
+        assertTrue(journal.flush(5000));
+
+        GameState state = stateWithPet();
+        assertEquals(last, journal.replay(SLOT, state));
+
+        Pet replayed = state.getPet();
+        assertEquals(42, replayed.getStats().getHunger());
+        assertEquals(-7, replayed.getStats().getEnergyMod());
+        assertEquals(7, replayed.getInventory().getItem3());
+        assertEquals(1234, replayed.getScore());
+        assertEquals(90, replayed.getTotalTimeSpent());
+        assertNotNull(state.getSavedAt(), "Offline catch-up should start from the last record.");
+    }
+
+    @Test
+    void testAppendsAreWrittenAsWholeRecords() throws IOException {
+        Pet pet = new Pet("Mole", "mole", 0);
+        for (int i = 0; i < 100; i++) {
+            journal.append(SLOT, ActionJournal.Action.PLAY, pet);
+        }
+        assertTrue(journal.flush(5000));
+
+        assertEquals(100L * ActionJournal.RECORD_BYTES, Files.size(journalFile));
+        assertEquals(100, journal.replay(SLOT, stateWithPet()));
+    }
+
+    @Test
+    void testTornTailIsIgnoredAndOverwritten() throws IOException {
+        Pet pet = new Pet("Mole", "mole", 0);
+        journal.append(SLOT, ActionJournal.Action.PLAY, pet);
+        journal.append(SLOT, ActionJournal.Action.PLAY, pet);
+        journal.close();
+
+        // Half a record, as left by a crash in the middle of a write
+        byte[] record = ActionJournal.encode(3, ActionJournal.Action.VET, 0, pet);
+        Files.write(journalFile, Arrays.copyOf(record, record.length / 2), StandardOpenOption.APPEND);
+        assertEquals(2, journal.replay(SLOT, stateWithPet()), "A torn record should not be replayed.");
+
+        ActionJournal reopened = new ActionJournal(directory, ActionJournal.COMPACT_THRESHOLD_BYTES,
+                saveName -> CompletableFuture.completedFuture(null));
+        assertEquals(2, reopened.replay(SLOT, stateWithPet()), "Loading the slot should read its last record.");
+        pet.getStats().setHealth(12);
+        assertEquals(3, reopened.append(SLOT, ActionJournal.Action.VET, pet));
+        assertTrue(reopened.flush(5000));
+        reopened.close();
+
+        GameState state = stateWithPet();
+        assertEquals(3, reopened.replay(SLOT, state), "New records should replace the torn tail.");
+        assertEquals(12, state.getPet().getStats().getHealth());
+        assertEquals(3L * ActionJournal.RECORD_BYTES, Files.size(journalFile));
+    }
+
+    @Test
+    void testAppendToSlotNotLoadedReplacesOlderRecords() throws IOException {
+        Pet pet = new Pet("Mole", "mole", 0);
+        journal.append(SLOT, ActionJournal.Action.PLAY, pet);
+        journal.append(SLOT, ActionJournal.Action.PLAY, pet);
+        journal.close();
+
+        ActionJournal reopened = new ActionJournal(directory, ActionJournal.COMPACT_THRESHOLD_BYTES,
+                saveName -> CompletableFuture.completedFuture(null));
+        pet.getStats().setHealth(12);
+        assertEquals(1, reopened.append(SLOT, ActionJournal.Action.CHECKPOINT, pet),
+                "Appending should not read the journal of a slot that was not loaded.");
+        assertTrue(reopened.flush(5000));
+        reopened.close();
+
+        GameState state = stateWithPet();
+        assertEquals(1, reopened.replay(SLOT, state));
+        assertEquals(12, state.getPet().getStats().getHealth());
+        assertEquals(ActionJournal.RECORD_BYTES, Files.size(journalFile), "The older records should be dropped.");
+    }
+
+    @Test
+    void testCorruptRecordStopsReplay() throws IOException {
+        Pet pet = new Pet("Mole", "mole", 0);
+        journal.append(SLOT, ActionJournal.Action.PLAY, pet);
+        journal.append(SLOT, ActionJournal.Action.PLAY, pet);
+        assertTrue(journal.flush(5000));
+
+        byte[] data = Files.readAllBytes(journalFile);
+        data[ActionJournal.RECORD_BYTES + 20] ^= 0x5A;
+        Files.write(journalFile, data);
+
+        assertEquals(1, journal.replay(SLOT, stateWithPet()));
+    }
+
+    @Test
+    void testTruncateDropsRecordsCoveredBySnapshot() throws Exception {
+        Pet pet = new Pet("Mole", "mole", 0);
+        journal.append(SLOT, ActionJournal.Action.FEED, pet);
+        long checkpoint = journal.append(SLOT, ActionJournal.Action.CHECKPOINT, pet);
+        pet.getStats().setHappiness(33);
+        journal.append(SLOT, ActionJournal.Action.PLAY, pet);
+
+        journal.truncate(SLOT, checkpoint).get(5, TimeUnit.SECONDS);
+
+        assertEquals(ActionJournal.RECORD_BYTES, Files.size(journalFile), "Only the newer record should be kept.");
+        GameState state = stateWithPet();
+        assertEquals(checkpoint + 1, journal.replay(SLOT, state));
+        assertEquals(33, state.getPet().getStats().getHappiness());
+
+        journal.truncate(SLOT, checkpoint + 1).get(5, TimeUnit.SECONDS);
+        assertFalse(Files.exists(journalFile), "A fully covered journal should be removed.");
+        assertEquals(checkpoint + 2, journal.append(SLOT, ActionJournal.Action.PLAY, pet),
+                "Sequence numbers should keep increasing.");
+    }
+
+    @Test
+    void testCompactionRequestedPastThreshold() {
+        Pet pet = new Pet("Mole", "mole", 0);
+        long records = ActionJournal.COMPACT_THRESHOLD_BYTES / ActionJournal.RECORD_BYTES;
+        for (int i = 0; i < records; i++) {
+            journal.append(SLOT, ActionJournal.Action.CHECKPOINT, pet);
+        }
+        assertTrue(journal.flush(5000));
+        assertTrue(compactions.isEmpty(), "No compaction should run below the threshold.");
+
+        journal.append(SLOT, ActionJournal.Action.CHECKPOINT, pet);
+        assertTrue(journal.flush(5000));
+        assertEquals(List.of(SLOT), compactions);
+    }
+
+    @Test
+    void testDeleteRemovesJournal() throws Exception {
+        journal.append(SLOT, ActionJournal.Action.PLAY, new Pet("Mole", "mole", 0));
+        journal.delete(SLOT).get(5, TimeUnit.SECONDS);
+
+        assertFalse(Files.exists(journalFile));
+        assertEquals(0, journal.replay(SLOT, stateWithPet()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomicFileWriterTest {
+
+    private Path directory;
+    private Path target;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("atomic-writer");
+        target = directory.resolve("slot0.json");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        AtomicFileWriter.delete(target);
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    void testWriteReplacesContent() throws IOException {
+        AtomicFileWriter.write(target, "first".getBytes());
+        AtomicFileWriter.write(target, "second".getBytes());
+
+        assertEquals("second", Files.readString(target), "Target should hold the latest content.");
+        assertFalse(Files.exists(directory.resolve("slot0.json.tmp")), "Temporary file should be moved into place.");
+    }
+
+    @Test
+    void testWriteKeepsPreviousGeneration() throws IOException {
+        AtomicFileWriter.write(target, "first".getBytes());
+        AtomicFileWriter.write(target, "second".getBytes());
+
+        assertEquals("first", Files.readString(AtomicFileWriter.backupOf(target)), "Backup should hold the previous content.");
+    }
+
+    @Test
+    void testWriteReportsLatency() throws IOException {
+        long nanos = AtomicFileWriter.write(target, "data".getBytes());
+
+        assertTrue(nanos > 0, "Write should report how long it took.");
+    }
+
+    @Test
+    void testRepeatedWritesWithinWindow() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            AtomicFileWriter.write(target, ("save " + i).getBytes());
+        }
+
+        assertEquals("save 19", Files.readString(target), "Coalesced syncs should not affect the written content.");
+    }
+
+    @Test
+    void testDeleteRemovesBackup() throws IOException {
+        AtomicFileWriter.write(target, "first".getBytes());
+        AtomicFileWriter.write(target, "second".getBytes());
+
+        AtomicFileWriter.delete(target);
+
+        assertFalse(Files.exists(target));
+        assertFalse(Files.exists(AtomicFileWriter.backupOf(target)));
+    }
+
+    @Test
+    void testDeleteCancelsPendingSync() throws IOException {
+        AtomicFileWriter.write(target, "first".getBytes());
+        AtomicFileWriter.write(target, "second".getBytes());
+        assertTrue(AtomicFileWriter.isSyncPending(target), "A write within the window should defer its directory sync.");
+
+        AtomicFileWriter.delete(target);
+
+        assertFalse(AtomicFileWriter.isSyncPending(target));
+    }
+}
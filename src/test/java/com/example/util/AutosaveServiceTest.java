@@ -0,0 +1,193 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Household;
+import com.example.model.Pet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutosaveServiceTest {
+
+    private static final String SLOT = "autosave_test";
+    private static final int INTERVAL = 5;
+
+    /**
+     * Records the saves instead of writing them; can be told to fail.
+     */
+    private static class RecordingSaveService extends SaveService {
+        private final List<Integer> savedHunger = new ArrayList<>();
+        private boolean fail;
+
+        RecordingSaveService(Path directory) {
+            super(new FileHandler(directory));
+        }
+
+        @Override
+        public CompletableFuture<Void> save(String saveName, GameState state) {
+            savedHunger.add(state.getPet().getStats().getHunger());
+            return fail
+                    ? CompletableFuture.failedFuture(new IOException("disk full"))
+                    : CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @TempDir
+    Path savesDir;
+
+    private RecordingSaveService saves;
+    private GameClock clock;
+    private long now;
+    private AutosaveService autosave;
+    private GameState state;
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        saves = new RecordingSaveService(savesDir);
+        clock = new GameClock();
+        now = 1_000L;
+        clock.advance(now);
+        autosave = new AutosaveService(saves, clock);
+        autosave.setIntervalSeconds(INTERVAL);
+        state = new GameState();
+        pet = new Pet("Mole", "mole", 0);
+        state.setPet(pet);
+        autosave.start(SLOT, state);
+    }
+
+    private void advanceSeconds(int seconds) {
+        for (int i = 0; i < seconds; i++) {
+            now += GameClock.STEP_NANOS;
+            clock.advance(now);
+        }
+    }
+
+    @Test
+    void testIdlePetIsNotSaved() {
+        advanceSeconds(INTERVAL * 4);
+
+        assertTrue(saves.savedHunger.isEmpty(), "An unchanged state should not be written.");
+    }
+
+    @Test
+    void testChangedStatsAreSavedOncePerInterval() {
+        pet.getStats().setHunger(40);
+        advanceSeconds(INTERVAL - 1);
+        assertTrue(saves.savedHunger.isEmpty(), "Nothing should be written before the interval.");
+
+        advanceSeconds(1);
+        assertEquals(List.of(40), saves.savedHunger);
+        assertNotNull(state.getSavedAt());
+
+        advanceSeconds(INTERVAL * 2);
+        assertEquals(1, saves.savedHunger.size(), "A saved state should not be written again.");
+    }
+
+    @Test
+    void testInventoryMakesStateDirty() {
+        pet.getInventory().decreaseItem2();
+        assertTrue(autosave.saveIfDirty());
+
+        assertFalse(autosave.saveIfDirty());
+        assertEquals(1, saves.savedHunger.size());
+    }
+
+    @Test
+    void testDecayScoreAndPlayTimeAreOnlyFlushed() {
+        Household household = state.getHousehold();
+        int hunger = pet.getStats().getHunger();
+        for (int i = 0; i < 60; i++) {
+            household.tick();
+        }
+        pet.setScore(pet.getScore() + 10);
+        pet.addTimeSpent(1);
+        assertNotEquals(hunger, pet.getStats().getHunger(), "The pet should have decayed.");
+
+        advanceSeconds(INTERVAL * 2);
+        assertFalse(autosave.isDirty());
+        assertTrue(saves.savedHunger.isEmpty(), "An idle pet should not be autosaved.");
+
+        autosave.flush();
+        assertEquals(List.of(pet.getStats().getHunger()), saves.savedHunger);
+        assertTrue(autosave.flush().isDone());
+        assertEquals(1, saves.savedHunger.size(), "A flushed state should not be written again.");
+    }
+
+    @Test
+    void testPausedGameIsNotSaved() {
+        pet.getStats().setHunger(30);
+        clock.pause();
+        advanceSeconds(INTERVAL * 2);
+        assertTrue(saves.savedHunger.isEmpty(), "Autosave should not run while paused.");
+
+        clock.resume();
+        advanceSeconds(INTERVAL);
+        assertEquals(List.of(30), saves.savedHunger);
+    }
+
+    @Test
+    void testFlushSavesOnlyChanges() {
+        assertTrue(autosave.flush().isDone());
+        assertTrue(saves.savedHunger.isEmpty());
+
+        pet.getStats().setHunger(20);
+        autosave.flush();
+        assertEquals(List.of(20), saves.savedHunger);
+    }
+
+    @Test
+    void testManualSaveMarksStateClean() {
+        pet.getStats().setHunger(60);
+        autosave.markSaved();
+
+        assertFalse(autosave.isDirty());
+    }
+
+    @Test
+    void testFailedSaveIsRetried() {
+        saves.fail = true;
+        pet.getStats().setHunger(50);
+        assertTrue(autosave.saveIfDirty());
+
+        saves.fail = false;
+        assertTrue(autosave.isDirty(), "A failed save should leave the state dirty.");
+        assertTrue(autosave.saveIfDirty());
+        assertFalse(autosave.isDirty());
+    }
+
+    @Test
+    void testStopFlushesAndDetaches() {
+        pet.getStats().setHunger(10);
+        autosave.stop();
+        assertEquals(List.of(10), saves.savedHunger, "Stopping should write pending changes.");
+
+        pet.getStats().setHunger(90);
+        assertFalse(autosave.isDirty(), "A stopped service should ignore changes.");
+        advanceSeconds(INTERVAL * 2);
+        assertEquals(1, saves.savedHunger.size());
+    }
+
+    @Test
+    void testRestartAfterClockResetKeepsPendingChanges() {
+        clock.reset();
+        pet.getStats().setHunger(70);
+        autosave.start(SLOT, state);
+
+        advanceSeconds(INTERVAL);
+        assertEquals(List.of(70), saves.savedHunger);
+    }
+
+    @Test
+    void testRejectsInvalidInterval() {
+        assertThrows(IllegalArgumentException.class, () -> autosave.setIntervalSeconds(0));
+    }
+}
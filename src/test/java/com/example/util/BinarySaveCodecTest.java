@@ -0,0 +1,116 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+import com.example.model.VitalStats;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinarySaveCodecTest {
+
+    private static GameState fullState() {
+        GameState state = new GameState();
+        state.setParentControlsEnabled(true);
+        state.setSavedAt(LocalDateTime.of(2024, 11, 3, 18, 45, 12, 123_456_789));
+
+        Pet pet = new Pet("Biscuit", "Bear", 2);
+        VitalStats stats = pet.getStats();
+        stats.restore(15, 60, 0, 42, 1, 1, -7, 1, 0b0101);
+        pet.getInventory().setItem1(12);
+        pet.getInventory().setItem3(0);
+        pet.setDefaultItem12(2);
+        pet.setDefaultItem34(4);
+        pet.setScore(1234);
+        pet.addTimeSpent(3600);
+        pet.setTimeLimit(90);
+        pet.setCurrentPlayTime(75);
+        pet.saveStartTime(LocalTime.of(8, 0));
+        pet.saveEndTime(LocalTime.of(20, 30));
+        state.setPet(pet);
+        return state;
+    }
+
+    @Test
+    void testRoundTripKeepsEveryField() throws IOException {
+        GameState state = fullState();
+
+        GameState decoded = BinarySaveCodec.decode(BinarySaveCodec.encode(state));
+
+        assertTrue(decoded.isParentControlsEnabled());
+        assertEquals(state.getSavedAt(), decoded.getSavedAt());
+        Pet pet = decoded.getPet();
+        assertEquals("Biscuit", pet.getName());
+        assertEquals("Bear", pet.getSpecies());
+        assertEquals(2, pet.getSaveID());
+        assertEquals(15, pet.getStats().getHunger());
+        assertEquals(60, pet.getStats().getHappiness());
+        assertEquals(0, pet.getStats().getEnergy());
+        assertEquals(42, pet.getStats().getHealth());
+        assertEquals(-7, pet.getStats().getEnergyMod(), "Negative modifiers should survive the round trip.");
+        assertEquals(1, pet.getStats().getHealthMod());
+        assertArrayEquals(new int[]{1, 0, 1, 0}, pet.getStats().getState());
+        assertEquals(12, pet.getInventory().getItem1());
+        assertEquals(0, pet.getInventory().getItem3());
+        assertEquals(2, pet.getDefaultItem12());
+        assertEquals(4, pet.getDefaultItem34());
+        assertEquals(1234, pet.getScore());
+        assertEquals(3600, pet.getTotalTimeSpent());
+        assertEquals(90, pet.getTimeLimit());
+        assertEquals(75, pet.getCurrentPlayTime());
+        assertEquals(LocalTime.of(8, 0), pet.getStartTime());
+        assertEquals(LocalTime.of(20, 30), pet.getEndTime());
+    }
+
+    @Test
+    void testRoundTripWithoutOptionalFields() throws IOException {
+        GameState state = new GameState();
+        state.setSavedAt(null);
+
+        GameState decoded = BinarySaveCodec.decode(BinarySaveCodec.encode(state));
+
+        assertNull(decoded.getSavedAt());
+        assertNull(decoded.getPet());
+        assertNull(decoded.getStats());
+    }
+
+    @Test
+    void testBinaryIsSmallerThanJson() throws IOException {
+        GameState state = fullState();
+
+        byte[] binary = BinarySaveCodec.encode(state);
+        byte[] json = SerializationContext.gameStateWriter().writeValueAsBytes(state);
+
+        assertTrue(binary.length < json.length / 2,
+                "Binary save (" + binary.length + " bytes) should be far smaller than JSON (" + json.length + " bytes).");
+    }
+
+    @Test
+    void testIsBinaryDetectsHeader() throws IOException {
+        assertTrue(BinarySaveCodec.isBinary(BinarySaveCodec.encode(new GameState())));
+        assertFalse(BinarySaveCodec.isBinary("{\"pet\":null}".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(BinarySaveCodec.isBinary(new byte[]{'P', 'H'}));
+    }
+
+    @Test
+    void testDecodeRejectsUnknownVersion() throws IOException {
+        byte[] data = BinarySaveCodec.encode(new GameState());
+        data[4] = (byte) (BinarySaveCodec.VERSION + 1);
+
+        assertThrows(IOException.class, () -> BinarySaveCodec.decode(data));
+    }
+
+    @Test
+    void testDecodeRejectsTruncatedData() throws IOException {
+        byte[] data = BinarySaveCodec.encode(fullState());
+
+        assertThrows(EOFException.class, () -> BinarySaveCodec.decode(Arrays.copyOf(data, data.length / 2)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.time.LocalDateTime;
+
+/**
+ * Startup benchmark of the first save load in a fresh JVM.
+ * Run once per mode, each in its own JVM, so both start cold:
+ * <pre>
+ * java -cp target/classes:target/test-classes:&lt;deps&gt; com.example.util.ColdLoadBenchmark legacy
+ * java -cp target/classes:target/test-classes:&lt;deps&gt; com.example.util.ColdLoadBenchmark shared
+ * </pre>
+ * {@code legacy} builds a new {@link ObjectMapper} per load as every {@code new FileHandler()} used to;
+ * {@code shared} warms up {@link SerializationContext} (as {@code App.start} does) and loads through it.
+ * Warm-up time is reported separately because it runs in the background during startup.
+ */
+public class ColdLoadBenchmark {
+
+    private static final int REPEATED_LOADS = 100;
+
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "shared";
+
+        GameState state = new GameState();
+        state.setPet(new Pet("Buddy", "Cat", 1));
+        state.setSavedAt(LocalDateTime.now());
+        byte[] json = new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsBytes(state);
+
+        long warmUpNanos = 0;
+        if (mode.equals("shared")) {
+            warmUpNanos = SerializationContext.warmUp();
+        }
+
+        long start = System.nanoTime();
+        load(mode, json);
+        long firstLoadNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < REPEATED_LOADS; i++) {
+            load(mode, json);
+        }
+        long repeatedNanos = (System.nanoTime() - start) / REPEATED_LOADS;
+
+        System.out.printf("%s: warm-up %.2f ms, first load %.2f ms, later loads %.1f us each%n",
+                mode, warmUpNanos / 1_000_000.0, firstLoadNanos / 1_000_000.0, repeatedNanos / 1_000.0);
+    }
+
+    private static GameState load(String mode, byte[] json) throws Exception {
+        if (mode.equals("legacy")) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            objectMapper.registerModule(new JavaTimeModule());
+            return objectMapper.readValue(json, GameState.class);
+        }
+        return SerializationContext.gameStateReader().readValue(json);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EffectMixerTest {
+
+    private static short sampleAt(byte[] out, int index) {
+        return (short) ((out[2 * index] & 0xFF) | (out[2 * index + 1] << 8));
+    }
+
+    @Test
+    void testSilenceWhenIdle() {
+        EffectMixer mixer = new EffectMixer(4);
+        byte[] out = new byte[16];
+        out[0] = 42;
+
+        assertTrue(mixer.isIdle());
+        assertEquals(16, mixer.render(out, 4));
+        for (int i = 0; i < 8; i++) {
+            assertEquals(0, sampleAt(out, i));
+        }
+    }
+
+    @Test
+    void testOverlappingVoicesAreSummed() {
+        EffectMixer mixer = new EffectMixer(4);
+        mixer.trigger(new short[]{100, 100, 100, 100}, 1f);
+        mixer.trigger(new short[]{50, -50}, 0.5f);
+        byte[] out = new byte[8];
+
+        mixer.render(out, 2);
+
+        assertEquals(125, sampleAt(out, 0));
+        assertEquals(75, sampleAt(out, 1));
+        assertEquals(100, sampleAt(out, 2), "The shorter voice has ended.");
+        assertTrue(mixer.isIdle(), "Both voices ended within this chunk.");
+    }
+
+    @Test
+    void testMixIsClamped() {
+        EffectMixer mixer = new EffectMixer(4);
+        mixer.trigger(new short[]{Short.MAX_VALUE, Short.MIN_VALUE}, 1f);
+        mixer.trigger(new short[]{Short.MAX_VALUE, Short.MIN_VALUE}, 1f);
+        byte[] out = new byte[4];
+
+        mixer.render(out, 1);
+
+        assertEquals(Short.MAX_VALUE, sampleAt(out, 0));
+        assertEquals(Short.MIN_VALUE, sampleAt(out, 1));
+    }
+
+    @Test
+    void testVoicesContinueAcrossChunks() {
+        EffectMixer mixer = new EffectMixer(4);
+        mixer.trigger(new short[]{1, 2, 3, 4, 5, 6}, 1f);
+        byte[] out = new byte[8];
+
+        mixer.render(out, 2);
+        assertEquals(4, sampleAt(out, 3));
+        assertFalse(mixer.isIdle());
+
+        mixer.render(out, 2);
+        assertEquals(5, sampleAt(out, 0));
+        assertEquals(6, sampleAt(out, 1));
+        assertEquals(0, sampleAt(out, 2));
+        assertTrue(mixer.isIdle());
+    }
+
+    @Test
+    void testOldestVoiceIsDroppedWhenFull() {
+        EffectMixer mixer = new EffectMixer(2);
+        mixer.trigger(new short[]{1000, 1000}, 1f);
+        mixer.trigger(new short[]{20, 20}, 1f);
+        mixer.trigger(new short[]{3, 3}, 1f);
+        byte[] out = new byte[4];
+
+        assertEquals(2, mixer.getActiveVoices());
+        mixer.render(out, 1);
+        assertEquals(23, sampleAt(out, 0), "The oldest voice should have been dropped.");
+    }
+
+    @Test
+    void testRejectsInvalidVoiceCount() {
+        assertThrows(IllegalArgumentException.class, () -> new EffectMixer(0));
+    }
+}
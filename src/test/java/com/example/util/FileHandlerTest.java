@@ -1,14 +1,17 @@
 package com.example.util;
 
 import com.example.model.GameState;
+import com.example.model.Pet;
+import com.example.model.SlotSummary;
 import com.example.model.UserPreferences;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,25 +21,18 @@ class FileHandlerTest {
     private static final String TEST_SAVE_NAME = "test_save";
     private static final String TEST_PREFS_NAME = "preferences.json";
 
+    @TempDir
+    Path savesDir;
+
     @BeforeEach
     void setUp() {
-        fileHandler = new FileHandler();
+        fileHandler = new FileHandler(savesDir);
     }
 
     @AfterEach
     void tearDown() throws IOException {
-        // Clean up save files and preferences after each test
-        File[] saveFiles = fileHandler.getSaveFiles();
-        if (saveFiles != null) {
-            for (File file : saveFiles) {
-                file.delete();
-            }
-        }
-
-        File preferencesFile = new File("saves", TEST_PREFS_NAME);
-        if (preferencesFile.exists()) {
-            preferencesFile.delete();
-        }
+        // Stop the catalog watcher and journal writer before the directory is removed
+        fileHandler.close();
     }
 
     @Test
@@ -49,7 +45,7 @@ class FileHandlerTest {
         fileHandler.saveGame(TEST_SAVE_NAME, gameState);
 
         // Verify the file exists
-        File saveFile = new File("saves", TEST_SAVE_NAME + ".json");
+        File saveFile = new File(savesDir.toFile(), TEST_SAVE_NAME + ".json");
         assertTrue(saveFile.exists(), "Save file should exist after saving.");
 
         // Load the game state
@@ -65,7 +61,7 @@ class FileHandlerTest {
         fileHandler.saveGame(TEST_SAVE_NAME, gameState);
 
         // Verify the file exists
-        File saveFile = new File("saves", TEST_SAVE_NAME + ".json");
+        File saveFile = new File(savesDir.toFile(), TEST_SAVE_NAME + ".json");
         assertTrue(saveFile.exists(), "Save file should exist before deletion.");
 
         // Delete the save file
@@ -96,7 +92,7 @@ class FileHandlerTest {
         fileHandler.savePreferences(preferences);
 
         // Verify the preferences file exists
-        File preferencesFile = new File("saves", TEST_PREFS_NAME);
+        File preferencesFile = new File(savesDir.toFile(), TEST_PREFS_NAME);
         assertTrue(preferencesFile.exists(), "Preferences file should exist after saving.");
 
         // Load the preferences
@@ -109,7 +105,7 @@ class FileHandlerTest {
     @Test
     void testLoadPreferencesWhenFileMissing() throws IOException {
         // Ensure the preferences file does not exist
-        File preferencesFile = new File("saves", TEST_PREFS_NAME);
+        File preferencesFile = new File(savesDir.toFile(), TEST_PREFS_NAME);
         if (preferencesFile.exists()) {
             preferencesFile.delete();
         }
@@ -126,7 +122,7 @@ class FileHandlerTest {
     @Test
     void testLoadPreferencesWithCorruptedFile() throws IOException {
         // Create a corrupted preferences file
-        File preferencesFile = new File("saves", TEST_PREFS_NAME);
+        File preferencesFile = new File(savesDir.toFile(), TEST_PREFS_NAME);
         preferencesFile.getParentFile().mkdirs();
         Files.writeString(preferencesFile.toPath(), "corrupted content");
 
@@ -139,4 +135,119 @@ class FileHandlerTest {
         assertFalse(loadedPreferences.isParentControlsEnabled(), "Default preferences should have parental controls disabled.");
         assertFalse(preferencesFile.exists(), "Corrupted preferences file should be deleted.");
     }
+
+    @Test
+    void testSlotIndexTracksSaveAndDelete() throws IOException {
+        GameState gameState = new GameState();
+        Pet pet = new Pet("Buddy", "Cat", 2);
+        pet.setScore(40);
+        gameState.setPet(pet);
+
+        fileHandler.saveGame("slot2", gameState);
+
+        SlotSummary summary = fileHandler.getSlotIndex().get("slot2");
+        assertNotNull(summary, "Saving should add the slot to the index.");
+        assertEquals("Buddy", summary.getName());
+        assertEquals("Cat", summary.getSpecies());
+        assertEquals(40, summary.getScore());
+        assertTrue(summary.isAlive());
+        assertEquals(2, summary.getSaveID());
+        assertEquals(gameState.getSavedAt(), summary.getSavedAt());
+
+        fileHandler.deleteSave("slot2");
+
+        assertFalse(fileHandler.getSlotIndex().containsKey("slot2"), "Deleting should remove the slot from the index.");
+    }
+
+    @Test
+    void testSlotIndexRebuiltWhenMissing() throws IOException, InterruptedException {
+        GameState gameState = new GameState();
+        gameState.setPet(new Pet("Rex", "Bear", 1));
+        fileHandler.saveGame("slot1", gameState);
+        File indexFile = new File(savesDir.toFile(), "slots.index");
+        indexFile.delete();
+
+        SlotSummary summary = fileHandler.getSlotIndex().get("slot1");
+
+        assertNotNull(summary, "Missing index should be rebuilt from the save files.");
+        assertEquals("Rex", summary.getName());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!indexFile.exists() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(indexFile.exists(), "Rebuilt index should be written back.");
+    }
+
+    @Test
+    void testLoadGameRollsBackTruncatedSave() throws IOException {
+        GameState first = new GameState();
+        first.setPet(new Pet("First", "Cat", 0));
+        fileHandler.saveGame(TEST_SAVE_NAME, first);
+        GameState second = new GameState();
+        second.setPet(new Pet("Second", "Cat", 0));
+        fileHandler.saveGame(TEST_SAVE_NAME, second);
+
+        // Simulate a save killed halfway through
+        Files.writeString(savesDir.resolve(TEST_SAVE_NAME + ".json"), "{\"pet\":{\"na");
+
+        GameState loaded = fileHandler.loadGame(TEST_SAVE_NAME);
+        assertEquals("First", loaded.getPet().getName(), "A truncated save should roll back to the previous generation.");
+    }
+
+    @Test
+    void testSaveReportsLatency() throws IOException {
+        fileHandler.saveGame(TEST_SAVE_NAME, new GameState());
+
+        assertTrue(fileHandler.getLastSaveNanos() > 0, "Saving should record its latency.");
+    }
+
+    @Test
+    void testSavesAreJsonByDefault() throws IOException {
+        fileHandler.saveGame(TEST_SAVE_NAME, new GameState());
+
+        byte[] data = Files.readAllBytes(savesDir.resolve(TEST_SAVE_NAME + ".json"));
+        assertFalse(BinarySaveCodec.isBinary(data), "New saves should stay readable by earlier versions.");
+        assertTrue(new String(data, StandardCharsets.UTF_8).startsWith("{"), "New saves should be JSON documents.");
+    }
+
+    @Test
+    void testLoadGameReadsBinarySave() throws IOException {
+        GameState state = new GameState();
+        state.setPet(new Pet("Compact", "Mole", 3));
+        state.getPet().getStats().setHunger(35);
+        fileHandler.setSaveFormat(FileHandler.SaveFormat.BINARY);
+        fileHandler.saveGame(TEST_SAVE_NAME, state);
+
+        assertTrue(BinarySaveCodec.isBinary(Files.readAllBytes(savesDir.resolve(TEST_SAVE_NAME + ".json"))),
+                "Binary format should write a binary save.");
+        GameState loaded = new FileHandler(savesDir).loadGame(TEST_SAVE_NAME);
+        assertEquals("Compact", loaded.getPet().getName(), "Binary saves should load.");
+        assertEquals(35, loaded.getPet().getStats().getHunger());
+    }
+
+    @Test
+    void testMappedStoreAndJsonExportRoundTrip() throws IOException {
+        Path directory = Files.createDirectories(savesDir.resolve("mapped"));
+        Path exported = savesDir.resolve("exported.json");
+        try (MappedSaveStore store = MappedSaveStore.open(directory.resolve("slots.store"))) {
+            FileHandler mapped = new FileHandler(directory, store);
+            GameState state = new GameState();
+            state.setPet(new Pet("Stored", "Bear", 4));
+            state.getPet().getStats().setHappiness(64);
+            mapped.saveGame(TEST_SAVE_NAME, state);
+
+            assertFalse(Files.exists(directory.resolve(TEST_SAVE_NAME + ".json")), "Mapped saves should not create slot files.");
+            assertEquals("Stored", mapped.loadGame(TEST_SAVE_NAME).getPet().getName());
+
+            mapped.exportSave(TEST_SAVE_NAME, exported);
+            assertTrue(Files.readString(exported).startsWith("{"), "Exports should be JSON.");
+            mapped.deleteSave(TEST_SAVE_NAME);
+            mapped.close();
+
+            fileHandler.importSave(exported, TEST_SAVE_NAME);
+            GameState imported = fileHandler.loadGame(TEST_SAVE_NAME);
+            assertEquals("Stored", imported.getPet().getName());
+            assertEquals(64, imported.getPet().getStats().getHappiness());
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package com.example.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameClockTest {
+
+    private static final long STEP = GameClock.STEP_NANOS;
+
+    private GameClock clock;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        // Driven through advance(), so the JavaFX toolkit is not needed
+        clock = new GameClock();
+        now = 1_000L;
+        clock.advance(now);
+    }
+
+    private void advanceBy(long nanos) {
+        now += nanos;
+        clock.advance(now);
+    }
+
+    @Test
+    void testRunsEachSubsystemAtItsPeriod() {
+        AtomicInteger everyTick = new AtomicInteger();
+        AtomicInteger everyThird = new AtomicInteger();
+        clock.register("every", 1, false, everyTick::incrementAndGet);
+        clock.register("third", 3, false, everyThird::incrementAndGet);
+
+        for (int i = 0; i < 6; i++) {
+            advanceBy(STEP);
+        }
+
+        assertEquals(6, everyTick.get());
+        assertEquals(2, everyThird.get());
+        assertEquals(6, clock.getTick());
+    }
+
+    @Test
+    void testLatePulsesDoNotDrift() {
+        AtomicInteger runs = new AtomicInteger();
+        clock.register("drift", 1, false, runs::incrementAndGet);
+
+        // Pulses arriving slightly late still add up to whole ticks
+        for (int i = 0; i < 10; i++) {
+            advanceBy(STEP + STEP / 10);
+        }
+
+        assertEquals(11, runs.get(), "11 seconds elapsed, so 11 ticks should have run.");
+    }
+
+    @Test
+    void testCatchUpIsCapped() {
+        AtomicInteger runs = new AtomicInteger();
+        clock.register("stall", 1, false, runs::incrementAndGet);
+
+        advanceBy(60 * STEP);
+        assertEquals(GameClock.MAX_CATCH_UP_TICKS, runs.get());
+
+        // The dropped backlog is not replayed later
+        advanceBy(STEP / 2);
+        assertEquals(GameClock.MAX_CATCH_UP_TICKS, runs.get());
+    }
+
+    @Test
+    void testPauseSkipsOnlyPausableSubsystems() {
+        AtomicInteger decay = new AtomicInteger();
+        AtomicInteger flip = new AtomicInteger();
+        clock.register("decay", 1, false, decay::incrementAndGet);
+        clock.register("flip", 1, true, flip::incrementAndGet);
+
+        advanceBy(STEP);
+        clock.pause();
+        assertTrue(clock.isPaused());
+        advanceBy(STEP);
+        advanceBy(STEP);
+
+        assertEquals(1, decay.get(), "Paused subsystem should not run.");
+        assertEquals(3, flip.get(), "Subsystem running while paused should keep running.");
+
+        clock.resume();
+        assertFalse(clock.isPaused());
+        advanceBy(STEP);
+        assertEquals(2, decay.get(), "Resumed subsystem should run once per tick, without replaying the pause.");
+    }
+
+    @Test
+    void testCancelFromInsideAction() {
+        List<GameClock.Registration> self = new ArrayList<>();
+        AtomicInteger runs = new AtomicInteger();
+        self.add(clock.register("once", 1, false, () -> {
+            runs.incrementAndGet();
+            self.get(0).cancel();
+        }));
+
+        advanceBy(STEP);
+        advanceBy(STEP);
+
+        assertEquals(1, runs.get());
+        assertTrue(self.get(0).isCancelled());
+    }
+
+    @Test
+    void testFailingSubsystemDoesNotStopOthers() {
+        AtomicInteger runs = new AtomicInteger();
+        clock.register("failing", 1, false, () -> {
+            throw new IllegalStateException("boom");
+        });
+        clock.register("healthy", 1, false, runs::incrementAndGet);
+
+        advanceBy(STEP);
+        advanceBy(STEP);
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void testResetCancelsEverything() {
+        AtomicInteger runs = new AtomicInteger();
+        GameClock.Registration registration = clock.register("reset", 1, false, runs::incrementAndGet);
+        clock.pause();
+
+        clock.reset();
+        advanceBy(STEP);
+
+        assertTrue(registration.isCancelled());
+        assertFalse(clock.isPaused());
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void testRejectsInvalidPeriod() {
+        assertThrows(IllegalArgumentException.class, () -> clock.register("invalid", 0, false, () -> { }));
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+import com.example.model.VitalStats;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonSaveCodecTest {
+
+    private static GameState fullState() {
+        GameState state = new GameState();
+        state.setParentControlsEnabled(true);
+        state.setSavedAt(LocalDateTime.of(2024, 11, 3, 18, 45, 12, 123_456_789));
+
+        Pet pet = new Pet("Biscuit \"the\" Bär", "Bear", 2);
+        pet.getStats().restore(15, 60, 0, 42, 1, 1, -7, 1, 0b0101);
+        pet.getInventory().setItem1(12);
+        pet.getInventory().setItem3(0);
+        pet.setDefaultItem12(2);
+        pet.setDefaultItem34(4);
+        pet.setScore(1234);
+        pet.addTimeSpent(3600);
+        pet.setTimeLimit(90);
+        pet.setCurrentPlayTime(75);
+        pet.saveStartTime(LocalTime.of(8, 0));
+        pet.saveEndTime(LocalTime.of(20, 30, 15));
+        state.setPet(pet);
+
+        VitalStats stats = new VitalStats();
+        stats.setHunger(33);
+        state.setStats(stats);
+        return state;
+    }
+
+    // States covering null fields and every length of the time arrays
+    private static List<GameState> states() {
+        GameState empty = new GameState();
+
+        GameState noDate = new GameState();
+        noDate.setSavedAt(null);
+        noDate.setControlParent(true);
+
+        GameState minutesOnly = new GameState();
+        minutesOnly.setSavedAt(LocalDateTime.of(2025, 1, 2, 3, 4));
+        Pet pet = new Pet(null, "Cat", 0);
+        pet.saveStartTime(LocalTime.of(0, 0, 0, 1));
+        minutesOnly.setPet(pet);
+
+        return List.of(empty, noDate, minutesOnly, fullState());
+    }
+
+    private static byte[] databind(GameState state) throws IOException {
+        return SerializationContext.gameStateWriter().writeValueAsBytes(state);
+    }
+
+    @Test
+    void testEncodeMatchesDatabind() throws IOException {
+        for (GameState state : states()) {
+            byte[] expected = databind(state);
+            assertEquals(new String(expected, StandardCharsets.UTF_8),
+                    new String(JsonSaveCodec.encode(state), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testDecodeMatchesDatabind() throws IOException {
+        for (GameState state : states()) {
+            byte[] json = databind(state);
+
+            GameState streamed = JsonSaveCodec.decode(json);
+            GameState reflected = SerializationContext.gameStateReader().readValue(json);
+
+            assertArrayEquals(databind(reflected), databind(streamed));
+        }
+    }
+
+    @Test
+    void testRoundTripKeepsEveryField() throws IOException {
+        GameState decoded = JsonSaveCodec.decode(JsonSaveCodec.encode(fullState()));
+
+        assertTrue(decoded.isParentControlsEnabled());
+        assertEquals(LocalDateTime.of(2024, 11, 3, 18, 45, 12, 123_456_789), decoded.getSavedAt());
+        Pet pet = decoded.getPet();
+        assertEquals("Biscuit \"the\" Bär", pet.getName());
+        assertEquals("Bear", pet.getSpecies());
+        assertEquals(2, pet.getSaveID());
+        assertEquals(15, pet.getStats().getHunger());
+        assertEquals(42, pet.getStats().getHealth());
+        assertEquals(-7, pet.getStats().getEnergyMod());
+        assertArrayEquals(new int[]{1, 0, 1, 0}, pet.getStats().getState());
+        assertEquals(12, pet.getInventory().getItem1());
+        assertEquals(0, pet.getInventory().getItem3());
+        assertEquals(4, pet.getDefaultItem34());
+        assertEquals(1234, pet.getScore());
+        assertEquals(3600, pet.getTotalTimeSpent());
+        assertEquals(90, pet.getTimeLimit());
+        assertEquals(75, pet.getCurrentPlayTime());
+        assertEquals(LocalTime.of(8, 0), pet.getStartTime());
+        assertEquals(LocalTime.of(20, 30, 15), pet.getEndTime());
+        assertEquals(33, decoded.getStats().getHunger());
+    }
+
+    @Test
+    void testDecodeSkipsUnknownFieldsAndReadsIsoDates() throws IOException {
+        String json = "{\"volume\":{\"music\":[1,2]},\"savedAt\":\"2024-05-06T07:08:09\","
+                + "\"pet\":{\"name\":\"Rex\",\"mood\":\"happy\",\"startTime\":\"08:30\",\"saveID\":3}}";
+
+        GameState state = JsonSaveCodec.decode(json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(LocalDateTime.of(2024, 5, 6, 7, 8, 9), state.getSavedAt());
+        assertEquals("Rex", state.getPet().getName());
+        assertEquals(3, state.getPet().getSaveID());
+        assertEquals(LocalTime.of(8, 30), state.getPet().getStartTime());
+    }
+
+    @Test
+    void testDecodeRejectsMalformedData() throws IOException {
+        byte[] json = JsonSaveCodec.encode(fullState());
+
+        assertThrows(IOException.class, () -> JsonSaveCodec.decode(Arrays.copyOf(json, json.length / 2)));
+        assertThrows(IOException.class, () -> JsonSaveCodec.decode("[]".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IOException.class,
+                () -> JsonSaveCodec.decode("{\"savedAt\":[2024,5]}".getBytes(StandardCharsets.UTF_8)));
+    }
+}
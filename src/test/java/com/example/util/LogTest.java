@@ -0,0 +1,81 @@
+package com.example.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final Log log = Log.getLog(LogTest.class);
+    private Log.Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = Log.getLevel();
+        Log.setAppender(new AsyncLogAppender(new PrintStream(out, true), new PrintStream(err, true)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Log.setLevel(previousLevel);
+        Log.setAppender(new AsyncLogAppender(System.out, System.err));
+    }
+
+    @Test
+    void testDebugDisabledByDefault() {
+        Log.setLevel(Log.Level.INFO);
+        boolean[] built = {false};
+
+        log.debug(() -> {
+            built[0] = true;
+            return "expensive";
+        });
+        Log.flush();
+
+        assertFalse(built[0], "Disabled messages should not be built.");
+        assertEquals("", out.toString(), "Disabled messages should not be written.");
+    }
+
+    @Test
+    void testEnabledMessagesAreWrittenWithLevelAndSource() {
+        Log.setLevel(Log.Level.DEBUG);
+
+        log.debug(() -> "tick " + 42);
+        log.info("saved");
+        Log.flush();
+
+        String written = out.toString();
+        assertTrue(written.contains("DEBUG"), written);
+        assertTrue(written.contains("LogTest - tick 42"), written);
+        assertTrue(written.contains("INFO  [" + Thread.currentThread().getName() + "] LogTest - saved"), written);
+    }
+
+    @Test
+    void testWarningsGoToErrorStream() {
+        log.warn("careful");
+        log.error("broken", new IllegalStateException("cause"));
+        Log.flush();
+
+        assertEquals("", out.toString());
+        assertTrue(err.toString().contains("WARN  "), err.toString());
+        assertTrue(err.toString().contains("IllegalStateException: cause"), "Stack traces should be written.");
+    }
+
+    @Test
+    void testOffDisablesEverything() {
+        Log.setLevel(Log.Level.OFF);
+
+        log.error("hidden");
+        Log.flush();
+
+        assertFalse(log.isEnabled(Log.Level.ERROR));
+        assertEquals("", err.toString());
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedSaveStoreTest {
+
+    private Path directory;
+    private Path file;
+    private MappedSaveStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("mapped-store");
+        file = directory.resolve("slots.store");
+        store = MappedSaveStore.open(file);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void reopen() throws IOException {
+        store.close();
+        store = MappedSaveStore.open(file);
+    }
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        store.write("slot0", bytes("first pet"));
+        store.write("slot1", bytes("second pet"));
+
+        assertArrayEquals(bytes("first pet"), store.read("slot0"));
+        assertArrayEquals(bytes("second pet"), store.read("slot1"));
+        assertEquals(List.of("slot0", "slot1"), List.copyOf(store.list()));
+    }
+
+    @Test
+    void testMissingSave() throws IOException {
+        assertThrows(NoSuchFileException.class, () -> store.read("slot9"));
+        assertNull(store.readPrevious("slot9"));
+    }
+
+    @Test
+    void testOverwriteKeepsPreviousGeneration() throws IOException {
+        store.write("slot0", bytes("one"));
+        assertNull(store.readPrevious("slot0"), "A new save has no previous generation.");
+
+        store.write("slot0", bytes("two"));
+        store.write("slot0", bytes("three, longer than the others"));
+
+        assertArrayEquals(bytes("three, longer than the others"), store.read("slot0"));
+        assertArrayEquals(bytes("two"), store.readPrevious("slot0"));
+    }
+
+    @Test
+    void testSavesSurviveReopen() throws IOException {
+        store.write("slot0", bytes("kept"));
+        store.write("slot0", bytes("kept again"));
+        store.write("slot1", bytes("deleted"));
+        store.delete("slot1");
+
+        reopen();
+
+        assertEquals(List.of("slot0"), List.copyOf(store.list()));
+        assertArrayEquals(bytes("kept again"), store.read("slot0"));
+        assertArrayEquals(bytes("kept"), store.readPrevious("slot0"));
+    }
+
+    @Test
+    void testCorruptCurrentGenerationRollsBack() throws IOException {
+        byte[] marker = bytes("second generation payload");
+        store.write("slot0", bytes("first generation payload"));
+        store.write("slot0", marker);
+        store.close();
+
+        // Damage the newest payload as a torn write would
+        byte[] data = Files.readAllBytes(file);
+        int at = indexOf(data, marker);
+        data[at] ^= 0x7F;
+        Files.write(file, data);
+        store = MappedSaveStore.open(file);
+
+        assertThrows(IOException.class, () -> store.read("slot0"));
+        assertArrayEquals(bytes("first generation payload"), store.readPrevious("slot0"));
+    }
+
+    @Test
+    void testRewritesReuseFreedBlocks() throws IOException {
+        byte[] payload = new byte[3000];
+        for (int round = 0; round < 50; round++) {
+            Arrays.fill(payload, (byte) round);
+            for (int slot = 0; slot < 20; slot++) {
+                store.write("slot" + slot, payload);
+            }
+        }
+
+        assertEquals(1024 * 1024, store.size(), "Rewrites should fit in the blocks they free.");
+        assertArrayEquals(payload, store.read("slot7"));
+    }
+
+    @Test
+    void testManySavesGrowTheStore() throws IOException {
+        int saves = MappedSaveStore.SLOTS_PER_PAGE * 3 + 5;
+        byte[] payload = new byte[2000];
+        for (int i = 0; i < saves; i++) {
+            payload[0] = (byte) i;
+            store.write("pet" + i, payload);
+        }
+        assertTrue(store.size() > 1024 * 1024, "The file should grow past its initial size.");
+
+        reopen();
+
+        assertEquals(saves, store.list().size());
+        for (int i = 0; i < saves; i += 97) {
+            assertEquals((byte) i, store.read("pet" + i)[0]);
+        }
+    }
+
+    @Test
+    void testDeleteFreesSpace() throws IOException {
+        long freeBefore = store.freeBytes();
+        store.write("slot0", new byte[10_000]);
+        store.write("slot0", new byte[10_000]);
+        assertTrue(store.freeBytes() < freeBefore);
+
+        store.delete("slot0");
+
+        assertEquals(freeBefore, store.freeBytes(), "Deleted blocks should merge back into the free list.");
+        assertTrue(store.list().isEmpty());
+    }
+
+    @Test
+    void testRejectsOverlongName() {
+        String name = "x".repeat(MappedSaveStore.MAX_NAME_BYTES + 1);
+        assertThrows(IllegalArgumentException.class, () -> store.write(name, bytes("too long")));
+    }
+
+    @Test
+    void testRejectsOtherFiles() throws IOException {
+        Path other = directory.resolve("other.store");
+        Files.write(other, new byte[MappedSaveStore.FILE_HEADER_BYTES + MappedSaveStore.PAGE_BYTES]);
+        try {
+            assertThrows(IOException.class, () -> MappedSaveStore.open(other));
+        } finally {
+            Files.deleteIfExists(other);
+        }
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        throw new AssertionError("Pattern not found");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MusicPlayerTest {
+
+    @Test
+    void testOpenPcmStreamsTrack() throws IOException {
+        try (AudioInputStream stream = MusicPlayer.openPcm(MusicPlayerTest.class.getResource("/sounds/water.wav"))) {
+            AudioFormat format = stream.getFormat();
+            assertEquals(AudioFormat.Encoding.PCM_SIGNED, format.getEncoding());
+            assertEquals(16, format.getSampleSizeInBits());
+            assertFalse(format.isBigEndian());
+
+            // Read in small chunks: nothing forces the whole track into memory
+            byte[] chunk = new byte[4096];
+            long total = 0;
+            int read;
+            while ((read = stream.read(chunk)) > 0) {
+                total += read;
+            }
+            assertEquals(38912L * format.getFrameSize(), total);
+        }
+    }
+
+    @Test
+    void testApplyVolume() {
+        byte[] samples = {(byte) 0xE8, 0x03, 0x18, (byte) 0xFC}; // 1000, -1000
+
+        MusicPlayer.applyVolume(samples, samples.length, 0.5f);
+
+        assertEquals(500, (short) ((samples[0] & 0xFF) | (samples[1] << 8)));
+        assertEquals(-500, (short) ((samples[2] & 0xFF) | (samples[3] << 8)));
+    }
+
+    @Test
+    void testFullVolumeLeavesSamplesUnchanged() {
+        byte[] samples = {0x10, 0x20, 0x30, 0x40};
+
+        MusicPlayer.applyVolume(samples, samples.length, 1f);
+
+        assertArrayEquals(new byte[]{0x10, 0x20, 0x30, 0x40}, samples);
+    }
+
+    @Test
+    void testMissingTrackIsSilent() {
+        MusicPlayer player = new MusicPlayer(null);
+
+        player.loop();
+
+        assertFalse(player.isPlaying());
+        player.stop();
+        player.close();
+    }
+
+    @Test
+    void testVolume() {
+        MusicPlayer player = new MusicPlayer(null);
+
+        player.setVolume(0.3f);
+        assertEquals(0.3f, player.getVolume());
+        assertThrows(IllegalArgumentException.class, () -> player.setVolume(1.1f));
+    }
+}
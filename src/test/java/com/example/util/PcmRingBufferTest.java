@@ -0,0 +1,96 @@
+package com.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PcmRingBufferTest {
+
+    @Test
+    void testReadsWhatWasWrittenAcrossTheWrap() throws Exception {
+        PcmRingBuffer ring = new PcmRingBuffer(8);
+        byte[] out = new byte[8];
+
+        assertTrue(ring.write(new byte[]{1, 2, 3, 4, 5, 6}, 0, 6));
+        assertEquals(6, ring.read(out, 0, 6));
+        // The next write wraps around the end of the buffer
+        assertTrue(ring.write(new byte[]{7, 8, 9, 10}, 0, 4));
+        assertEquals(4, ring.available());
+
+        int first = ring.read(out, 0, 4);
+        int second = ring.read(out, first, 4 - first);
+        assertEquals(4, first + second);
+        assertArrayEquals(new byte[]{7, 8, 9, 10}, Arrays.copyOf(out, 4));
+    }
+
+    @Test
+    void testWriterWaitsForReader() throws Exception {
+        PcmRingBuffer ring = new PcmRingBuffer(4);
+        byte[] data = new byte[64];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        // 64 bytes through a 4 byte buffer: the writer must block until the reader catches up
+        CompletableFuture<Boolean> writer = CompletableFuture.supplyAsync(() -> {
+            try {
+                boolean written = ring.write(data, 0, data.length);
+                ring.endInput();
+                return written;
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        byte[] chunk = new byte[3];
+        int read;
+        while ((read = ring.read(chunk, 0, chunk.length)) > 0) {
+            received.write(chunk, 0, read);
+        }
+
+        assertTrue(writer.get(5, TimeUnit.SECONDS));
+        assertArrayEquals(data, received.toByteArray());
+    }
+
+    @Test
+    void testEndOfInputDrainsThenEnds() throws Exception {
+        PcmRingBuffer ring = new PcmRingBuffer(8);
+        ring.write(new byte[]{1, 2}, 0, 2);
+        ring.endInput();
+        byte[] out = new byte[8];
+
+        assertEquals(2, ring.read(out, 0, 8));
+        assertEquals(-1, ring.read(out, 0, 8));
+    }
+
+    @Test
+    void testCloseReleasesBlockedWriter() throws Exception {
+        PcmRingBuffer ring = new PcmRingBuffer(2);
+        CompletableFuture<Boolean> writer = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ring.write(new byte[8], 0, 8);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (ring.available() < 2) {
+            Thread.onSpinWait();
+        }
+
+        ring.close();
+
+        assertFalse(writer.get(5, TimeUnit.SECONDS));
+        assertEquals(-1, ring.read(new byte[2], 0, 2));
+    }
+
+    @Test
+    void testRejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new PcmRingBuffer(0));
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+import com.example.model.VitalStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveServiceTest {
+
+    private static final String SLOT = "save_service_test";
+
+    /**
+     * Records every write and can hold the writer thread until released.
+     */
+    private static class RecordingFileHandler extends FileHandler {
+        private final List<String> written = new ArrayList<>();
+        private final CountDownLatch release;
+
+        RecordingFileHandler(Path directory, CountDownLatch release) {
+            super(directory);
+            this.release = release;
+        }
+
+        @Override
+        public void saveGame(String saveName, GameState state) throws IOException {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (written) {
+                written.add(saveName + ":" + state.getPet().getName());
+            }
+            super.saveGame(saveName, state);
+        }
+    }
+
+    @TempDir
+    Path savesDir;
+
+    private FileHandler fileHandler;
+
+    @BeforeEach
+    void setUp() {
+        fileHandler = new FileHandler(savesDir);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fileHandler.close();
+    }
+
+    private static GameState stateWithPet(String name) {
+        GameState state = new GameState();
+        state.setPet(new Pet(name, "Cat", 1));
+        return state;
+    }
+
+    @Test
+    void testSaveWritesSnapshotTakenAtCallTime() throws Exception {
+        SaveService service = new SaveService(fileHandler);
+        GameState state = stateWithPet("Before");
+        state.getPet().getStats().setHunger(40);
+
+        CompletableFuture<Void> future = service.save(SLOT, state);
+        state.getPet().setName("After");
+        state.getPet().getStats().setHunger(90);
+        future.get(5, TimeUnit.SECONDS);
+
+        GameState loaded = fileHandler.loadGame(SLOT);
+        assertEquals("Before", loaded.getPet().getName(), "Later changes should not leak into the queued save.");
+        assertEquals(40, loaded.getPet().getStats().getHunger());
+    }
+
+    @Test
+    void testNewPetIsNotCaughtUpThroughTimeBeforeItsSave() throws Exception {
+        SaveService service = new SaveService(fileHandler);
+        // A state built long before its pet is saved, like one kept while the player waits on the save menu
+        GameState state = stateWithPet("Newborn");
+        state.setSavedAt(LocalDateTime.now().minusMinutes(20));
+        VitalStats created = state.getPet().getStats().copy();
+        LocalDateTime savedAround = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        service.save(SLOT, state).get(5, TimeUnit.SECONDS);
+        // The snapshot covers the journal, so loading reads the time from the snapshot alone
+        assertTrue(fileHandler.getJournal().flush(5000));
+
+        // Playing it right away
+        GameState loaded = fileHandler.loadGame(SLOT);
+        assertFalse(loaded.getSavedAt().isBefore(savedAround), "The save should be stamped when it was made.");
+        assertEquals(0, loaded.catchUp(savedAround), "No time passed for the pet before it was saved.");
+        VitalStats played = loaded.getPet().getStats();
+        assertEquals(created.getHunger(), played.getHunger());
+        assertEquals(created.getHappiness(), played.getHappiness());
+        assertEquals(created.getEnergy(), played.getEnergy());
+        assertEquals(created.getHealth(), played.getHealth());
+    }
+
+    @Test
+    void testQueuedSavesToSameSlotAreCollapsed() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingFileHandler recorder = new RecordingFileHandler(savesDir, release);
+        SaveService service = new SaveService(recorder);
+
+        // The first save occupies the writer thread, the next three queue up behind it
+        CompletableFuture<Void> blocking = service.save(SLOT + "2", stateWithPet("Blocker"));
+        CompletableFuture<Void> first = service.save(SLOT, stateWithPet("One"));
+        CompletableFuture<Void> second = service.save(SLOT, stateWithPet("Two"));
+        CompletableFuture<Void> third = service.save(SLOT, stateWithPet("Three"));
+        release.countDown();
+
+        assertSame(first, second, "Saves to a queued slot should share one future.");
+        assertSame(first, third);
+        CompletableFuture.allOf(blocking, first).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(SLOT + "2:Blocker", SLOT + ":Three"), recorder.written,
+                "Only the latest snapshot of the queued slot should be written.");
+        assertEquals("Three", recorder.loadGame(SLOT).getPet().getName());
+        recorder.close();
+    }
+
+    @Test
+    void testFailedSaveCompletesExceptionally() {
+        SaveService service = new SaveService(fileHandler);
+        GameState state = stateWithPet("Nobody");
+
+        CompletableFuture<Void> future = service.save("missing_dir/" + SLOT, state);
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, error.getCause());
+    }
+
+    @Test
+    void testFlushWaitsForQueuedSaves() {
+        SaveService service = new SaveService(fileHandler);
+        CompletableFuture<Void> future = service.save(SLOT, stateWithPet("Flushed"));
+
+        assertTrue(service.flush(5000));
+        assertTrue(future.isDone(), "Flush should return only after queued saves are written.");
+    }
+
+    @Test
+    void testSaveDropsJournaledActions() throws Exception {
+        SaveService service = new SaveService(fileHandler);
+        GameState state = stateWithPet("Journaled");
+        ActionJournal journal = fileHandler.getJournal();
+        journal.append(SLOT, ActionJournal.Action.FEED, state.getPet());
+
+        service.save(SLOT, state).get(5, TimeUnit.SECONDS);
+
+        assertTrue(journal.flush(5000));
+        assertEquals(0, journal.size(SLOT), "Records covered by the snapshot should be dropped.");
+    }
+
+    @Test
+    void testCompactFoldsJournalIntoSnapshot() throws Exception {
+        SaveService service = new SaveService(fileHandler);
+        GameState state = stateWithPet("Compacted");
+        service.save(SLOT, state).get(5, TimeUnit.SECONDS);
+
+        ActionJournal journal = fileHandler.getJournal();
+        state.getPet().getStats().setHunger(21);
+        state.getPet().setScore(500);
+        journal.append(SLOT, ActionJournal.Action.PLAY, state.getPet());
+        assertTrue(journal.flush(5000));
+        assertEquals(21, fileHandler.loadGame(SLOT).getPet().getStats().getHunger(),
+                "Loading should replay the journal on top of the snapshot.");
+
+        service.compact(SLOT).get(5, TimeUnit.SECONDS);
+        assertTrue(journal.flush(5000));
+
+        assertEquals(0, journal.size(SLOT), "The compacted records should be dropped.");
+        GameState snapshot = fileHandler.loadSnapshot(SLOT);
+        assertEquals(21, snapshot.getPet().getStats().getHunger());
+        assertEquals(500, snapshot.getPet().getScore());
+    }
+}
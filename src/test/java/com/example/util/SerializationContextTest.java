@@ -0,0 +1,55 @@
+package com.example.util;
+
+import com.example.model.GameState;
+import com.example.model.Pet;
+import com.example.model.UserPreferences;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializationContextTest {
+
+    @Test
+    void testWarmUpRunsOnce() {
+        SerializationContext.warmUp();
+
+        assertTrue(SerializationContext.isWarmedUp(), "Context should report being warmed up.");
+        assertEquals(0, SerializationContext.warmUp(), "A second warm-up should do no work.");
+    }
+
+    @Test
+    void testReadersAndWritersAreShared() {
+        assertSame(SerializationContext.gameStateReader(), SerializationContext.gameStateReader());
+        assertSame(SerializationContext.gameStateWriter(), SerializationContext.gameStateWriter());
+        assertSame(SerializationContext.preferencesReader(), SerializationContext.preferencesReader());
+    }
+
+    @Test
+    void testGameStateRoundTrip() throws Exception {
+        GameState state = new GameState();
+        state.setPet(new Pet("Buddy", "Bear", 2));
+        state.getPet().getStats().setHunger(42);
+        LocalDateTime savedAt = LocalDateTime.of(2024, 5, 1, 12, 30);
+        state.setSavedAt(savedAt);
+
+        byte[] json = SerializationContext.gameStateWriter().writeValueAsBytes(state);
+        GameState loaded = SerializationContext.gameStateReader().readValue(json);
+
+        assertEquals("Buddy", loaded.getPet().getName());
+        assertEquals(42, loaded.getPet().getStats().getHunger());
+        assertEquals(savedAt, loaded.getSavedAt(), "LocalDateTime should use the JavaTimeModule.");
+    }
+
+    @Test
+    void testPreferencesRoundTrip() throws Exception {
+        UserPreferences preferences = new UserPreferences();
+        preferences.setVolume(30);
+
+        byte[] json = SerializationContext.preferencesWriter().writeValueAsBytes(preferences);
+        UserPreferences loaded = SerializationContext.preferencesReader().readValue(json);
+
+        assertEquals(30.0, loaded.getVolume());
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.util;
+
+import com.example.model.SlotSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotCatalogTest {
+
+    private Path directory;
+    private DirectorySaveStore store;
+    private SlotCatalog catalog;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("slot-catalog");
+        store = new DirectorySaveStore(directory);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (catalog != null) {
+            catalog.close();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    // Saves in these tests hold only the pet's name, or nothing for a save without a pet
+    private SlotSummary readSummary(String saveName) throws IOException {
+        String name = new String(store.read(saveName), StandardCharsets.UTF_8);
+        if (name.isEmpty()) {
+            return null;
+        }
+        SlotSummary summary = new SlotSummary();
+        summary.setName(name);
+        return summary;
+    }
+
+    private SlotCatalog open() {
+        catalog = new SlotCatalog(directory, store, this::readSummary);
+        catalog.open();
+        return catalog;
+    }
+
+    // Replaces the file in one step, so the watcher never sees it half written
+    private void writeExternally(String saveName, String petName) throws IOException {
+        Path temp = Files.writeString(directory.resolve(saveName + ".json.tmp"), petName);
+        Files.move(temp, directory.resolve(saveName + ".json"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void await(BooleanSupplier condition, String message) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, message);
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testOpenBuildsCatalogAndIndexFromSaveFiles() throws IOException {
+        writeExternally("slot0", "Rex");
+        writeExternally("slot1", "");
+        Files.writeString(directory.resolve("preferences.json"), "{}");
+
+        open();
+
+        assertEquals(List.of("slot0"), List.copyOf(catalog.entries().keySet()), "Saves without a pet and preferences are not listed.");
+        assertEquals("Rex", catalog.get("slot0").getName());
+        assertTrue(Files.exists(directory.resolve(SlotCatalog.INDEX_FILE)));
+    }
+
+    @Test
+    void testReopenTrustsIndexForUnchangedSaves() throws IOException {
+        writeExternally("slot0", "Rex");
+        writeExternally("slot1", "Tom");
+        open().close();
+
+        // Make the index strictly newer than the saves, as after a real session
+        Path index = directory.resolve(SlotCatalog.INDEX_FILE);
+        Files.setLastModifiedTime(index, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        open();
+
+        assertEquals(0, catalog.getReadCount(), "Unchanged saves should not be read again.");
+        assertEquals(2, catalog.entries().size());
+    }
+
+    @Test
+    void testOwnWritesAndDeletesAreNotReadBack() throws IOException, InterruptedException {
+        open();
+
+        catalog.write(store, "slot0", bytes("Rex"), named("Rex"));
+        catalog.write(store, "slot0", bytes("Rex II"), named("Rex II"));
+        catalog.delete(store, "slot0");
+
+        // Events are handled in order, so once this outside change is seen the earlier ones were too
+        writeExternally("marker", "Marker");
+        await(() -> catalog.get("marker") != null, "The outside save should be picked up.");
+
+        assertEquals(1, catalog.getReadCount(), "Only the outside change should be read.");
+        assertNull(catalog.get("slot0"));
+    }
+
+    @Test
+    void testOutsideChangesUpdateTheCatalog() throws IOException, InterruptedException {
+        writeExternally("slot0", "Rex");
+        open();
+
+        writeExternally("slot1", "Copied");
+        await(() -> catalog.get("slot1") != null, "A copied save should be added.");
+
+        writeExternally("slot0", "Renamed");
+        await(() -> "Renamed".equals(catalog.get("slot0").getName()), "An edited save should be read again.");
+
+        Files.delete(directory.resolve("slot1.json"));
+        await(() -> !catalog.entries().containsKey("slot1"), "A deleted save should be dropped.");
+    }
+
+    @Test
+    void testDeletedIndexIsWrittenBack() throws IOException, InterruptedException {
+        writeExternally("slot0", "Rex");
+        open();
+        Path index = directory.resolve(SlotCatalog.INDEX_FILE);
+
+        Files.delete(index);
+
+        await(() -> Files.exists(index), "The index should be written back from the catalog.");
+    }
+
+    @Test
+    void testEntriesAreReadOnly() {
+        open();
+
+        assertThrows(UnsupportedOperationException.class, () -> catalog.entries().put("slot9", new SlotSummary()));
+    }
+
+    private static SlotSummary named(String name) {
+        SlotSummary summary = new SlotSummary();
+        summary.setName(name);
+        return summary;
+    }
+}
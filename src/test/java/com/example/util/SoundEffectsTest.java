@@ -0,0 +1,49 @@
+package com.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundEffectsTest {
+
+    @Test
+    void testDecodeButtonEffect() throws IOException {
+        short[] samples = SoundEffects.decode(SoundEffects.class.getResource("/sounds/water.wav"));
+
+        // water.wav is 38912 stereo frames
+        assertEquals(38912 * 2, samples.length);
+    }
+
+    @Test
+    void testDecodeMissingEffect() {
+        assertThrows(IOException.class, () -> SoundEffects.decode(null));
+    }
+
+    @Test
+    void testPlayUnknownEffectIsIgnored() {
+        SoundEffects effects = new SoundEffects();
+
+        assertFalse(effects.play("unknown"));
+    }
+
+    @Test
+    void testVolume() {
+        SoundEffects effects = new SoundEffects();
+
+        effects.setVolume(0.25f);
+        assertEquals(0.25f, effects.getVolume());
+        assertThrows(IllegalArgumentException.class, () -> effects.setVolume(1.5f));
+        assertThrows(IllegalArgumentException.class, () -> effects.setVolume(-0.1f));
+    }
+
+    @Test
+    void testClosedEffectsAreIgnored() throws IOException {
+        SoundEffects effects = new SoundEffects();
+        effects.close();
+        effects.load(SoundEffects.BUTTON, SoundEffects.class.getResource("/sounds/water.wav"));
+
+        assertFalse(effects.play(SoundEffects.BUTTON));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.util;
+
+import javafx.geometry.Rectangle2D;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteAtlasPackerTest {
+
+    @TempDir
+    Path sourceDir;
+
+    @TempDir
+    Path outputDir;
+
+    private void writeSprite(String name, Color color) throws IOException {
+        BufferedImage image = new BufferedImage(40, 40, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < 40; x++) {
+            for (int y = 0; y < 40; y++) {
+                image.setRGB(x, y, color.getRGB());
+            }
+        }
+        ImageIO.write(image, "png", sourceDir.resolve(name).toFile());
+    }
+
+    private Properties readIndex(String species) throws IOException {
+        Properties index = new Properties();
+        try (Reader in = Files.newBufferedReader(outputDir.resolve(species + ".atlas"))) {
+            index.load(in);
+        }
+        return index;
+    }
+
+    @Test
+    void testFindSpeciesSkipsImagesWithoutStates() throws IOException {
+        writeSprite("cat.png", Color.RED);
+        writeSprite("cat_angry.png", Color.GREEN);
+        writeSprite("item1.png", Color.BLUE);
+        writeSprite("ghost_angry.png", Color.BLUE);
+
+        Map<String, Map<String, Path>> species = SpriteAtlasPacker.findSpecies(sourceDir);
+
+        assertEquals(List.of("cat"), List.copyOf(species.keySet()));
+        assertEquals(List.of("default", "angry"), List.copyOf(species.get("cat").keySet()));
+    }
+
+    @Test
+    void testPacksStatesIntoGrid() throws IOException {
+        writeSprite("bear.png", Color.RED);
+        writeSprite("bear_angry.png", Color.GREEN);
+        writeSprite("bear_dead.png", Color.BLUE);
+
+        assertEquals(1, SpriteAtlasPacker.pack(sourceDir, outputDir, 20));
+
+        // Three sprites fit a 2x2 grid of 20px cells, default first and states in name order
+        BufferedImage atlas = ImageIO.read(outputDir.resolve("bear.png").toFile());
+        assertEquals(40, atlas.getWidth());
+        assertEquals(40, atlas.getHeight());
+        assertEquals(Color.RED.getRGB(), atlas.getRGB(10, 10));
+        assertEquals(Color.GREEN.getRGB(), atlas.getRGB(30, 10));
+        assertEquals(Color.BLUE.getRGB(), atlas.getRGB(10, 30));
+
+        SpriteAtlas index = SpriteAtlas.parse(readIndex("bear"));
+        assertEquals(3, index.size());
+        assertEquals(new Rectangle2D(0, 0, 20, 20), index.region(null));
+        assertEquals(new Rectangle2D(20, 0, 20, 20), index.region("Angry"));
+        assertEquals(new Rectangle2D(0, 20, 20, 20), index.region("dead"));
+        assertNull(index.region("sleepy"));
+    }
+
+    @Test
+    void testUpToDateAtlasIsNotRewritten() throws IOException {
+        writeSprite("mole.png", Color.RED);
+        writeSprite("mole_dead.png", Color.GREEN);
+        assertEquals(1, SpriteAtlasPacker.pack(sourceDir, outputDir, 20));
+
+        assertEquals(0, SpriteAtlasPacker.pack(sourceDir, outputDir, 20), "Unchanged sprites should not be repacked.");
+        assertEquals(1, SpriteAtlasPacker.pack(sourceDir, outputDir, 10), "A new cell size should repack.");
+
+        // A sprite newer than the atlas triggers a repack
+        Files.setLastModifiedTime(sourceDir.resolve("mole_dead.png"),
+                FileTime.fromMillis(Files.getLastModifiedTime(outputDir.resolve("mole.png")).toMillis() + 10_000));
+        assertEquals(1, SpriteAtlasPacker.pack(sourceDir, outputDir, 10));
+    }
+
+    @Test
+    void testParseRejectsMalformedRegion() {
+        Properties index = new Properties();
+        index.setProperty("default", "0,0,20");
+
+        assertThrows(IllegalArgumentException.class, () -> SpriteAtlas.parse(index));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.util;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SpriteCacheTest {
+
+    private List<String> loaded;
+    private SpriteCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // Mocked images, so no JavaFX toolkit or decoding is needed; only the bear is packed
+        loaded = new ArrayList<>();
+        cache = new SpriteCache(SpriteCache.DEFAULT_CAPACITY, path -> {
+            synchronized (loaded) {
+                loaded.add(path);
+            }
+            return path.contains("missing") ? null : mock(Image.class);
+        }, path -> path.endsWith("/bear.atlas") ? bearIndex() : null);
+    }
+
+    private static Properties bearIndex() {
+        Properties index = new Properties();
+        index.setProperty("cellSize", "600");
+        index.setProperty("default", "0,0,600,600");
+        index.setProperty("angry", "600,0,600,600");
+        return index;
+    }
+
+    @Test
+    void testResourcePath() {
+        assertEquals("/images/cat.png", SpriteCache.resourcePath("Cat", null));
+        assertEquals("/images/cat.png", SpriteCache.resourcePath("Cat", "Happy"));
+        assertEquals("/images/cat.png", SpriteCache.resourcePath("Cat", "normal"));
+        assertEquals("/images/bear_hungry.png", SpriteCache.resourcePath("Bear", "Hungry"));
+    }
+
+    @Test
+    void testSpriteIsLoadedOnce() {
+        SpriteCache.Sprite first = cache.get("Cat", "angry");
+        SpriteCache.Sprite second = cache.get("cat", "ANGRY");
+
+        assertSame(first.image(), second.image(), "Repeated lookups should return the cached sprite.");
+        assertNull(first.viewport(), "An unpacked sprite should show the whole image.");
+        assertEquals(List.of("/images/cat_angry.png"), loaded);
+    }
+
+    @Test
+    void testPackedStatesShareOneImage() {
+        SpriteCache.Sprite normal = cache.get("Bear", "happy");
+        SpriteCache.Sprite angry = cache.get("Bear", "angry");
+
+        assertSame(normal.image(), angry.image(), "Packed states should share the atlas image.");
+        assertEquals(new Rectangle2D(0, 0, 600, 600), normal.viewport());
+        assertEquals(new Rectangle2D(600, 0, 600, 600), angry.viewport());
+        assertEquals(List.of("/images/atlas/bear.png"), loaded);
+    }
+
+    @Test
+    void testStateMissingFromAtlasFallsBackToFile() {
+        SpriteCache.Sprite dead = cache.get("Bear", "dead");
+
+        assertNull(dead.viewport());
+        assertEquals(List.of("/images/bear_dead.png"), loaded);
+    }
+
+    @Test
+    void testMissingSpriteIsNotCached() {
+        assertNull(cache.get("missing", "angry"));
+        assertNull(cache.get("missing", "angry"));
+
+        assertEquals(0, cache.size());
+        assertEquals(2, loaded.size(), "A missing sprite should be retried.");
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        List<String> smallLoaded = new ArrayList<>();
+        SpriteCache small = new SpriteCache(2, path -> {
+            smallLoaded.add(path);
+            return mock(Image.class);
+        }, path -> null);
+        Image cat = small.get("Cat", null).image();
+        small.get("Bear", null);
+        small.get("Cat", null); // Cat is now the most recently used
+        small.get("Mole", null);
+
+        assertEquals(2, small.size());
+        assertSame(cat, small.get("Cat", null).image(), "Recently used sprite should stay cached.");
+        small.get("Bear", null);
+        assertEquals(List.of("/images/cat.png", "/images/bear.png", "/images/mole.png", "/images/bear.png"), smallLoaded,
+                "Evicted sprite should be loaded again.");
+    }
+
+    @Test
+    void testPreloadLoadsEveryState() throws Exception {
+        cache.preload("Mole").get(5, TimeUnit.SECONDS);
+
+        assertEquals(SpriteCache.STATES.size() + 1, cache.size());
+        cache.get("Mole", "dead");
+        cache.get("Mole", null);
+        assertEquals(SpriteCache.STATES.size() + 1, loaded.size(), "Preloaded sprites should not be loaded again.");
+    }
+
+    @Test
+    void testPreloadDecodesAtlasOnce() throws Exception {
+        cache.preload("Bear").get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("/images/atlas/bear.png"), loaded);
+    }
+
+    @Test
+    void testRejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SpriteCache(0, path -> null, path -> null));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupPipelineTest {
+
+    @Test
+    void testPhasesRunConcurrently() throws Exception {
+        StartupPipeline pipeline = new StartupPipeline(2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // Each phase waits for the other, which only succeeds if they overlap
+        CompletableFuture<Boolean> first = pipeline.phase("first", () -> {
+            bothStarted.countDown();
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        });
+        CompletableFuture<Boolean> second = pipeline.phase("second", () -> {
+            bothStarted.countDown();
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        });
+
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+        pipeline.finish().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testRecordsPhasesAndMilestones() throws Exception {
+        StartupPipeline pipeline = new StartupPipeline(1);
+        assertEquals("value", pipeline.phase("load", () -> "value").get(5, TimeUnit.SECONDS));
+        pipeline.mark("first-frame");
+        pipeline.mark("first-frame"); // only the first record counts
+        Map<String, Long> firstFrame = pipeline.getMilestoneNanos();
+
+        pipeline.finish().get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("load"), List.copyOf(pipeline.getPhaseNanos().keySet()));
+        Map<String, Long> milestones = pipeline.getMilestoneNanos();
+        assertEquals(List.of("first-frame", StartupPipeline.INTERACTIVE), List.copyOf(milestones.keySet()));
+        assertEquals(firstFrame.get("first-frame"), milestones.get("first-frame"));
+        assertTrue(milestones.get(StartupPipeline.INTERACTIVE) >= milestones.get("first-frame"));
+
+        String report = pipeline.report();
+        assertTrue(report.startsWith("Startup: first-frame "), report);
+        assertTrue(report.contains("| load "), report);
+    }
+
+    @Test
+    void testFailedPhaseDoesNotBlockFinish() throws Exception {
+        StartupPipeline pipeline = new StartupPipeline(1);
+        CompletableFuture<String> failing = pipeline.phase("failing", () -> {
+            throw new IOException("no disk");
+        });
+
+        pipeline.finish().get(5, TimeUnit.SECONDS);
+
+        ExecutionException error = assertThrows(ExecutionException.class, failing::get);
+        assertInstanceOf(IOException.class, error.getCause());
+        assertTrue(pipeline.getPhaseNanos().containsKey("failing"));
+        assertTrue(pipeline.getMilestoneNanos().containsKey(StartupPipeline.INTERACTIVE));
+    }
+}
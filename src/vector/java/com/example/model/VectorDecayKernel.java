@@ -0,0 +1,80 @@
+package com.example.model;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static com.example.model.SimulationEngine.ENERGY;
+
+/**
+ * {@link DecayKernel} on the {@code jdk.incubator.vector} API: one step processes a full SIMD register of
+ * rows, e.g. 32 pets with AVX2. Every value involved fits in a byte (stats 0-100, decay amounts -7 to 11),
+ * so the columns are processed as byte lanes without widening. The tail rows go through the scalar kernel.
+ * <p>
+ * Compiled only by the {@code vector} build profile and loaded by name in {@link DecayKernel#vector()}, so the
+ * rest of the model neither compiles nor links against the module.
+ */
+final class VectorDecayKernel implements DecayKernel {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    // Below 128-bit vectors the JIT has no intrinsics worth using and the API would run in Java code
+    private static final int MIN_LANES = 16;
+
+    VectorDecayKernel() {
+        if (SPECIES.length() < MIN_LANES) {
+            throw new UnsupportedOperationException("Vectors too narrow: " + SPECIES.length() + " byte lanes");
+        }
+    }
+
+    @Override
+    public void decay(byte[] value, byte[] modifier, byte[] species, byte[] flags, byte[] changed, int count) {
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            ByteVector current = ByteVector.fromArray(SPECIES, value, i);
+            // -1 for living rows, 0 for dead ones, which therefore decay by nothing
+            ByteVector live = ByteVector.fromArray(SPECIES, flags, i)
+                    .lanewise(VectorOperators.ASHR, 4)
+                    .and((byte) 1)
+                    .sub((byte) 1);
+            ByteVector amount = ByteVector.fromArray(SPECIES, species, i)
+                    .add(ByteVector.fromArray(SPECIES, modifier, i))
+                    .add((byte) 1)
+                    .and(live);
+            ByteVector raw = current.sub(amount).max((byte) 0);
+            raw.min((byte) 100).intoArray(value, i);
+            ByteVector.zero(SPECIES)
+                    .blend((byte) 1, raw.compare(VectorOperators.NE, current))
+                    .intoArray(changed, i);
+        }
+        ScalarDecayKernel.decay(value, modifier, species, flags, changed, i, count);
+    }
+
+    @Override
+    public void updateCriticalFlags(byte[] value, byte[] changed, byte[] flags, int stat, int threshold, int count) {
+        byte bit = (byte) (1 << stat);
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Byte> dirty = ByteVector.fromArray(SPECIES, changed, i).compare(VectorOperators.NE, (byte) 0);
+            ByteVector v = ByteVector.fromArray(SPECIES, value, i);
+            VectorMask<Byte> enter;
+            VectorMask<Byte> leave;
+            if (stat == ENERGY) {
+                // Energy enters critical at 0 and only leaves it when fully restored
+                enter = dirty.and(v.compare(VectorOperators.EQ, (byte) 0));
+                leave = dirty.and(v.compare(VectorOperators.EQ, (byte) 100));
+            } else {
+                enter = dirty.and(v.compare(VectorOperators.LE, (byte) threshold));
+                leave = dirty.andNot(enter);
+            }
+            ByteVector f = ByteVector.fromArray(SPECIES, flags, i);
+            f.blend(f.or(bit), enter)
+                    .blend(f.and((byte) ~bit), leave)
+                    .intoArray(flags, i);
+        }
+        ScalarDecayKernel.updateCriticalFlags(value, changed, flags, stat, threshold, i, count);
+    }
+}